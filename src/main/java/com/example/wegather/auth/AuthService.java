@@ -4,7 +4,7 @@ package com.example.wegather.auth;
 import com.example.wegather.global.exception.ErrorCode;
 import com.example.wegather.global.exception.customException.AuthenticationException;
 import com.example.wegather.global.mail.EmailMessage;
-import com.example.wegather.global.mail.EmailService;
+import com.example.wegather.global.mail.EmailOutboxService;
 import com.example.wegather.global.vo.MemberType;
 import com.example.wegather.member.domain.entity.Member;
 import com.example.wegather.member.domain.MemberRepository;
@@ -30,13 +30,13 @@ public class AuthService {
   private final AuthenticationManager authenticationManager;
   private final MemberRepository memberRepository;
   private final PasswordEncoder passwordEncoder;
-  private final EmailService emailService;
+  private final EmailOutboxService emailOutboxService;
   @Value("${app.domain}")
   private String domainUrl;
 
   /**
    * 회원가입을 실시합니다.
-   *    - 가입한 이메일로 회원 확인 이메일을 전송합니다.
+   *    - 가입한 이메일로 회원 확인 이메일을 전송합니다. (트랜잭션 커밋 후 발송)
    * @param request
    * @return
    */
@@ -56,7 +56,7 @@ public class AuthService {
     emailMessage.addBindingVariable("verifyMemberUrl", domainUrl + "/check-email-token?token=" + newMember.getEmailCheckToken() +
         "&email=" + newMember.getEmail());
 
-    emailService.sendEmail("account-verification-email-template", emailMessage);
+    emailOutboxService.enqueue("account-verification-email-template", emailMessage);
   }
 
   private Member saveNewMember(SignUpRequest request) {
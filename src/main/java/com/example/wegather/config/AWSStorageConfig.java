@@ -3,11 +3,15 @@ package com.example.wegather.config;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.StringUtils;
 
 @Configuration
 public class AWSStorageConfig {
@@ -19,11 +23,42 @@ public class AWSStorageConfig {
   @Value("${cloud.aws.region.static}")
   private String region;
 
+  /**
+   * S3 호환 스토리지(localstack 등)를 사용할 경우의 endpoint 입니다.
+   * 값이 없으면 AWS S3 를 사용합니다.
+   */
+  @Value("${cloud.aws.s3.endpoint:}")
+  private String endpoint;
+
   @Bean
   public AmazonS3 s3Client() {
     AWSCredentials credentials = new BasicAWSCredentials(accessKey, accessSecret);
-    return AmazonS3ClientBuilder.standard()
-        .withCredentials(new AWSStaticCredentialsProvider(credentials))
-        .withRegion(region).build();
+    AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+        .withCredentials(new AWSStaticCredentialsProvider(credentials));
+    if (StringUtils.hasText(endpoint)) {
+      return builder.withEndpointConfiguration(new EndpointConfiguration(endpoint, region))
+          .withPathStyleAccessEnabled(true)
+          .build();
+    }
+    return builder.withRegion(region).build();
+  }
+
+  /**
+   * multipart upload 의 파트를 병렬로 업로드하는 executor 입니다.
+   * 대기열이 가득 차면 요청 스레드에서 직접 업로드하여 속도를 맞춥니다.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor s3UploadExecutor(
+      @Value("${application.image.multipart.pool-size:4}") int poolSize) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(poolSize);
+    executor.setThreadNamePrefix("s3-upload-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
   }
 }
@@ -0,0 +1,95 @@
+package com.example.wegather.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+  /**
+   * 축소 이미지 생성용 executor 입니다.
+   * 이미지 디코딩은 메모리를 많이 사용하므로 스레드와 대기열의 크기를 제한합니다.
+   * 대기열이 가득 차면 생성을 건너뛰며, 이 경우 원본 이미지가 대신 사용됩니다.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor imageVariantExecutor(
+      @Value("${application.image.variant.pool-size:2}") int poolSize,
+      @Value("${application.image.variant.queue-capacity:100}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("image-variant-");
+    executor.setRejectedExecutionHandler((task, pool) ->
+        log.warn("## 축소 이미지 생성 대기열이 가득 차 생성을 건너뜁니다."));
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 이메일 발송용 executor 입니다.
+   * SMTP 서버에 동시에 연결하는 수를 제한하며, 대기열이 가득 차면 EmailOutboxWorker 가 다음 실행 때 발송합니다.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor emailSendExecutor(
+      @Value("${app.mail.outbox.pool-size:4}") int poolSize,
+      @Value("${app.mail.outbox.queue-capacity:100}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("email-send-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 알림 발송용 executor 입니다.
+   * 소모임 생성 알림처럼 많은 회원에게 보내는 알림을 요청 스레드와 분리하여 처리합니다.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor notificationExecutor(
+      @Value("${app.notification.pool-size:2}") int poolSize,
+      @Value("${app.notification.queue-capacity:100}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("notification-");
+    executor.setRejectedExecutionHandler((task, pool) ->
+        log.warn("## 알림 발송 대기열이 가득 차 알림을 보내지 못했습니다."));
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 소모임 생성 알림 발송 작업용 executor 입니다.
+   * 대기열이 가득 차면 GroupCreatedNotificationFanOut 이 작업을 다시 대기 상태로 돌려 다음 실행 때 처리합니다.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor groupCreatedFanOutExecutor(
+      @Value("${app.notification.fan-out.pool-size:1}") int poolSize,
+      @Value("${app.notification.fan-out.queue-capacity:10}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("group-created-fan-out-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
+}
@@ -0,0 +1,15 @@
+package com.example.wegather.config;
+
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateConfig {
+
+  @Bean
+  public HibernatePropertiesCustomizer mySqlFunctionCustomizer() {
+    return properties -> properties.put(JpaSettings.METADATA_BUILDER_CONTRIBUTOR, new MySqlFunctionContributor());
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.wegather.config;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL(Querydsl) 에서 사용할 MySQL 전용 함수를 등록합니다.
+ */
+public class MySqlFunctionContributor implements MetadataBuilderContributor {
+
+  /**
+   * match_against(name, short_description, full_description, 검색어)
+   * 소모임 FULLTEXT 인덱스(ft_small_group_search)를 boolean mode 로 검색하여 관련도를 반환합니다.
+   */
+  @Override
+  public void contribute(MetadataBuilder metadataBuilder) {
+    metadataBuilder.applySqlFunction("match_against",
+        new SQLFunctionTemplate(StandardBasicTypes.DOUBLE,
+            "match(?1, ?2, ?3) against (?4 in boolean mode)"));
+  }
+}
@@ -28,7 +28,8 @@ public class WebSecurityConfig {
     http.csrf().disable();
     http.authorizeRequests()
           .antMatchers("/api/sign-up", "/api/sign-in", "/api/check-email-token", "/api/current-user", "/api/logout").permitAll()
-          .antMatchers(HttpMethod.GET, "/api/smallGroups", "/api/health").permitAll()
+          .antMatchers(HttpMethod.GET, "/api/smallGroups", "/api/smallGroups/search/cursor",
+              "/api/smallGroups/search/faceted", "/api/health").permitAll()
           .anyRequest().authenticated()
         .and()
             .logout()
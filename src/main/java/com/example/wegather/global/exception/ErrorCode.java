@@ -22,6 +22,10 @@ public enum ErrorCode {
   INVALID_INPUT_ERROR("1009","올바르지 않은 입력입니다."),
   EMAIL_SEND_FAIL("1010", "메일 발송에 실패했습니다."),
   FILE_UPLOAD_HISTORY_NOT_EXISTS("1011", "파일 업로드 내역을 찾을 수 없습니다."),
+  FILE_NOT_UPLOADED("1012", "업로드된 파일을 찾을 수 없습니다."),
+  INVALID_IMAGE_CONTENT_TYPE("1013", "이미지 파일만 업로드할 수 있습니다."),
+  EXCEED_MAX_FILE_SIZE("1014", "최대 파일 크기를 초과하였습니다."),
+  UNSUPPORTED_STORAGE_OPERATION("1015", "현재 스토리지에서 지원하지 않는 기능입니다."),
 
   /**
    * 회원 파트 에러 메세지
@@ -55,7 +59,10 @@ public enum ErrorCode {
   ALREADY_JOINED_MEMBER("4004", "이미 가입한 회원입니다."),
   LEADER_ONLY("4005", "소모임장만 가능합니다."),
   EXCESS_MAX_MEMBER_COUNT("4006", "최대 회원수를 초과하였습니다."),
-  SMALL_GROUP_JOIN_NOT_FOUND("4007", "소모임 가입 요청을 찾을 수 없습니다.");
+  SMALL_GROUP_JOIN_NOT_FOUND("4007", "소모임 가입 요청을 찾을 수 없습니다."),
+  INVALID_SEARCH_CURSOR("4008", "올바르지 않은 검색 커서입니다."),
+  SEARCH_INDEX_NOT_READY("4009", "검색 준비 중입니다. 잠시 후 다시 시도해주세요."),
+  ALREADY_PROCESSED_JOIN_REQUEST("4010", "이미 처리된 가입 요청입니다.");
   
 
   private final String code;
@@ -0,0 +1,24 @@
+package com.example.wegather.global.mail;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대량 발송 결과
+ * 발송에 실패한 이메일은 호출한 쪽에서 다시 발송하거나 기록합니다.
+ * (같은 수신자에게 여러 이메일을 보낼 수 있으므로, 수신자 주소가 아닌 요청한 EmailMessage 로 반환합니다.)
+ */
+@Getter
+@RequiredArgsConstructor
+public class BulkEmailResult {
+  private final int sentCount;
+  private final List<EmailMessage> failedMessages;
+
+  public List<String> getFailedRecipients() {
+    return failedMessages.stream()
+        .map(EmailMessage::getTo)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,10 @@
+package com.example.wegather.global.mail;
+
+import java.util.List;
+
+/**
+ * 같은 템플릿의 이메일을 여러 수신자에게 한 번에 발송합니다.
+ */
+public interface BulkEmailService {
+  BulkEmailResult sendAll(String templateName, List<EmailMessage> emailMessages);
+}
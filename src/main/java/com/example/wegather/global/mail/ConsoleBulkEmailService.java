@@ -0,0 +1,21 @@
+package com.example.wegather.global.mail;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Profile({"local", "test"})
+@Component
+public class ConsoleBulkEmailService implements BulkEmailService {
+
+  @Override
+  public BulkEmailResult sendAll(String templateName, List<EmailMessage> emailMessages) {
+    log.info("templateName: {}", templateName);
+    for (EmailMessage emailMessage : emailMessages) {
+      log.info("mail to: {}, subject: {}", emailMessage.getTo(), emailMessage.getSubject());
+    }
+    return new BulkEmailResult(emailMessages.size(), List.of());
+  }
+}
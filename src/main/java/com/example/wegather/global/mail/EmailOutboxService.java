@@ -0,0 +1,90 @@
+package com.example.wegather.global.mail;
+
+import com.example.wegather.global.mail.entity.EmailOutbox;
+import com.example.wegather.global.mail.repository.EmailOutboxJdbcRepository;
+import com.example.wegather.global.mail.repository.EmailOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 이메일을 발송 대기열(email_outbox)에 저장합니다.
+ * 요청한 트랜잭션과 함께 커밋되므로, 롤백된 요청의 이메일은 발송되지 않습니다.
+ * 발송은 EmailOutboxWorker 가 처리하므로 요청 처리 시간에 SMTP 통신 시간이 포함되지 않습니다.
+ */
+@RequiredArgsConstructor
+@Service
+public class EmailOutboxService {
+  private static final TypeReference<Map<String, String>> BINDING_VARIABLES_TYPE = new TypeReference<>() {};
+
+  private final EmailOutboxRepository emailOutboxRepository;
+  private final EmailOutboxJdbcRepository emailOutboxJdbcRepository;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 이메일을 발송 대기열에 저장합니다.
+   * @param templateName 이메일 템플릿 이름
+   * @param emailMessage 수신자, 제목, 템플릿 변수
+   * @return 저장된 발송 대기열 ID
+   */
+  @Transactional
+  public Long enqueue(String templateName, EmailMessage emailMessage) {
+    return emailOutboxRepository.save(EmailOutbox.builder()
+        .templateName(templateName)
+        .recipient(emailMessage.getTo())
+        .subject(emailMessage.getSubject())
+        .bindingVariables(writeBindingVariables(emailMessage.getBindingVariables()))
+        .nextAttemptAt(LocalDateTime.now())
+        .build()).getId();
+  }
+
+  /**
+   * 같은 템플릿의 이메일 여러 건을 batch insert 로 발송 대기열에 저장합니다.
+   * 알림처럼 많은 회원에게 보내는 이메일에 사용합니다.
+   * @param templateName 이메일 템플릿 이름
+   * @param emailMessages 수신자, 제목, 템플릿 변수
+   */
+  @Transactional
+  public void enqueueAll(String templateName, List<EmailMessage> emailMessages) {
+    LocalDateTime now = LocalDateTime.now();
+    emailOutboxJdbcRepository.saveAll(emailMessages.stream()
+        .map(emailMessage -> EmailOutbox.builder()
+            .templateName(templateName)
+            .recipient(emailMessage.getTo())
+            .subject(emailMessage.getSubject())
+            .bindingVariables(writeBindingVariables(emailMessage.getBindingVariables()))
+            .nextAttemptAt(now)
+            .build())
+        .collect(Collectors.toList()));
+  }
+
+  /**
+   * 발송 대기열의 이메일을 EmailMessage 로 변환합니다.
+   */
+  EmailMessage toEmailMessage(EmailOutbox emailOutbox) {
+    try {
+      return EmailMessage.builder()
+          .to(emailOutbox.getRecipient())
+          .subject(emailOutbox.getSubject())
+          .bindingVariables(objectMapper.readValue(emailOutbox.getBindingVariables(), BINDING_VARIABLES_TYPE))
+          .build();
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("템플릿 변수를 읽을 수 없습니다.", e);
+    }
+  }
+
+  private String writeBindingVariables(Map<String, String> bindingVariables) {
+    try {
+      return objectMapper.writeValueAsString(bindingVariables);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(e.getMessage(), e);
+    }
+  }
+}
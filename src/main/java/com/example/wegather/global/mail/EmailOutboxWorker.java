@@ -0,0 +1,195 @@
+package com.example.wegather.global.mail;
+
+import com.example.wegather.global.mail.entity.EmailOutbox;
+import com.example.wegather.global.mail.entity.EmailOutboxStatus;
+import com.example.wegather.global.mail.repository.EmailOutboxRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발송 대기열(email_outbox)의 이메일을 발송합니다.
+ * 1. 발송 시각이 된 이메일을 조건부 update 로 선점한 뒤, send-batch-size 개씩 emailSendExecutor 에서 발송합니다.
+ *    같은 템플릿의 이메일은 BulkEmailService 로 한 번에 발송하여 SMTP 연결을 이어서 사용합니다.
+ * 2. 실패하면 attempt 마다 대기 시간을 2배로 늘려 다시 발송합니다. (exponential backoff)
+ * 3. 최대 시도 횟수를 넘으면 DEAD 상태로 남겨 더 이상 발송하지 않습니다. (dead letter)
+ * 발송 결과는 선점 시각(claimedAt)이 같을 때만 기록하므로, 선점이 만료되어 다시 선점된 이메일을
+ * 이전 발송 작업이 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Component
+public class EmailOutboxWorker {
+  private static final int MAX_ERROR_LENGTH = 1000;
+  private static final String CLAIM_EXPIRED_ERROR = "claim expired";
+  private static final String SEND_FAILED_ERROR = "failed to send";
+
+  private final EmailOutboxRepository emailOutboxRepository;
+  private final EmailOutboxService emailOutboxService;
+  private final BulkEmailService bulkEmailService;
+  private final ThreadPoolTaskExecutor executor;
+  private final int batchSize;
+  private final int sendBatchSize;
+  private final int maxAttempts;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+  private final Duration claimTimeout;
+
+  public EmailOutboxWorker(EmailOutboxRepository emailOutboxRepository,
+      EmailOutboxService emailOutboxService,
+      BulkEmailService bulkEmailService,
+      @Qualifier("emailSendExecutor") ThreadPoolTaskExecutor executor,
+      @Value("${app.mail.outbox.batch-size:50}") int batchSize,
+      @Value("${app.mail.outbox.send-batch-size:10}") int sendBatchSize,
+      @Value("${app.mail.outbox.max-attempts:5}") int maxAttempts,
+      @Value("${app.mail.outbox.initial-backoff:10s}") Duration initialBackoff,
+      @Value("${app.mail.outbox.max-backoff:1h}") Duration maxBackoff,
+      @Value("${app.mail.outbox.claim-timeout:5m}") Duration claimTimeout) {
+    this.emailOutboxRepository = emailOutboxRepository;
+    this.emailOutboxService = emailOutboxService;
+    this.bulkEmailService = bulkEmailService;
+    this.executor = executor;
+    this.batchSize = batchSize;
+    this.sendBatchSize = sendBatchSize;
+    this.maxAttempts = maxAttempts;
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+    this.claimTimeout = claimTimeout;
+  }
+
+  @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval:1000}")
+  public void dispatch() {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime claimedBefore = now.minus(claimTimeout);
+    int dead = emailOutboxRepository.markExpiredClaimsDead(claimedBefore, maxAttempts, CLAIM_EXPIRED_ERROR);
+    if (dead > 0) {
+      log.error("## 발송 중 상태로 남아있던 이메일이 최대 시도 횟수를 넘어 더 이상 발송하지 않습니다. count: {}", dead);
+    }
+    int released = emailOutboxRepository.releaseExpiredClaims(claimedBefore, CLAIM_EXPIRED_ERROR);
+    if (released > 0) {
+      log.warn("## 발송 중 상태로 남아있던 이메일을 다시 발송합니다. count: {}", released);
+    }
+
+    List<Long> dueIds = emailOutboxRepository.findDueIds(now, PageRequest.of(0, batchSize));
+    // DB 에 저장된 값과 그대로 비교할 수 있도록 초 단위로 자릅니다. (datetime 컬럼은 소수 초를 반올림합니다.)
+    LocalDateTime claimedAt = now.truncatedTo(ChronoUnit.SECONDS);
+    List<Long> claimedIds = new ArrayList<>();
+    for (Long id : dueIds) {
+      if (emailOutboxRepository.claim(id, claimedAt) == 1) {
+        claimedIds.add(id);
+      }
+    }
+
+    // 여러 SMTP 연결로 동시에 발송할 수 있도록 send-batch-size 개씩 나누어 발송합니다.
+    for (int from = 0; from < claimedIds.size(); from += sendBatchSize) {
+      List<Long> ids = claimedIds.subList(from, Math.min(from + sendBatchSize, claimedIds.size()));
+      try {
+        executor.execute(() -> sendAll(ids, claimedAt));
+      } catch (TaskRejectedException e) {
+        // 발송 대기열이 가득 찬 경우 남은 이메일은 다음 실행 때 발송합니다.
+        claimedIds.subList(from, claimedIds.size()).forEach(id -> emailOutboxRepository.release(id, claimedAt));
+        break;
+      }
+    }
+  }
+
+  /**
+   * 선점한 이메일을 템플릿별로 모아 발송합니다.
+   * 선점이 만료되어 다시 대기 상태가 되었거나 다른 곳에서 다시 선점한 이메일은 발송하지 않습니다.
+   * @param ids 선점한 발송 대기열 ID
+   * @param claimedAt 선점 시각
+   */
+  void sendAll(List<Long> ids, LocalDateTime claimedAt) {
+    Map<String, List<EmailOutbox>> emailOutboxesByTemplate = emailOutboxRepository.findAllById(ids).stream()
+        .filter(emailOutbox -> emailOutbox.getStatus() == EmailOutboxStatus.SENDING
+            && claimedAt.equals(emailOutbox.getClaimedAt()))
+        .collect(Collectors.groupingBy(EmailOutbox::getTemplateName, LinkedHashMap::new, Collectors.toList()));
+    emailOutboxesByTemplate.forEach((templateName, emailOutboxes) ->
+        sendAll(templateName, emailOutboxes, claimedAt));
+  }
+
+  private void sendAll(String templateName, List<EmailOutbox> emailOutboxes, LocalDateTime claimedAt) {
+    List<EmailMessage> emailMessages = new ArrayList<>();
+    List<EmailOutbox> sending = new ArrayList<>();
+    for (EmailOutbox emailOutbox : emailOutboxes) {
+      try {
+        emailMessages.add(emailOutboxService.toEmailMessage(emailOutbox));
+        sending.add(emailOutbox);
+      } catch (RuntimeException e) {
+        handleFailure(emailOutbox, claimedAt, errorMessage(e), e);
+      }
+    }
+    if (emailMessages.isEmpty()) {
+      return;
+    }
+
+    BulkEmailResult result;
+    try {
+      result = bulkEmailService.sendAll(templateName, emailMessages);
+    } catch (RuntimeException e) {
+      sending.forEach(emailOutbox -> handleFailure(emailOutbox, claimedAt, errorMessage(e), e));
+      return;
+    }
+
+    Set<EmailMessage> failedMessages = Collections.newSetFromMap(new IdentityHashMap<>());
+    failedMessages.addAll(result.getFailedMessages());
+    LocalDateTime sentAt = LocalDateTime.now();
+    for (int i = 0; i < sending.size(); i++) {
+      EmailOutbox emailOutbox = sending.get(i);
+      if (failedMessages.contains(emailMessages.get(i))) {
+        handleFailure(emailOutbox, claimedAt, SEND_FAILED_ERROR, null);
+      } else if (emailOutboxRepository.markSent(emailOutbox.getId(), claimedAt, sentAt) == 0) {
+        log.warn("## 발송 중 선점이 만료된 이메일입니다. 다시 발송될 수 있습니다. id: {}", emailOutbox.getId());
+      }
+    }
+  }
+
+  /**
+   * @param cause 실패 원인 예외, 없으면 null
+   */
+  private void handleFailure(EmailOutbox emailOutbox, LocalDateTime claimedAt, String error, Exception cause) {
+    int attempt = emailOutbox.getAttemptCount() + 1;
+    if (attempt >= maxAttempts) {
+      log.error("## 이메일 발송 실패, 더 이상 발송하지 않습니다. id: {}, attempt: {}, error: {}",
+          emailOutbox.getId(), attempt, error, cause);
+      emailOutboxRepository.markFailed(emailOutbox.getId(), claimedAt, EmailOutboxStatus.DEAD, null, error);
+      return;
+    }
+    LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempt));
+    log.warn("## 이메일 발송 실패, {} 에 다시 발송합니다. id: {}, attempt: {}, error: {}",
+        nextAttemptAt, emailOutbox.getId(), attempt, error, cause);
+    emailOutboxRepository.markFailed(emailOutbox.getId(), claimedAt, EmailOutboxStatus.PENDING,
+        nextAttemptAt, error);
+  }
+
+  /**
+   * attempt 번째 실패 후의 대기 시간 : initialBackoff * 2^(attempt - 1), 최대 maxBackoff
+   */
+  Duration backoff(int attempt) {
+    Duration backoff = initialBackoff;
+    for (int i = 1; i < attempt && backoff.compareTo(maxBackoff) < 0; i++) {
+      backoff = backoff.multipliedBy(2);
+    }
+    return backoff.compareTo(maxBackoff) < 0 ? backoff : maxBackoff;
+  }
+
+  private String errorMessage(RuntimeException e) {
+    String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+    return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+  }
+}
@@ -1,31 +1,84 @@
 package com.example.wegather.global.mail;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
 import lombok.Getter;
 
-@AllArgsConstructor @Builder
+/**
+ * 변수 위치를 미리 분석해 둔 이메일 템플릿
+ * 템플릿을 ${변수명} 기준으로 고정 문자열과 변수로 나누어 두고,
+ * 변수를 바인딩할 때 한 번의 순회로 필요한 크기의 StringBuilder 에 이어 붙입니다.
+ */
 @Getter
 public class EmailTemplate {
-  private String name;
-  private String template;
+  private static final String VARIABLE_PREFIX = "${";
+  private static final String VARIABLE_SUFFIX = "}";
 
+  private final String name;
+  // literals[0], variables[0], literals[1], variables[1], ..., literals[n] 순서로 이어 붙입니다.
+  private final String[] literals;
+  private final String[] variables;
+  private final int literalLength;
 
-  // TODO: 반복문 돌 때 마다 새로운 String 객체가 생성되므로, 차후 다른 방법을 찾아볼 것
+  private EmailTemplate(String name, List<String> literals, List<String> variables) {
+    this.name = name;
+    this.literals = literals.toArray(new String[0]);
+    this.variables = variables.toArray(new String[0]);
+    this.literalLength = literals.stream().mapToInt(String::length).sum();
+  }
+
+  /**
+   * 템플릿을 고정 문자열과 변수로 나눕니다.
+   * 닫는 괄호가 없는 ${ 는 고정 문자열로 처리합니다.
+   * @param name 템플릿 이름
+   * @param template 템플릿 내용
+   */
+  public static EmailTemplate compile(String name, String template) {
+    List<String> literals = new ArrayList<>();
+    List<String> variables = new ArrayList<>();
+    int position = 0;
+    int start;
+    while ((start = template.indexOf(VARIABLE_PREFIX, position)) != -1) {
+      int end = template.indexOf(VARIABLE_SUFFIX, start + VARIABLE_PREFIX.length());
+      if (end == -1) {
+        break;
+      }
+      literals.add(template.substring(position, start));
+      variables.add(template.substring(start + VARIABLE_PREFIX.length(), end));
+      position = end + VARIABLE_SUFFIX.length();
+    }
+    literals.add(template.substring(position));
+    return new EmailTemplate(name, literals, variables);
+  }
+
+  /**
+   * 템플릿에 변수를 바인딩합니다.
+   * 값이 없는 변수는 ${변수명} 그대로 남겨둡니다.
+   * @param bindingVariables 변수명 -> 값
+   * @return 변수가 바인딩된 내용
+   */
   public String bindVariableToTemplate(Map<String, String> bindingVariables) {
-    for (String key: bindingVariables.keySet()) {
-      String value = bindingVariables.get(key);
-      template = template.replace(String.format("${%s}", key), value);
+    String[] values = new String[variables.length];
+    int length = literalLength;
+    for (int i = 0; i < variables.length; i++) {
+      String value = bindingVariables.get(variables[i]);
+      values[i] = value != null ? value : VARIABLE_PREFIX + variables[i] + VARIABLE_SUFFIX;
+      length += values[i].length();
+    }
+
+    StringBuilder sb = new StringBuilder(length);
+    for (int i = 0; i < variables.length; i++) {
+      sb.append(literals[i]).append(values[i]);
     }
-    return template;
+    return sb.append(literals[variables.length]).toString();
   }
 
   @Override
   public String toString() {
     return "EmailTemplate{" +
         "name='" + name + '\'' +
-        ", template='" + template + '\'' +
+        ", variables=" + String.join(",", variables) +
         '}';
   }
 }
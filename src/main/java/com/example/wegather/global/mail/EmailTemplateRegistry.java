@@ -0,0 +1,53 @@
+package com.example.wegather.global.mail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 이메일 템플릿 저장소
+ * 서버 시작 시 classpath 의 mail/*.html 을 모두 읽어 분석해 두고, 파일명(확장자 제외)으로 찾습니다.
+ * 발송할 때마다 템플릿 파일을 읽지 않습니다.
+ */
+@Slf4j
+@Component
+public class EmailTemplateRegistry {
+  private static final String TEMPLATE_LOCATION = "classpath*:mail/*.html";
+
+  private final Map<String, EmailTemplate> templates;
+
+  public EmailTemplateRegistry(ResourceLoader resourceLoader) throws IOException {
+    Map<String, EmailTemplate> compiledTemplates = new HashMap<>();
+    for (Resource resource : ResourcePatternUtils.getResourcePatternResolver(resourceLoader)
+        .getResources(TEMPLATE_LOCATION)) {
+      String name = StringUtils.stripFilenameExtension(resource.getFilename());
+      try (InputStream inputStream = resource.getInputStream()) {
+        String template = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        compiledTemplates.put(name, EmailTemplate.compile(name, template));
+      }
+    }
+    this.templates = Map.copyOf(compiledTemplates);
+    log.info("## loaded email templates: {}", templates.keySet());
+  }
+
+  /**
+   * @param templateName 템플릿 이름
+   * @throws IllegalArgumentException
+   *    - 템플릿이 없는 경우
+   */
+  public EmailTemplate getTemplate(String templateName) {
+    EmailTemplate emailTemplate = templates.get(templateName);
+    if (emailTemplate == null) {
+      throw new IllegalArgumentException("존재하지 않는 이메일 템플릿입니다. templateName: " + templateName);
+    }
+    return emailTemplate;
+  }
+}
@@ -0,0 +1,161 @@
+package com.example.wegather.global.mail;
+
+import com.sun.mail.util.MailConnectException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+
+/**
+ * SMTP 연결을 재사용하여 이메일을 발송합니다.
+ * 1. 이메일을 batch-size 개씩 나누고, batch 마다 pool 에서 빌린 하나의 연결로 모두 발송합니다.
+ * 2. 메일 서버의 발송 한도를 넘지 않도록 token bucket 으로 초당 발송 수를 제한합니다.
+ *    (pool 의 모든 연결과 호출 스레드가 하나의 bucket 을 공유합니다.)
+ * 3. 발송 중 연결이 끊기면 새 연결로 남은 이메일을 이어서 발송합니다.
+ *    연결 오류가 아닌 실패(수신자 주소 오류 등)는 그 이메일만 실패로 반환하고, 같은 연결로 계속 발송합니다.
+ */
+@Slf4j
+@Profile({"dev"})
+@Service
+public class SmtpBulkEmailService implements BulkEmailService, DisposableBean {
+  private static final int MAX_CONNECTION_ATTEMPTS = 3;
+
+  private final JavaMailSenderImpl javaMailSender;
+  private final EmailTemplateRegistry emailTemplateRegistry;
+  private final SmtpTransportPool transportPool;
+  private final TokenBucket rateLimiter;
+  private final int batchSize;
+
+  public SmtpBulkEmailService(JavaMailSenderImpl javaMailSender,
+      EmailTemplateRegistry emailTemplateRegistry,
+      @Value("${app.mail.smtp.pool-size:4}") int poolSize,
+      @Value("${app.mail.smtp.batch-size:50}") int batchSize,
+      @Value("${app.mail.smtp.rate-per-second:10}") double ratePerSecond,
+      @Value("${app.mail.smtp.burst:10}") int burst) {
+    this.javaMailSender = javaMailSender;
+    this.emailTemplateRegistry = emailTemplateRegistry;
+    this.transportPool = new SmtpTransportPool(javaMailSender, poolSize);
+    this.rateLimiter = new TokenBucket(ratePerSecond, burst);
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public BulkEmailResult sendAll(String templateName, List<EmailMessage> emailMessages) {
+    EmailTemplate emailTemplate = emailTemplateRegistry.getTemplate(templateName);
+    List<EmailMessage> failedMessages = new ArrayList<>();
+    for (int from = 0; from < emailMessages.size(); from += batchSize) {
+      List<EmailMessage> batch = emailMessages.subList(from, Math.min(from + batchSize, emailMessages.size()));
+      sendBatch(emailTemplate, batch, failedMessages);
+    }
+    return new BulkEmailResult(emailMessages.size() - failedMessages.size(), failedMessages);
+  }
+
+  /**
+   * batch 의 이메일을 하나의 연결로 발송합니다.
+   * 연결 오류가 발생한 경우에만 연결을 버리고, 실패한 이메일부터 새 연결로 다시 발송합니다.
+   */
+  private void sendBatch(EmailTemplate emailTemplate, List<EmailMessage> batch, List<EmailMessage> failedMessages) {
+    int next = 0;
+    for (int attempt = 1; next < batch.size() && attempt <= MAX_CONNECTION_ATTEMPTS; attempt++) {
+      Transport transport;
+      try {
+        transport = transportPool.borrow();
+      } catch (MessagingException e) {
+        log.warn("## SMTP 연결 실패, attempt: {}", attempt, e);
+        continue;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+
+      boolean broken = false;
+      try {
+        while (next < batch.size()) {
+          EmailMessage emailMessage = batch.get(next);
+          MimeMessage mimeMessage = createMimeMessage(emailTemplate, emailMessage);
+          if (mimeMessage != null) {
+            rateLimiter.acquire();
+            send(transport, mimeMessage, emailMessage, failedMessages);
+          } else {
+            failedMessages.add(emailMessage);
+          }
+          next++;
+        }
+      } catch (MessagingException e) {
+        broken = true;
+        log.warn("## SMTP 발송 중 연결 오류, 새 연결로 다시 발송합니다. attempt: {}", attempt, e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } finally {
+        transportPool.release(transport, broken);
+      }
+    }
+
+    // 연결 시도 횟수를 넘었거나 중단된 경우 남은 이메일은 실패로 반환합니다.
+    for (int i = next; i < batch.size(); i++) {
+      failedMessages.add(batch.get(i));
+    }
+  }
+
+  /**
+   * @throws MessagingException 연결 오류, 그 외 오류(수신자 오류 등)는 실패 목록에 추가합니다.
+   */
+  private void send(Transport transport, MimeMessage mimeMessage, EmailMessage emailMessage,
+      List<EmailMessage> failedMessages) throws MessagingException {
+    try {
+      transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+      log.debug("sent email to: {}", emailMessage.getTo());
+    } catch (MessagingException e) {
+      if (isConnectionError(transport, e)) {
+        throw e;
+      }
+      log.warn("## 이메일 발송 실패, to: {}", emailMessage.getTo(), e);
+      failedMessages.add(emailMessage);
+    }
+  }
+
+  /**
+   * 서버가 연결을 끊으면 응답이 [EOF] 인 SendFailedException 으로 실패하기도 하므로,
+   * 예외 종류와 함께 연결 상태(SMTP 는 NOOP 으로 확인)를 확인합니다.
+   */
+  private static boolean isConnectionError(Transport transport, MessagingException e) {
+    return e instanceof MailConnectException
+        || e.getNextException() instanceof IOException
+        || !transport.isConnected();
+  }
+
+  /**
+   * @return 수신자 주소 등 이메일 내용이 올바르지 않으면 null
+   */
+  private MimeMessage createMimeMessage(EmailTemplate emailTemplate, EmailMessage emailMessage) {
+    emailMessage.setMessage(emailTemplate.bindVariableToTemplate(emailMessage.getBindingVariables()));
+    MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+    try {
+      MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+      mimeMessageHelper.setTo(emailMessage.getTo());
+      mimeMessageHelper.setSubject(emailMessage.getSubject());
+      mimeMessageHelper.setText(emailMessage.getMessage(), true);
+      // Transport 로 직접 보내므로, JavaMailSender.send 가 해주던 header 갱신을 직접 호출합니다.
+      mimeMessage.saveChanges();
+      return mimeMessage;
+    } catch (MessagingException e) {
+      log.warn("## 이메일 생성 실패, to: {}", emailMessage.getTo(), e);
+      return null;
+    }
+  }
+
+  @Override
+  public void destroy() {
+    transportPool.close();
+  }
+}
@@ -0,0 +1,85 @@
+package com.example.wegather.global.mail;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/**
+ * 인증이 완료된 SMTP 연결(Transport)을 재사용하는 pool 입니다.
+ * 발송할 때마다 연결, TLS handshake, 인증을 반복하지 않도록 연결을 닫지 않고 돌려받습니다.
+ * 동시에 사용하는 연결은 maxConnections 를 넘지 않습니다.
+ */
+@Slf4j
+public class SmtpTransportPool implements AutoCloseable {
+  private final JavaMailSenderImpl mailSender;
+  private final BlockingQueue<Transport> idleTransports;
+  private final Semaphore permits;
+
+  public SmtpTransportPool(JavaMailSenderImpl mailSender, int maxConnections) {
+    this.mailSender = mailSender;
+    this.idleTransports = new LinkedBlockingQueue<>(maxConnections);
+    this.permits = new Semaphore(maxConnections);
+  }
+
+  /**
+   * 연결을 빌립니다. 사용 후 반드시 release 로 반환해야 합니다.
+   * 유휴 연결이 없으면 새로 연결하고, 모든 연결이 사용 중이면 반환될 때까지 대기합니다.
+   */
+  public Transport borrow() throws MessagingException, InterruptedException {
+    permits.acquire();
+    try {
+      Transport transport;
+      while ((transport = idleTransports.poll()) != null) {
+        // 서버가 유휴 연결을 끊은 경우 새로 연결합니다.
+        if (transport.isConnected()) {
+          return transport;
+        }
+        closeQuietly(transport);
+      }
+      return connect();
+    } catch (MessagingException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * @param transport borrow 로 빌린 연결
+   * @param broken 발송 중 연결 오류가 발생했으면 true, 연결을 닫고 재사용하지 않습니다.
+   */
+  public void release(Transport transport, boolean broken) {
+    try {
+      if (broken || !idleTransports.offer(transport)) {
+        closeQuietly(transport);
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  private Transport connect() throws MessagingException {
+    Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+    transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+    return transport;
+  }
+
+  @Override
+  public void close() {
+    Transport transport;
+    while ((transport = idleTransports.poll()) != null) {
+      closeQuietly(transport);
+    }
+  }
+
+  private void closeQuietly(Transport transport) {
+    try {
+      transport.close();
+    } catch (MessagingException e) {
+      log.debug("## SMTP 연결 종료 실패", e);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.example.wegather.global.mail;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 발송 수를 제한하는 token bucket 입니다.
+ * 토큰은 일정한 간격으로 capacity 까지 채워지며, 발송할 때마다 1개씩 사용합니다.
+ * 잠시 발송이 없었다면 capacity 만큼은 대기 없이 연속으로 발송할 수 있습니다. (burst)
+ */
+public class TokenBucket {
+  private final long capacity;
+  private final long nanosPerToken;
+  private long availableTokens;
+  private long lastRefillNanos;
+
+  /**
+   * @param permitsPerSecond 초당 발급할 토큰 수
+   * @param capacity 최대로 쌓아둘 수 있는 토큰 수
+   */
+  public TokenBucket(double permitsPerSecond, long capacity) {
+    if (permitsPerSecond <= 0 || capacity <= 0) {
+      throw new IllegalArgumentException("permitsPerSecond 와 capacity 는 0 보다 커야 합니다.");
+    }
+    this.capacity = capacity;
+    this.nanosPerToken = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+    this.availableTokens = capacity;
+    this.lastRefillNanos = System.nanoTime();
+  }
+
+  /**
+   * 토큰을 1개 얻을 때까지 대기합니다.
+   */
+  public void acquire() throws InterruptedException {
+    while (true) {
+      long waitNanos;
+      synchronized (this) {
+        refill();
+        if (availableTokens > 0) {
+          availableTokens--;
+          return;
+        }
+        waitNanos = nanosPerToken - (System.nanoTime() - lastRefillNanos);
+      }
+      TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, 1));
+    }
+  }
+
+  private void refill() {
+    long now = System.nanoTime();
+    long tokens = (now - lastRefillNanos) / nanosPerToken;
+    if (tokens <= 0) {
+      return;
+    }
+    availableTokens = Math.min(capacity, availableTokens + tokens);
+    // 가득 찬 경우 남은 시간은 버리고, 아니면 다음 토큰까지의 시간을 유지합니다.
+    lastRefillNanos = availableTokens == capacity ? now : lastRefillNanos + tokens * nanosPerToken;
+  }
+}
@@ -0,0 +1,56 @@
+package com.example.wegather.global.mail.entity;
+
+import com.example.wegather.global.BaseTimeEntity;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발송할 이메일
+ * 이메일을 요청한 트랜잭션에서 함께 저장되며, EmailOutboxWorker 가 커밋된 이메일만 발송합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_email_outbox_status_next_attempt_at", columnList = "status, next_attempt_at"))
+@Entity
+public class EmailOutbox extends BaseTimeEntity {
+  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+  private String templateName;
+  private String recipient;
+  private String subject;
+  // 템플릿 변수 (JSON)
+  @Column(columnDefinition = "text")
+  private String bindingVariables;
+  @Enumerated(EnumType.STRING)
+  @Column(length = 20)
+  private EmailOutboxStatus status;
+  private int attemptCount;
+  private LocalDateTime nextAttemptAt;
+  private LocalDateTime claimedAt;
+  private LocalDateTime sentAt;
+  @Column(length = 1000)
+  private String lastError;
+
+  @Builder
+  public EmailOutbox(String templateName, String recipient, String subject, String bindingVariables,
+      LocalDateTime nextAttemptAt) {
+    this.templateName = templateName;
+    this.recipient = recipient;
+    this.subject = subject;
+    this.bindingVariables = bindingVariables;
+    this.nextAttemptAt = nextAttemptAt;
+    this.status = EmailOutboxStatus.PENDING;
+  }
+}
@@ -0,0 +1,5 @@
+package com.example.wegather.global.mail.entity;
+
+public enum EmailOutboxStatus {
+  PENDING, SENDING, SENT, DEAD
+}
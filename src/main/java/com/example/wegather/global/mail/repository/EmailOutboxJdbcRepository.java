@@ -0,0 +1,41 @@
+package com.example.wegather.global.mail.repository;
+
+import com.example.wegather.global.mail.entity.EmailOutbox;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 발송 대기열에 많은 이메일을 한 번에 저장할 때 사용하는 JDBC batch insert 입니다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class EmailOutboxJdbcRepository {
+  private static final int BATCH_SIZE = 500;
+  private static final String INSERT_SQL = "insert into email_outbox "
+      + "(template_name, recipient, subject, binding_variables, status, attempt_count, next_attempt_at, "
+      + "created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void saveAll(List<EmailOutbox> emailOutboxes) {
+    if (emailOutboxes.isEmpty()) {
+      return;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate(INSERT_SQL, emailOutboxes, BATCH_SIZE, (ps, emailOutbox) -> {
+      ps.setString(1, emailOutbox.getTemplateName());
+      ps.setString(2, emailOutbox.getRecipient());
+      ps.setString(3, emailOutbox.getSubject());
+      ps.setString(4, emailOutbox.getBindingVariables());
+      ps.setString(5, emailOutbox.getStatus().name());
+      ps.setInt(6, emailOutbox.getAttemptCount());
+      ps.setTimestamp(7, Timestamp.valueOf(emailOutbox.getNextAttemptAt()));
+      ps.setTimestamp(8, now);
+      ps.setTimestamp(9, now);
+    });
+  }
+}
@@ -0,0 +1,108 @@
+package com.example.wegather.global.mail.repository;
+
+import com.example.wegather.global.mail.entity.EmailOutbox;
+import com.example.wegather.global.mail.entity.EmailOutboxStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+  /**
+   * 발송 시각이 된 대기 중인 이메일의 ID 를 오래된 순서로 조회합니다.
+   */
+  @Query("select o.id from EmailOutbox o "
+      + "where o.status = com.example.wegather.global.mail.entity.EmailOutboxStatus.PENDING "
+      + "and o.nextAttemptAt <= :now order by o.id")
+  List<Long> findDueIds(LocalDateTime now, Pageable pageable);
+
+  /**
+   * 대기 중인 이메일을 발송 중 상태로 변경하여 선점합니다.
+   * 여러 서버에서 동시에 조회하더라도 한 서버만 선점에 성공합니다.
+   * @return 선점했으면 1, 이미 다른 곳에서 선점했으면 0
+   */
+  @Transactional
+  @Modifying
+  @Query("update EmailOutbox o "
+      + "set o.status = com.example.wegather.global.mail.entity.EmailOutboxStatus.SENDING, o.claimedAt = :now "
+      + "where o.id = :id and o.status = com.example.wegather.global.mail.entity.EmailOutboxStatus.PENDING")
+  int claim(Long id, LocalDateTime now);
+
+  /**
+   * 발송 중 상태로 오래 남아있는 이메일(발송 중 서버 종료 등) 중, 이번 시도로 최대 시도 횟수에 도달하는 이메일을
+   * 시도 횟수를 증가시키고 DEAD 상태로 변경합니다.
+   * releaseExpiredClaims 보다 먼저 호출합니다.
+   * @return 변경된 row 수
+   */
+  @Transactional
+  @Modifying
+  @Query("update EmailOutbox o "
+      + "set o.status = com.example.wegather.global.mail.entity.EmailOutboxStatus.DEAD, "
+      + "o.attemptCount = o.attemptCount + 1, o.lastError = :lastError "
+      + "where o.status = com.example.wegather.global.mail.entity.EmailOutboxStatus.SENDING "
+      + "and o.claimedAt < :claimedBefore and o.attemptCount + 1 >= :maxAttempts")
+  int markExpiredClaimsDead(LocalDateTime claimedBefore, int maxAttempts, String lastError);
+
+  /**
+   * 발송 중 상태로 오래 남아있는 이메일(발송 중 서버 종료 등)의 시도 횟수를 증가시키고 다시 대기 상태로 변경합니다.
+   * 발송 중 서버가 종료되는 이메일도 시도 횟수에 포함되어, 계속 다시 발송되지 않습니다.
+   * @return 변경된 row 수
+   */
+  @Transactional
+  @Modifying
+  @Query("update EmailOutbox o "
+      + "set o.status = com.example.wegather.global.mail.entity.EmailOutboxStatus.PENDING, "
+      + "o.attemptCount = o.attemptCount + 1, o.lastError = :lastError "
+      + "where o.status = com.example.wegather.global.mail.entity.EmailOutboxStatus.SENDING "
+      + "and o.claimedAt < :claimedBefore")
+  int releaseExpiredClaims(LocalDateTime claimedBefore, String lastError);
+
+  /**
+   * 선점한 이메일을 다시 대기 상태로 변경합니다. (발송 대기열이 가득 찬 경우)
+   * @param claimedAt 선점 시각
+   */
+  @Transactional
+  @Modifying
+  @Query("update EmailOutbox o "
+      + "set o.status = com.example.wegather.global.mail.entity.EmailOutboxStatus.PENDING "
+      + "where o.id = :id and o.claimedAt = :claimedAt "
+      + "and o.status = com.example.wegather.global.mail.entity.EmailOutboxStatus.SENDING")
+  int release(Long id, LocalDateTime claimedAt);
+
+  /**
+   * 발송 완료를 기록합니다.
+   * 선점 시각이 다르면(선점이 만료되어 다시 선점된 경우) 변경하지 않습니다.
+   * @param claimedAt 선점 시각
+   * @return 기록했으면 1, 아니면 0
+   */
+  @Transactional
+  @Modifying
+  @Query("update EmailOutbox o "
+      + "set o.status = com.example.wegather.global.mail.entity.EmailOutboxStatus.SENT, "
+      + "o.sentAt = :now, o.attemptCount = o.attemptCount + 1 "
+      + "where o.id = :id and o.claimedAt = :claimedAt "
+      + "and o.status = com.example.wegather.global.mail.entity.EmailOutboxStatus.SENDING")
+  int markSent(Long id, LocalDateTime claimedAt, LocalDateTime now);
+
+  /**
+   * 발송 실패를 기록합니다.
+   * 선점 시각이 다르면(선점이 만료되어 다시 선점된 경우) 변경하지 않습니다.
+   * @param claimedAt 선점 시각
+   * @param status 다시 발송할 경우 PENDING, 더 이상 발송하지 않을 경우 DEAD
+   * @param nextAttemptAt 다시 발송할 시각
+   * @param lastError 실패 원인
+   */
+  @Transactional
+  @Modifying
+  @Query("update EmailOutbox o "
+      + "set o.status = :status, o.attemptCount = o.attemptCount + 1, "
+      + "o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError "
+      + "where o.id = :id and o.claimedAt = :claimedAt "
+      + "and o.status = com.example.wegather.global.mail.entity.EmailOutboxStatus.SENDING")
+  int markFailed(Long id, LocalDateTime claimedAt, EmailOutboxStatus status, LocalDateTime nextAttemptAt,
+      String lastError);
+}
@@ -0,0 +1,305 @@
+package com.example.wegather.global.upload;
+
+import static com.example.wegather.global.exception.ErrorCode.*;
+
+import com.example.wegather.global.exception.customException.FileUploadException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.io.PushbackReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Base64;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * base64 이미지가 포함된 JSON 요청 본문을 스트리밍으로 읽습니다.
+ * 요청 본문이나 이미지 문자열 전체를 메모리에 올리지 않고, 읽는 즉시 디코딩하여 임시 파일에 저장하므로
+ * 이미지 크기와 관계없이 일정한 크기의 버퍼만 사용합니다.
+ * 요청 본문 형식 : {"image": "data:image/png;base64,iVBORw0...", "originalImageName": "test.png"}
+ * (Deprecated 된 base64 이미지 API 에서만 사용합니다.)
+ */
+@Component
+public class Base64ImageRequestReader {
+  private static final String IMAGE_FIELD = "image";
+  private static final String ORIGINAL_IMAGE_NAME_FIELD = "originalImageName";
+  private static final String DATA_URI_SCHEME = "data:";
+  private static final int MAX_FIELD_LENGTH = 1000;  // image 외 필드의 최대 길이
+  private static final int BUFFER_SIZE = 8192;
+
+  @Value("${spring.servlet.multipart.max-file-size:3MB}")
+  private DataSize maxFileSize;
+
+  /**
+   * 요청 본문에서 이미지를 디코딩하여 임시 파일에 저장합니다.
+   * 반환된 파일은 사용 후 close 하여 삭제해야 합니다.
+   * @param body JSON 요청 본문
+   * @throws IllegalArgumentException
+   *    - 요청 본문 형식이 올바르지 않거나, 필수 값이 없는 경우
+   *    - 최대 파일 크기를 초과한 경우
+   */
+  public DecodedImageFile read(InputStream body) {
+    Path tempFile = createTempFile();
+    try {
+      PushbackReader reader = new PushbackReader(
+          new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), BUFFER_SIZE));
+      long imageSize = 0;
+      String originalImageName = null;
+      MessageDigest digest = DigestUtils.getSha256Digest();
+
+      expect(reader, '{');
+      int c = nextNonWhitespace(reader);
+      while (c != '}') {
+        if (c != '"') {
+          throw invalidInput();
+        }
+        String fieldName = readString(reader);
+        expect(reader, ':');
+        c = nextNonWhitespace(reader);
+        if (c == '"' && IMAGE_FIELD.equals(fieldName)) {
+          imageSize = decodeImage(reader, tempFile, digest);
+        } else if (c == '"' && ORIGINAL_IMAGE_NAME_FIELD.equals(fieldName)) {
+          originalImageName = readString(reader);
+        } else if (c == '"') {
+          skipString(reader);
+        } else {
+          reader.unread(c);
+          skipLiteral(reader);
+        }
+
+        c = nextNonWhitespace(reader);
+        if (c == ',') {
+          c = nextNonWhitespace(reader);
+        } else if (c != '}') {
+          throw invalidInput();
+        }
+      }
+
+      if (imageSize == 0 || !StringUtils.hasText(originalImageName)) {
+        throw invalidInput();
+      }
+      return new DecodedImageFile(tempFile, imageSize, originalImageName, Hex.encodeHexString(digest.digest()));
+    } catch (IOException e) {
+      deleteQuietly(tempFile);
+      throw new FileUploadException(FAIL_TO_UPLOAD_FILE.getDescription(), e);
+    } catch (RuntimeException e) {
+      deleteQuietly(tempFile);
+      throw e;
+    }
+  }
+
+  /**
+   * image 필드의 문자열을 읽으며 base64 디코딩하여 파일에 씁니다.
+   * data URI 의 `data:image/png;base64,` 부분은 건너뜁니다.
+   * 파일에 쓰는 동시에 내용의 해시를 계산합니다.
+   * @return 디코딩된 이미지의 크기
+   * @throws IllegalArgumentException
+   *    - base64 외 문자(줄바꿈 포함)가 있거나 패딩이 올바르지 않은 경우
+   */
+  private long decodeImage(PushbackReader reader, Path file, MessageDigest digest) throws IOException {
+    PushbackInputStream encoded = new PushbackInputStream(new JsonStringInputStream(reader), DATA_URI_SCHEME.length());
+    skipDataUriPrefix(encoded);
+
+    // basic decoder 는 base64 외 문자를 무시하지 않고 실패합니다.
+    InputStream decoded = Base64.getDecoder().wrap(encoded);
+    long maxBytes = maxFileSize.toBytes();
+    long written = 0;
+    byte[] buffer = new byte[BUFFER_SIZE];
+    try (OutputStream outputStream = new DigestOutputStream(Files.newOutputStream(file), digest)) {
+      int read;
+      while ((read = readDecoded(decoded, buffer)) != -1) {
+        written += read;
+        if (written > maxBytes) {
+          throw new IllegalArgumentException(EXCEED_MAX_FILE_SIZE.getDescription());
+        }
+        outputStream.write(buffer, 0, read);
+      }
+    }
+    return written;
+  }
+
+  /**
+   * base64 형식이 올바르지 않으면 decoder 가 IOException 을 던지므로, 잘못된 입력으로 변환합니다.
+   */
+  private static int readDecoded(InputStream decoded, byte[] buffer) {
+    try {
+      return decoded.read(buffer);
+    } catch (IOException e) {
+      throw invalidInput();
+    }
+  }
+
+  private void skipDataUriPrefix(PushbackInputStream encoded) throws IOException {
+    byte[] head = new byte[DATA_URI_SCHEME.length()];
+    int length = encoded.readNBytes(head, 0, head.length);
+    if (length == head.length && DATA_URI_SCHEME.equals(new String(head, StandardCharsets.US_ASCII))) {
+      int c;
+      int skipped = 0;
+      while ((c = encoded.read()) != ',') {
+        if (c == -1 || ++skipped > MAX_FIELD_LENGTH) {
+          throw invalidInput();
+        }
+      }
+      return;
+    }
+    encoded.unread(head, 0, length);
+  }
+
+  /**
+   * 여는 따옴표 이후의 문자열을 읽습니다.
+   */
+  private String readString(PushbackReader reader) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    int c;
+    while ((c = readStringChar(reader)) != -1) {
+      if (sb.length() >= MAX_FIELD_LENGTH) {
+        throw invalidInput();
+      }
+      sb.append((char) c);
+    }
+    return sb.toString();
+  }
+
+  private void skipString(PushbackReader reader) throws IOException {
+    while (readStringChar(reader) != -1) {
+      // 알 수 없는 필드는 읽지 않고 건너뜁니다.
+    }
+  }
+
+  /**
+   * 문자열의 다음 문자를 escape 를 해석하여 반환합니다.
+   * @return 닫는 따옴표를 만나면 -1
+   */
+  private static int readStringChar(PushbackReader reader) throws IOException {
+    int c = readRequired(reader);
+    if (c == '"') {
+      return -1;
+    }
+    if (c != '\\') {
+      return c;
+    }
+    int escaped = readRequired(reader);
+    switch (escaped) {
+      case '"':
+      case '\\':
+      case '/':
+        return escaped;
+      case 'b':
+        return '\b';
+      case 'f':
+        return '\f';
+      case 'n':
+        return '\n';
+      case 'r':
+        return '\r';
+      case 't':
+        return '\t';
+      case 'u':
+        char[] hex = new char[4];
+        for (int i = 0; i < hex.length; i++) {
+          hex[i] = (char) readRequired(reader);
+        }
+        try {
+          return Integer.parseInt(new String(hex), 16);
+        } catch (NumberFormatException e) {
+          throw invalidInput();
+        }
+      default:
+        throw invalidInput();
+    }
+  }
+
+  // null, true, false, 숫자 값을 건너뜁니다.
+  private static void skipLiteral(PushbackReader reader) throws IOException {
+    int c;
+    int length = 0;
+    while ((c = readRequired(reader)) != ',' && c != '}' && !Character.isWhitespace(c)) {
+      if (++length > MAX_FIELD_LENGTH || c == '{' || c == '[' || c == '"') {
+        throw invalidInput();
+      }
+    }
+    reader.unread(c);
+  }
+
+  private static void expect(PushbackReader reader, char expected) throws IOException {
+    if (nextNonWhitespace(reader) != expected) {
+      throw invalidInput();
+    }
+  }
+
+  private static int nextNonWhitespace(PushbackReader reader) throws IOException {
+    int c;
+    do {
+      c = readRequired(reader);
+    } while (Character.isWhitespace(c));
+    return c;
+  }
+
+  private static int readRequired(PushbackReader reader) throws IOException {
+    int c = reader.read();
+    if (c == -1) {
+      throw invalidInput();
+    }
+    return c;
+  }
+
+  private static IllegalArgumentException invalidInput() {
+    return new IllegalArgumentException(INVALID_INPUT_ERROR.getDescription());
+  }
+
+  private static Path createTempFile() {
+    try {
+      return Files.createTempFile("base64-image-", ".tmp");
+    } catch (IOException e) {
+      throw new FileUploadException(FAIL_TO_UPLOAD_FILE.getDescription(), e);
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException ignored) {
+      // 임시 디렉토리의 파일이므로 삭제 실패는 무시합니다.
+    }
+  }
+
+  /**
+   * JSON 문자열 값을 닫는 따옴표 전까지 byte 로 읽는 InputStream 입니다.
+   * base64 문자열은 ASCII 로만 이루어져 있으므로, ASCII 외 문자는 허용하지 않습니다.
+   */
+  private static class JsonStringInputStream extends InputStream {
+    private final PushbackReader reader;
+    private boolean closed;
+
+    JsonStringInputStream(PushbackReader reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (closed) {
+        return -1;
+      }
+      int c = readStringChar(reader);
+      if (c == -1) {
+        closed = true;
+        return -1;
+      }
+      if (c > 0x7F) {
+        throw invalidInput();
+      }
+      return c;
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.example.wegather.global.upload;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 디코딩된 이미지가 저장된 임시 파일
+ * 사용 후 close 하면 임시 파일이 삭제됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class DecodedImageFile implements AutoCloseable {
+  private final Path file;
+  private final long size;
+  private final String originalFileName;
+  // 이미지 내용의 SHA-256 (hex)
+  private final String contentHash;
+
+  @Override
+  public void close() {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
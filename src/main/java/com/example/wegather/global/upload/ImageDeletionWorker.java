@@ -0,0 +1,134 @@
+package com.example.wegather.global.upload;
+
+import com.example.wegather.global.upload.entity.FileUploadHistory;
+import com.example.wegather.global.upload.repository.AbstractFileManager;
+import com.example.wegather.global.upload.repository.FileUploadHistoryRepository;
+import com.example.wegather.global.upload.repository.FileUploadVariantRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 삭제 대기(PENDING_DELETE) 상태인 이미지를 모아서 삭제합니다.
+ * 이미지 교체 요청에서는 상태만 변경하고, 스토리지 삭제는 여러 파일을 한 번에 요청하여 처리합니다.
+ * 삭제에 실패한 내역은 삭제 대기 상태로 남기고 다시 삭제할 시각을 기록하며,
+ * 실패할 때마다 간격을 늘려 이후 실행에서 다시 삭제합니다. (스케줄러 스레드에서 대기하지 않습니다.)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ImageDeletionWorker {
+  // 축소 이미지를 포함해도 DeleteObjects 한 번(최대 1000개)에 처리되는 크기
+  private static final int BATCH_SIZE = 200;
+  private static final Duration RETRY_BACKOFF = Duration.ofSeconds(30);
+  private static final Duration MAX_RETRY_BACKOFF = Duration.ofHours(1);
+
+  private final AbstractFileManager fileManager;
+  private final FileUploadHistoryRepository fileUploadHistoryRepository;
+  private final FileUploadVariantRepository fileUploadVariantRepository;
+  private final ImageDownloadUrlProvider imageDownloadUrlProvider;
+
+  /**
+   * 삭제 대기 중인 이미지를 ID 순서로 BATCH_SIZE 만큼씩 삭제합니다.
+   */
+  @Scheduled(fixedDelayString = "${application.image.deletion-interval:10000}")
+  public void deletePendingImages() {
+    LocalDateTime now = LocalDateTime.now();
+    long lastId = 0L;
+    int deletedCount = 0;
+    List<FileUploadHistory> targets;
+    do {
+      targets = fileUploadHistoryRepository.findPendingDeleteAfter(lastId, now, PageRequest.of(0, BATCH_SIZE));
+      if (targets.isEmpty()) {
+        break;
+      }
+      lastId = targets.get(targets.size() - 1).getId();
+      deletedCount += deleteBatch(targets, now);
+    } while (targets.size() == BATCH_SIZE);
+
+    if (deletedCount > 0) {
+      log.info("## deleted pending images: {}", deletedCount);
+    }
+  }
+
+  /**
+   * 원본과 축소 이미지를 한 번에 삭제하고, 모든 파일이 삭제된 내역만 삭제 완료 상태로 변경합니다.
+   * 삭제 완료된 원본의 축소 이미지 내역도 함께 삭제합니다.
+   * @return 삭제 완료된 내역 수
+   */
+  private int deleteBatch(List<FileUploadHistory> targets, LocalDateTime now) {
+    Map<Long, List<String>> filesByHistory = new LinkedHashMap<>();
+    for (FileUploadHistory target : targets) {
+      filesByHistory.computeIfAbsent(target.getId(), id -> new ArrayList<>()).add(target.getStoredFileName());
+    }
+    fileUploadVariantRepository.findFileNamesByHistoryIds(filesByHistory.keySet())
+        .forEach(row -> filesByHistory.get((Long) row[0]).add((String) row[1]));
+
+    List<String> filenames = filesByHistory.values().stream()
+        .flatMap(List::stream)
+        .collect(Collectors.toList());
+    Set<String> failedFilenames = delete(filenames);
+
+    List<Long> deletedIds = new ArrayList<>();
+    filesByHistory.forEach((historyId, files) -> {
+      if (files.stream().noneMatch(failedFilenames::contains)) {
+        deletedIds.add(historyId);
+        files.forEach(imageDownloadUrlProvider::evict);
+      }
+    });
+    postponeFailed(targets, deletedIds, now);
+    if (deletedIds.isEmpty()) {
+      return 0;
+    }
+    int deletedCount = fileUploadHistoryRepository.markDeleted(deletedIds);
+    fileUploadVariantRepository.deleteByHistoryIds(deletedIds);
+    return deletedCount;
+  }
+
+  /**
+   * @return 삭제에 실패한 파일명
+   */
+  private Set<String> delete(List<String> filenames) {
+    try {
+      return new HashSet<>(fileManager.deleteFiles(filenames));
+    } catch (RuntimeException e) {
+      log.warn("## 이미지 삭제 실패, count: {}", filenames.size(), e);
+      return new HashSet<>(filenames);
+    }
+  }
+
+  /**
+   * 삭제에 실패한 내역은 실패 횟수에 따라 다시 삭제할 시각을 미룹니다.
+   */
+  private void postponeFailed(List<FileUploadHistory> targets, List<Long> deletedIds, LocalDateTime now) {
+    Set<Long> deleted = new HashSet<>(deletedIds);
+    Map<Integer, List<Long>> failedIdsByAttempt = targets.stream()
+        .filter(target -> !deleted.contains(target.getId()))
+        .collect(Collectors.groupingBy(target -> target.getDeleteAttemptCount() + 1,
+            Collectors.mapping(FileUploadHistory::getId, Collectors.toList())));
+    failedIdsByAttempt.forEach((attempt, ids) -> {
+      fileUploadHistoryRepository.postponeDelete(ids, now.plus(backoff(attempt)));
+      log.warn("## 이미지 삭제 실패 ({}회), count: {}", attempt, ids.size());
+    });
+  }
+
+  /**
+   * 실패 횟수에 따라 RETRY_BACKOFF 부터 두 배씩 늘리며, MAX_RETRY_BACKOFF 를 넘지 않습니다.
+   */
+  static Duration backoff(int attempt) {
+    int exponent = Math.min(attempt - 1, 16);
+    Duration backoff = RETRY_BACKOFF.multipliedBy(1L << exponent);
+    return backoff.compareTo(MAX_RETRY_BACKOFF) > 0 ? MAX_RETRY_BACKOFF : backoff;
+  }
+}
@@ -0,0 +1,10 @@
+package com.example.wegather.global.upload;
+
+/**
+ * 이미지 다운로드 방식
+ * PROXY : 서버가 스토리지에서 이미지를 읽어 응답합니다.
+ * REDIRECT : 서명된 다운로드 URL 로 redirect 하여, 클라이언트가 스토리지에서 직접 받습니다.
+ */
+public enum ImageDownloadMode {
+  PROXY, REDIRECT
+}
@@ -0,0 +1,33 @@
+package com.example.wegather.global.upload;
+
+import java.time.Duration;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명된 이미지 다운로드 URL 과 만료 시각
+ */
+@Getter
+@AllArgsConstructor
+public class ImageDownloadUrl {
+  private String url;
+  private Instant expiresAt;
+
+  /**
+   * 해당 시각까지 URL 을 사용할 수 있는지 확인합니다.
+   */
+  public boolean isUsableUntil(Instant time) {
+    return time.isBefore(expiresAt);
+  }
+
+  /**
+   * 현재 시각부터 URL 을 안전하게 사용할 수 있는 기간을 반환합니다.
+   * @param now 현재 시각
+   * @param margin 만료 전 여유 시간
+   */
+  public Duration remainingUsableTime(Instant now, Duration margin) {
+    Duration remaining = Duration.between(now, expiresAt.minus(margin));
+    return remaining.isNegative() ? Duration.ZERO : remaining;
+  }
+}
@@ -0,0 +1,58 @@
+package com.example.wegather.global.upload;
+
+import com.example.wegather.global.upload.repository.AbstractFileManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지의 서명된 다운로드 URL 을 발급합니다.
+ * 저장 파일명은 UUID 기반으로 내용이 바뀌지 않으므로, 발급한 URL 을 만료 직전까지 파일명별로 캐시합니다.
+ */
+@Component
+public class ImageDownloadUrlProvider {
+  public static final String CACHE_NAME = "imageDownloadUrl";
+  // 만료 직전의 URL 을 받은 클라이언트가 요청하기 전에 만료되지 않도록 여유를 둡니다.
+  public static final Duration REFRESH_MARGIN = Duration.ofMinutes(1);
+
+  private final AbstractFileManager fileManager;
+  private final Cache downloadUrlCache;
+  private final Duration expiration;
+
+  public ImageDownloadUrlProvider(AbstractFileManager fileManager, CacheManager cacheManager,
+      @Value("${application.image.download-url-expiration:1h}") Duration expiration) {
+    if (expiration.compareTo(REFRESH_MARGIN.multipliedBy(2)) < 0) {
+      throw new IllegalStateException("download-url-expiration 은 " + REFRESH_MARGIN.multipliedBy(2) + " 이상이어야 합니다.");
+    }
+    this.fileManager = fileManager;
+    this.downloadUrlCache = cacheManager.getCache(CACHE_NAME);
+    this.expiration = expiration;
+  }
+
+  /**
+   * 파일의 서명된 다운로드 URL 을 반환합니다.
+   * 캐시된 URL 이 곧 만료되면 새로 발급합니다.
+   * @param filename 저장 파일명
+   */
+  public ImageDownloadUrl getDownloadUrl(String filename) {
+    Instant now = Instant.now();
+    ImageDownloadUrl cached = downloadUrlCache.get(filename, ImageDownloadUrl.class);
+    if (cached != null && cached.isUsableUntil(now.plus(REFRESH_MARGIN))) {
+      return cached;
+    }
+
+    Instant expiresAt = now.plus(expiration);
+    String url = fileManager.generateDownloadUrl(filename, Date.from(expiresAt)).toString();
+    ImageDownloadUrl issued = new ImageDownloadUrl(url, expiresAt);
+    downloadUrlCache.put(filename, issued);
+    return issued;
+  }
+
+  public void evict(String filename) {
+    downloadUrlCache.evict(filename);
+  }
+}
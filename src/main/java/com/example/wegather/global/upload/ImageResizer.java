@@ -0,0 +1,120 @@
+package com.example.wegather.global.upload;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Optional;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 이미지 축소에 사용하는 유틸리티 입니다.
+ */
+public final class ImageResizer {
+  private static final float JPEG_QUALITY = 0.85f;
+
+  private ImageResizer() {
+  }
+
+  /**
+   * 이미지를 읽습니다.
+   * 원본이 필요한 크기보다 훨씬 크면 픽셀을 건너뛰며 읽어(subsampling) 메모리 사용량을 줄입니다.
+   * @param inputStream 이미지
+   * @param maxRequiredSize 필요한 가장 큰 축소 이미지의 크기
+   * @return 읽을 수 없는 형식이면 empty
+   */
+  public static Optional<BufferedImage> read(InputStream inputStream, int maxRequiredSize) throws IOException {
+    try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+      if (imageInputStream == null) {
+        return Optional.empty();
+      }
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+      if (!readers.hasNext()) {
+        return Optional.empty();
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(imageInputStream, true, true);
+        int longestSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+        // 축소 품질을 위해 필요한 크기의 2배 이상은 남깁니다.
+        int subsampling = Math.max(1, longestSide / (maxRequiredSize * 2));
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        return Optional.of(reader.read(0, param));
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  /**
+   * 긴 변의 길이가 maxSize 가 되도록 비율을 유지하여 줄입니다.
+   * 한 번에 크게 줄이면 품질이 떨어지므로 절반씩 나누어 줄입니다.
+   * @return 이미 maxSize 이하이면 empty
+   */
+  public static Optional<BufferedImage> resize(BufferedImage source, int maxSize) {
+    int width = source.getWidth();
+    int height = source.getHeight();
+    int longestSide = Math.max(width, height);
+    if (longestSide <= maxSize) {
+      return Optional.empty();
+    }
+
+    double scale = (double) maxSize / longestSide;
+    int targetWidth = Math.max(1, (int) Math.round(width * scale));
+    int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+    BufferedImage current = source;
+    do {
+      width = Math.max(targetWidth, width / 2);
+      height = Math.max(targetHeight, height / 2);
+      current = draw(current, width, height);
+    } while (width != targetWidth || height != targetHeight);
+    return Optional.of(current);
+  }
+
+  private static BufferedImage draw(BufferedImage source, int width, int height) {
+    BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = target.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      // JPEG 는 투명도를 지원하지 않으므로 흰 배경을 채웁니다.
+      graphics.setColor(Color.WHITE);
+      graphics.fillRect(0, 0, width, height);
+      graphics.drawImage(source, 0, 0, width, height, null);
+    } finally {
+      graphics.dispose();
+    }
+    return target;
+  }
+
+  /**
+   * 이미지를 JPEG 로 인코딩합니다.
+   */
+  public static byte[] toJpeg(BufferedImage image) throws IOException {
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    ImageWriteParam param = writer.getDefaultWriteParam();
+    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+    param.setCompressionQuality(JPEG_QUALITY);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+      writer.setOutput(imageOutputStream);
+      writer.write(null, new IIOImage(image, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+    return outputStream.toByteArray();
+  }
+}
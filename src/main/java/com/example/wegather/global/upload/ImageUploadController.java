@@ -1,31 +1,140 @@
 package com.example.wegather.global.upload;
 
 import com.example.wegather.auth.MemberDetails;
+import com.example.wegather.global.upload.dto.PresignedUploadDto;
+import com.example.wegather.global.upload.dto.PresignedUploadRequest;
+import com.example.wegather.global.upload.dto.UploadedImageRequest;
+import com.example.wegather.global.upload.repository.AbstractFileManager;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
-import lombok.RequiredArgsConstructor;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
-@RequiredArgsConstructor
 @RequestMapping("/api")
 @RestController
 public class ImageUploadController {
+  // Tomcat NIO connector 의 sendfile 요청 속성 (org.apache.coyote.Constants)
+  private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_FILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_FILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
   private final ImageUploadService imageUploadService;
+  private final ImageDownloadMode downloadMode;
+
+  /**
+   * 스토리지가 서명된 URL 을 지원하지 않으면(LOCAL) REDIRECT 모드 대신 PROXY 모드로 동작합니다.
+   */
+  public ImageUploadController(ImageUploadService imageUploadService, AbstractFileManager fileManager,
+      @Value("${application.image.download-mode:PROXY}") ImageDownloadMode downloadMode) {
+    this.imageUploadService = imageUploadService;
+    if (downloadMode == ImageDownloadMode.REDIRECT && !fileManager.supportsSignedUrl()) {
+      log.warn("## {} 스토리지는 서명된 URL 을 지원하지 않아 download-mode 를 PROXY 로 사용합니다.",
+          fileManager.getStorageType());
+      downloadMode = ImageDownloadMode.PROXY;
+    }
+    this.downloadMode = downloadMode;
+  }
 
+  /**
+   * 이미지를 반환합니다.
+   * REDIRECT 모드에서는 서명된 다운로드 URL 로 redirect 하며, redirect 응답은 URL 만료 전까지 캐시됩니다.
+   * PROXY 모드에서는 이미지를 직접 응답합니다. 저장 파일명은 바뀌지 않으므로 immutable 로 캐시됩니다.
+   * - 파일명으로 만든 ETag 가 If-None-Match 와 같으면 스토리지를 조회하지 않고 304 를 응답합니다.
+   * - 디스크 캐시를 사용하는 경우 Range 요청을 지원합니다.
+   * - 로컬 파일(디스크 캐시, LOCAL 스토리지)은 Tomcat sendfile 로 전송하여, 파일을 힙 버퍼로 복사하지 않습니다.
+   */
   @GetMapping("/images/{filename}")
-  public ResponseEntity<Resource> downloadImage(@PathVariable String filename) {
-    return ResponseEntity.ok(imageUploadService.downloadImage(filename));
+  public ResponseEntity<Resource> downloadImage(@PathVariable String filename, WebRequest webRequest,
+      HttpServletRequest request) {
+    if (downloadMode == ImageDownloadMode.REDIRECT) {
+      ImageDownloadUrl downloadUrl = imageUploadService.getDownloadUrl(filename);
+      return ResponseEntity.status(HttpStatus.FOUND)
+          .location(URI.create(downloadUrl.getUrl()))
+          .cacheControl(CacheControl.maxAge(downloadUrl.remainingUsableTime(
+              Instant.now(), ImageDownloadUrlProvider.REFRESH_MARGIN)).cachePrivate())
+          .build();
+    }
+    String eTag = imageETag(filename);
+    if (webRequest.checkNotModified(eTag)) {
+      return null;
+    }
+    Resource image = imageUploadService.downloadImage(filename);
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+        .eTag(eTag)
+        .header(HttpHeaders.CACHE_CONTROL, AbstractFileManager.IMMUTABLE_CACHE_CONTROL);
+    if (prepareSendfile(image, request)) {
+      return response
+          .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+          .contentType(MediaTypeFactory.getMediaType(image).orElse(MediaType.APPLICATION_OCTET_STREAM))
+          .contentLength(contentLength(image))
+          .build();
+    }
+    return response.body(image);
+  }
+
+  /**
+   * 로컬 파일이고 Tomcat 이 sendfile 을 지원하면, 응답 본문 대신 sendfile 요청 속성을 설정합니다.
+   * Tomcat 이 요청 처리가 끝난 뒤 파일을 커널에서 바로 소켓으로 전송합니다. (FileChannel.transferTo)
+   * Range 요청과 HEAD 요청은 ResourceHttpMessageConverter 가 처리합니다.
+   * @return sendfile 로 전송하면 true
+   */
+  private boolean prepareSendfile(Resource image, HttpServletRequest request) {
+    if (!Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))
+        || !HttpMethod.GET.matches(request.getMethod())
+        || request.getHeader(HttpHeaders.RANGE) != null
+        || !image.isFile()) {
+      return false;
+    }
+    try {
+      File file = image.getFile();
+      request.setAttribute(SENDFILE_FILENAME_ATTR, file.getAbsolutePath());
+      request.setAttribute(SENDFILE_FILE_START_ATTR, 0L);
+      request.setAttribute(SENDFILE_FILE_END_ATTR, file.length());
+      return true;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private long contentLength(Resource image) {
+    try {
+      return image.contentLength();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // 저장 파일명이 같으면 내용도 같으므로, 파일명으로 ETag 를 만듭니다.
+  private String imageETag(String filename) {
+    return "\"" + DigestUtils.md5DigestAsHex(filename.getBytes(StandardCharsets.UTF_8)) + "\"";
   }
 
   @PostMapping("/images")
@@ -35,6 +144,27 @@ public class ImageUploadController {
     return ResponseEntity.created(URI.create("/images/" + storedFileName)).build();
   }
 
+  /**
+   * 스토리지에 직접 업로드할 수 있는 서명된 URL 을 발급합니다.
+   * 이미지가 서버를 거치지 않고 업로드되므로, 업로드 중 서버의 메모리와 스레드를 사용하지 않습니다.
+   */
+  @PostMapping("/images/presigned")
+  public ResponseEntity<PresignedUploadDto> createPresignedUpload(
+      @RequestBody @Valid PresignedUploadRequest request,
+      @AuthenticationPrincipal MemberDetails memberDetails) {
+    return ResponseEntity.ok(imageUploadService.createPresignedUpload(request, memberDetails.getMemberId()));
+  }
+
+  /**
+   * 서명된 URL 로 업로드한 이미지를 업로드 완료 처리합니다.
+   */
+  @PostMapping("/images/confirm")
+  public ResponseEntity<Void> confirmUpload(@RequestBody @Valid UploadedImageRequest request,
+                                            @AuthenticationPrincipal MemberDetails memberDetails) {
+    imageUploadService.confirmUpload(request.getStoredFileName(), memberDetails.getMemberId());
+    return ResponseEntity.created(URI.create("/images/" + request.getStoredFileName())).build();
+  }
+
   @DeleteMapping("/images/{filename}")
   public ResponseEntity<Void> deleteImage(@PathVariable String filename) {
     imageUploadService.deleteImage(filename);
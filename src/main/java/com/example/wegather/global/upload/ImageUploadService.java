@@ -1,19 +1,44 @@
 package com.example.wegather.global.upload;
 
 import com.example.wegather.global.exception.ErrorCode;
+import com.example.wegather.global.exception.customException.FileUploadException;
+import com.example.wegather.global.exception.customException.NoPermissionException;
+import com.example.wegather.global.upload.dto.PresignedUploadDto;
+import com.example.wegather.global.upload.dto.PresignedUploadRequest;
 import com.example.wegather.global.upload.entity.FileUploadHistory;
 import com.example.wegather.global.upload.entity.FileUploadStatus;
-import com.example.wegather.global.upload.entity.StorageType;
+import com.example.wegather.global.upload.entity.ImageVariant;
 import com.example.wegather.global.upload.repository.AbstractFileManager;
+import com.example.wegather.global.upload.event.ImageUploadedEvent;
 import com.example.wegather.global.upload.repository.FileUploadHistoryRepository;
+import com.example.wegather.global.upload.repository.FileUploadVariantRepository;
 import com.example.wegather.member.domain.MemberRepository;
 import com.example.wegather.member.domain.entity.Member;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
@@ -24,60 +49,308 @@ public class ImageUploadService {
   private final AbstractFileManager fileManager;
   private final FileUploadHistoryRepository fileUploadHistoryRepository;
   private final MemberRepository memberRepository;
+  private final ImageDownloadUrlProvider imageDownloadUrlProvider;
+  private final FileUploadVariantRepository fileUploadVariantRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Value("${application.image.upload-url-expiration:10m}")
+  private Duration uploadUrlExpiration;
+
+  @Value("${spring.servlet.multipart.max-file-size:3MB}")
+  private DataSize maxFileSize;
 
   public Resource downloadImage(String filename) {
     return fileManager.getFile(filename);
   }
 
+  /**
+   * 이미지의 서명된 다운로드 URL 을 반환합니다.
+   * @param filename 저장 파일명
+   */
+  public ImageDownloadUrl getDownloadUrl(String filename) {
+    return imageDownloadUrlProvider.getDownloadUrl(filename);
+  }
+
   /**
    * MultipartFile 타입의 이미지를 업로드합니다.
+   * 같은 내용의 이미지가 이미 저장되어 있으면 새로 저장하지 않고 재사용합니다.
+   * (해시를 먼저 계산하므로, 중복 이미지는 스토리지를 호출하지 않습니다.)
    * @param multipartFile
    * @return 업로드 이미지 이름
    */
   @Transactional
   public String uploadImage(MultipartFile multipartFile, Long uploadMemberId) {
-    UploadFile uploadFile = fileManager.storeFile(multipartFile);
-    saveNewUploadHistory(uploadFile, uploadMemberId);
+    String contentHash;
+    try (InputStream inputStream = multipartFile.getInputStream()) {
+      contentHash = DigestUtils.sha256Hex(inputStream);
+    } catch (IOException e) {
+      throw new FileUploadException(ErrorCode.FAIL_TO_UPLOAD_FILE.getDescription(), e);
+    }
+    Optional<String> storedImage = reuseUploadedImage(contentHash);
+    if (storedImage.isPresent()) {
+      return storedImage.get();
+    }
+
+    UploadFile uploadFile;
+    try (InputStream inputStream = multipartFile.getInputStream()) {
+      uploadFile = fileManager.storeFile(inputStream, multipartFile.getSize(),
+          multipartFile.getOriginalFilename(), multipartFile.getContentType());
+    } catch (IOException e) {
+      throw new FileUploadException(ErrorCode.FAIL_TO_UPLOAD_FILE.getDescription(), e);
+    }
+    saveNewUploadHistory(uploadFile, uploadMemberId, FileUploadStatus.UPLOADED, contentHash);
+    return uploadFile.getStoredFileName();
+  }
+
+  /**
+   * 요청 본문에서 디코딩한 base64 이미지를 업로드합니다.
+   * 임시 파일에서 스트리밍으로 전송하므로 이미지 전체를 메모리에 올리지 않습니다.
+   * 같은 내용의 이미지가 이미 저장되어 있으면 새로 저장하지 않고 재사용합니다.
+   * @param imageFile 디코딩된 이미지 임시 파일
+   * @param uploadMemberId 업로드하는 회원 ID
+   * @return 업로드 이미지 이름
+   */
+  @Transactional
+  public String uploadImage(DecodedImageFile imageFile, Long uploadMemberId) {
+    Optional<String> storedImage = reuseUploadedImage(imageFile.getContentHash());
+    if (storedImage.isPresent()) {
+      return storedImage.get();
+    }
+
+    UploadFile uploadFile;
+    try (InputStream inputStream = Files.newInputStream(imageFile.getFile())) {
+      uploadFile = fileManager.storeFile(inputStream, imageFile.getSize(), imageFile.getOriginalFileName());
+    } catch (IOException e) {
+      throw new FileUploadException(ErrorCode.FAIL_TO_UPLOAD_FILE.getDescription(), e);
+    }
+    saveNewUploadHistory(uploadFile, uploadMemberId, FileUploadStatus.UPLOADED, imageFile.getContentHash());
     return uploadFile.getStoredFileName();
   }
 
+  /**
+   * 같은 내용으로 업로드가 완료된 이미지가 있으면 참조 수를 증가시키고 저장 파일명을 반환합니다.
+   * 축소 이미지도 이미 생성되어 있으므로 다시 생성하지 않습니다.
+   * @param contentHash 이미지 내용의 SHA-256
+   * @return 재사용할 저장 파일명, 없으면 empty
+   */
+  private Optional<String> reuseUploadedImage(String contentHash) {
+    return fileUploadHistoryRepository.findFirstByContentHashAndFileUploadStatus(contentHash, FileUploadStatus.UPLOADED)
+        // 조회 후 삭제된 경우에는 새로 저장합니다.
+        .filter(history -> fileUploadHistoryRepository.acquireReference(history.getId()) == 1)
+        .map(FileUploadHistory::getStoredFileName);
+  }
+
   /**
    * base64 형태의 이미지를 업로드합니다.
+   * 업로드한 회원을 알 수 없으므로 회원 없이 업로드 내역을 저장합니다.
    * @param base64EncodedImage
    * @param originalImageName
    * @return 업로드된 이미지명
    */
   @Deprecated
+  @Transactional
   public String uploadImage(String base64EncodedImage, String originalImageName) {
     byte[] bytesImage = fileManager.decodeBase64Image(base64EncodedImage);
     UploadFile uploadFile = fileManager.storeFile(bytesImage, originalImageName);
+    saveNewUploadHistory(uploadFile, null, FileUploadStatus.UPLOADED);
     return uploadFile.getStoredFileName();
   }
 
-  private void saveNewUploadHistory(UploadFile uploadFile, Long uploadMemberId) {
-    Member uploadMember = memberRepository.findById(uploadMemberId)
+  /**
+   * 클라이언트가 스토리지에 직접 업로드할 수 있는 서명된 URL 을 발급합니다.
+   * 업로드 내역은 PENDING 상태로 저장되며, 업로드 후 confirmUpload 로 완료 처리해야 합니다.
+   * 참조 수는 0 으로 시작하며, 프로필, 배너 등에 사용될 때 acquireUploadedImage 로 증가시킵니다.
+   * @param request 원본 파일명과 Content-Type
+   * @param uploadMemberId 업로드하는 회원 ID
+   * @throws IllegalArgumentException
+   *    - 이미지 Content-Type 이 아닌 경우
+   * @return 저장될 파일명과 서명된 업로드 URL
+   */
+  @Transactional
+  public PresignedUploadDto createPresignedUpload(PresignedUploadRequest request, Long uploadMemberId) {
+    if (!request.getContentType().startsWith("image/")) {
+      throw new IllegalArgumentException(ErrorCode.INVALID_IMAGE_CONTENT_TYPE.getDescription());
+    }
+    String storedFileName = fileManager.createStoreFileName(request.getOriginalFileName());
+    Date expiration = Date.from(Instant.now().plus(uploadUrlExpiration));
+    URL uploadUrl = fileManager.generateUploadUrl(storedFileName, request.getContentType(), expiration);
+
+    saveNewUploadHistory(UploadFile.of(request.getOriginalFileName(), storedFileName),
+        uploadMemberId, FileUploadStatus.PENDING);
+
+    return new PresignedUploadDto(storedFileName, uploadUrl.toString(),
+        LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()));
+  }
+
+  /**
+   * 서명된 URL 로 업로드한 파일을 확인하고 업로드 완료 처리합니다.
+   * 이미 완료된 파일은 그대로 성공합니다.
+   * @param storedFileName 저장된 파일명
+   * @param uploadMemberId 업로드한 회원 ID
+   * @throws NoPermissionException
+   *    - 업로드 URL 을 발급받은 회원이 아닌 경우
+   * @throws IllegalStateException
+   *    - 스토리지에 파일이 없는 경우
+   * @throws IllegalArgumentException
+   *    - 최대 파일 크기를 초과한 경우 (업로드된 파일은 삭제됩니다.)
+   */
+  @Transactional
+  public void confirmUpload(String storedFileName, Long uploadMemberId) {
+    FileUploadHistory fileUploadHistory = findFileUploadHistory(storedFileName);
+    validateUploader(fileUploadHistory, uploadMemberId);
+    if (fileUploadHistory.isUploaded()) {
+      return;
+    }
+    if (!fileUploadHistory.isPending()) {
+      throw new IllegalStateException(ErrorCode.FILE_UPLOAD_HISTORY_NOT_EXISTS.getDescription());
+    }
+
+    long fileSize = fileManager.getFileSize(storedFileName)
+        .orElseThrow(() -> new IllegalStateException(ErrorCode.FILE_NOT_UPLOADED.getDescription()));
+    // 서명된 URL 로는 크기를 제한할 수 없으므로 업로드 후 확인합니다.
+    if (fileSize > maxFileSize.toBytes()) {
+      fileManager.deleteFile(storedFileName);
+      throw new IllegalArgumentException(ErrorCode.EXCEED_MAX_FILE_SIZE.getDescription());
+    }
+    fileUploadHistory.uploaded();
+    eventPublisher.publishEvent(new ImageUploadedEvent(fileUploadHistory.getId(), storedFileName));
+  }
+
+  /**
+   * 이미지들의 축소 이미지 파일명을 조회합니다.
+   * 축소 이미지가 아직 없거나 원본이 더 작은 경우에는 원본 파일명을 그대로 사용합니다.
+   * @param storedFileNames 원본 저장 파일명 목록 (null 포함 가능)
+   * @param variant 축소 이미지 크기
+   * @return 원본 저장 파일명 -> 사용할 파일명
+   */
+  public Map<String, String> findVariantImages(Collection<String> storedFileNames, ImageVariant variant) {
+    List<String> images = storedFileNames.stream()
+        .filter(StringUtils::hasText)
+        .distinct()
+        .collect(Collectors.toList());
+    Map<String, String> variantImages = new HashMap<>();
+    if (images.isEmpty()) {
+      return variantImages;
+    }
+    images.forEach(image -> variantImages.put(image, image));
+    fileUploadVariantRepository.findVariantFileNames(images, variant)
+        .forEach(row -> variantImages.put((String) row[0], (String) row[1]));
+    return variantImages;
+  }
+
+  /**
+   * 회원이 업로드를 완료한 이미지인지 확인하고 참조 수를 1 증가시킵니다.
+   * 서명된 URL 로 업로드한 이미지를 프로필, 배너 등에 사용할 때 호출하며,
+   * 교체될 때 deleteImageLater 로 참조를 제거합니다.
+   * @param storedFileName 저장된 파일명
+   * @param uploadMemberId 업로드한 회원 ID
+   * @throws IllegalStateException
+   *    - 업로드 완료 상태가 아닌 경우 (삭제 중인 경우 포함)
+   * @return 저장된 파일명
+   */
+  @Transactional
+  public String acquireUploadedImage(String storedFileName, Long uploadMemberId) {
+    FileUploadHistory fileUploadHistory = findFileUploadHistory(storedFileName);
+    validateUploader(fileUploadHistory, uploadMemberId);
+    if (fileUploadHistoryRepository.acquireReference(fileUploadHistory.getId()) != 1) {
+      throw new IllegalStateException(ErrorCode.FILE_NOT_UPLOADED.getDescription());
+    }
+    return fileUploadHistory.getStoredFileName();
+  }
+
+  private void validateUploader(FileUploadHistory fileUploadHistory, Long uploadMemberId) {
+    if (!fileUploadHistory.isUploadedBy(uploadMemberId)) {
+      throw new NoPermissionException(ErrorCode.PERMISSION_DENIED.getDescription());
+    }
+  }
+
+  private void saveNewUploadHistory(UploadFile uploadFile, Long uploadMemberId, FileUploadStatus status) {
+    saveNewUploadHistory(uploadFile, uploadMemberId, status, null);
+  }
+
+  private void saveNewUploadHistory(UploadFile uploadFile, Long uploadMemberId, FileUploadStatus status,
+      String contentHash) {
+    Member uploadMember = uploadMemberId == null ? null : memberRepository.findById(uploadMemberId)
         .orElseThrow(() -> new IllegalArgumentException(ErrorCode.MEMBER_NOT_FOUND.getDescription()));
 
-    fileUploadHistoryRepository.save(FileUploadHistory.builder()
+    FileUploadHistory fileUploadHistory = fileUploadHistoryRepository.save(FileUploadHistory.builder()
             .storedFileName(uploadFile.getStoredFileName())
             .originalFileName(uploadFile.getOriginalFileName())
             .member(uploadMember)
-            .storageType(StorageType.AWS_S3)
-            .fileUploadStatus(FileUploadStatus.UPLOADED)
+            .storageType(fileManager.getStorageType())
+            .fileUploadStatus(status)
+            .contentHash(contentHash)
+            // 서명된 URL 업로드는 사용될 때 참조 수를 증가시킵니다.
+            .referenceCount(status == FileUploadStatus.PENDING ? 0 : 1)
         .build());
+    if (fileUploadHistory.isUploaded()) {
+      eventPublisher.publishEvent(
+          new ImageUploadedEvent(fileUploadHistory.getId(), fileUploadHistory.getStoredFileName()));
+    }
   }
 
+  /**
+   * 이미지의 참조를 하나 제거하고, 마지막 참조인 경우 저장된 파일을 삭제합니다.
+   * 업로드 내역이 없는 이미지는 바로 삭제합니다.
+   * @param storedImage 저장된 파일명
+   */
   @Transactional
   public void deleteImage(String storedImage) {
-    if (StringUtils.hasText(storedImage)) {
-      fileManager.deleteFile(storedImage);
-      try {
-        FileUploadHistory fileUploadHistory = findFileUploadHistory(storedImage);
-        fileUploadHistory.deleted();
-      } catch (Exception e) {
-        log.error("## deleteImage: ", e);
+    if (!StringUtils.hasText(storedImage)) {
+      return;
+    }
+    Optional<FileUploadHistory> fileUploadHistory = fileUploadHistoryRepository.findByStoredFileName(storedImage);
+    if (fileUploadHistory.isPresent()) {
+      if (!releaseReference(fileUploadHistory.get(), FileUploadStatus.DELETED)) {
+        return;
       }
+    } else {
+      log.warn("## deleteImage: 업로드 내역이 없는 이미지, storedImage: {}", storedImage);
+    }
+
+    // 축소 이미지도 함께 삭제합니다.
+    for (String variantImage : fileUploadVariantRepository.findAllFileNamesByOriginal(storedImage)) {
+      fileManager.deleteFile(variantImage);
+      imageDownloadUrlProvider.evict(variantImage);
     }
+    fileUploadHistory.ifPresent(history -> fileUploadVariantRepository.deleteByHistoryIds(List.of(history.getId())));
+    fileManager.deleteFile(storedImage);
+    imageDownloadUrlProvider.evict(storedImage);
+  }
+
+  /**
+   * 이미지의 참조를 하나 제거하고, 마지막 참조인 경우 삭제 대기 상태로 변경합니다.
+   * 파일은 ImageDeletionWorker 가 모아서 삭제하므로, 요청 처리 중 스토리지를 호출하지 않습니다.
+   * 업로드 내역이 없는 이미지는 삭제 대기 상태의 내역을 새로 저장합니다.
+   * @param storedImage 저장된 파일명
+   */
+  @Transactional
+  public void deleteImageLater(String storedImage) {
+    if (!StringUtils.hasText(storedImage)) {
+      return;
+    }
+    Optional<FileUploadHistory> fileUploadHistory = fileUploadHistoryRepository.findByStoredFileName(storedImage);
+    if (fileUploadHistory.isPresent()) {
+      releaseReference(fileUploadHistory.get(), FileUploadStatus.PENDING_DELETE);
+      return;
+    }
+    fileUploadHistoryRepository.save(FileUploadHistory.builder()
+        .storedFileName(storedImage)
+        .storageType(fileManager.getStorageType())
+        .fileUploadStatus(FileUploadStatus.PENDING_DELETE)
+        .referenceCount(0)
+        .build());
+  }
+
+  /**
+   * 참조 수를 1 감소시키고, 남은 참조가 없으면 상태를 변경합니다.
+   * @param status 참조가 없을 때 변경할 상태
+   * @return 마지막 참조였으면 true, 다른 곳에서 사용 중이면 false
+   */
+  private boolean releaseReference(FileUploadHistory fileUploadHistory, FileUploadStatus status) {
+    Long historyId = fileUploadHistory.getId();
+    fileUploadHistoryRepository.releaseReference(historyId);
+    return fileUploadHistoryRepository.changeStatusIfUnreferenced(historyId, status) == 1;
   }
 
   private FileUploadHistory findFileUploadHistory(String storedImage) {
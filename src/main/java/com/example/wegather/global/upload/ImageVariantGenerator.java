@@ -0,0 +1,108 @@
+package com.example.wegather.global.upload;
+
+import com.example.wegather.global.upload.entity.FileUploadHistory;
+import com.example.wegather.global.upload.entity.FileUploadStatus;
+import com.example.wegather.global.upload.entity.FileUploadVariant;
+import com.example.wegather.global.upload.entity.ImageVariant;
+import com.example.wegather.global.upload.event.ImageUploadedEvent;
+import com.example.wegather.global.upload.repository.AbstractFileManager;
+import com.example.wegather.global.upload.repository.FileUploadHistoryRepository;
+import com.example.wegather.global.upload.repository.FileUploadVariantRepository;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 업로드된 이미지의 축소 이미지를 생성합니다.
+ * 업로드 트랜잭션 커밋 이후 imageVariantExecutor 에서 비동기로 처리되며,
+ * 생성에 실패하거나 건너뛴 경우에는 원본 이미지가 대신 사용됩니다.
+ * 생성 중에 원본이 삭제되면 더 만들지 않고, 이미 삭제가 끝났으면 만든 축소 이미지를 직접 삭제합니다.
+ * (삭제 대기 중이면 ImageDeletionWorker 가 원본과 함께 삭제합니다.)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ImageVariantGenerator {
+  private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+  private final AbstractFileManager fileManager;
+  private final FileUploadHistoryRepository fileUploadHistoryRepository;
+  private final FileUploadVariantRepository fileUploadVariantRepository;
+
+  @Async("imageVariantExecutor")
+  @TransactionalEventListener
+  public void generate(ImageUploadedEvent event) {
+    String originalFileName = event.getStoredFileName();
+    try (InputStream inputStream = fileManager.getFile(originalFileName).getInputStream()) {
+      Optional<BufferedImage> original = ImageResizer.read(inputStream, ImageVariant.LARGE.getSize());
+      if (original.isEmpty()) {
+        log.info("## 축소 이미지를 만들 수 없는 형식입니다: {}", originalFileName);
+        return;
+      }
+      FileUploadHistory fileUploadHistory =
+          fileUploadHistoryRepository.getReferenceById(event.getFileUploadHistoryId());
+
+      // 큰 이미지부터 만들고, 만든 이미지를 다음 축소의 원본으로 사용합니다.
+      BufferedImage source = original.get();
+      for (ImageVariant variant : variantsFromLargest()) {
+        if (!isUploaded(event.getFileUploadHistoryId())) {
+          break;
+        }
+        Optional<BufferedImage> resized = ImageResizer.resize(source, variant.getSize());
+        if (resized.isEmpty()) {
+          // 원본이 더 작으면 원본을 그대로 사용합니다.
+          continue;
+        }
+        String variantFileName = variant.storedFileNameOf(originalFileName);
+        fileManager.storeFile(variantFileName, ImageResizer.toJpeg(resized.get()), VARIANT_CONTENT_TYPE);
+        fileUploadVariantRepository.save(FileUploadVariant.of(fileUploadHistory, variant, variantFileName));
+        source = resized.get();
+      }
+      deleteVariantsIfOriginalDeleted(event.getFileUploadHistoryId());
+    } catch (IOException | RuntimeException e) {
+      log.warn("## 축소 이미지 생성 실패: {}", originalFileName, e);
+    }
+  }
+
+  private boolean isUploaded(Long fileUploadHistoryId) {
+    return fileUploadHistoryRepository.findById(fileUploadHistoryId)
+        .map(FileUploadHistory::isUploaded)
+        .orElse(false);
+  }
+
+  /**
+   * 생성 중에 원본의 삭제가 끝난 경우, 남은 축소 이미지와 내역을 삭제합니다.
+   */
+  private void deleteVariantsIfOriginalDeleted(Long fileUploadHistoryId) {
+    boolean deleted = fileUploadHistoryRepository.findById(fileUploadHistoryId)
+        .map(history -> history.getFileUploadStatus() == FileUploadStatus.DELETED)
+        .orElse(true);
+    if (!deleted) {
+      return;
+    }
+    List<Long> historyIds = List.of(fileUploadHistoryId);
+    List<String> variantFileNames = fileUploadVariantRepository.findFileNamesByHistoryIds(historyIds).stream()
+        .map(row -> (String) row[1])
+        .collect(Collectors.toList());
+    if (!variantFileNames.isEmpty()) {
+      fileManager.deleteFiles(variantFileNames);
+      fileUploadVariantRepository.deleteByHistoryIds(historyIds);
+    }
+  }
+
+  private static Iterable<ImageVariant> variantsFromLargest() {
+    return () -> Stream.of(ImageVariant.values())
+        .sorted(Comparator.comparingInt(ImageVariant::getSize).reversed())
+        .iterator();
+  }
+}
@@ -0,0 +1,149 @@
+package com.example.wegather.global.upload;
+
+import com.example.wegather.global.upload.entity.FileUploadHistory;
+import com.example.wegather.global.upload.entity.FileUploadStatus;
+import com.example.wegather.global.upload.repository.AbstractFileManager;
+import com.example.wegather.global.upload.repository.FileUploadHistoryRepository;
+import com.example.wegather.global.upload.repository.FileUploadVariantRepository;
+import com.example.wegather.group.domain.repotitory.SmallGroupRepository;
+import com.example.wegather.member.domain.MemberRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 프로필, 소모임 이미지, 배너 어디에도 사용되지 않는 이미지를 찾아 삭제합니다.
+ * 1. 업로드 내역 : 유예 기간이 지나도록 사용되지 않은 이미지를 삭제 대기 상태로 변경합니다. (ImageDeletionWorker 가 삭제)
+ * 2. 스토리지 목록 : 업로드 내역이 없는 파일(이전 base64 업로드 등) 중 사용되지 않는 파일을 바로 삭제합니다.
+ * 모두 페이지 단위로 처리하므로, 내역이나 파일 수와 관계없이 일정한 메모리만 사용합니다.
+ */
+@Slf4j
+@Component
+public class OrphanImageCollector {
+  private static final int PAGE_SIZE = 500;
+  private static final String IMAGE_PREFIX = "images/";
+
+  private final AbstractFileManager fileManager;
+  private final FileUploadHistoryRepository fileUploadHistoryRepository;
+  private final FileUploadVariantRepository fileUploadVariantRepository;
+  private final MemberRepository memberRepository;
+  private final SmallGroupRepository smallGroupRepository;
+  private final ImageDownloadUrlProvider imageDownloadUrlProvider;
+  private final Duration gracePeriod;
+
+  public OrphanImageCollector(AbstractFileManager fileManager,
+      FileUploadHistoryRepository fileUploadHistoryRepository,
+      FileUploadVariantRepository fileUploadVariantRepository,
+      MemberRepository memberRepository,
+      SmallGroupRepository smallGroupRepository,
+      ImageDownloadUrlProvider imageDownloadUrlProvider,
+      @Value("${application.image.orphan-grace-period:24h}") Duration gracePeriod) {
+    this.fileManager = fileManager;
+    this.fileUploadHistoryRepository = fileUploadHistoryRepository;
+    this.fileUploadVariantRepository = fileUploadVariantRepository;
+    this.memberRepository = memberRepository;
+    this.smallGroupRepository = smallGroupRepository;
+    this.imageDownloadUrlProvider = imageDownloadUrlProvider;
+    this.gracePeriod = gracePeriod;
+  }
+
+  @Scheduled(cron = "${application.image.orphan-collect-cron:0 30 4 * * *}")
+  public void collect() {
+    Instant uploadedBefore = Instant.now().minus(gracePeriod);
+    int historyCount = collectUploadHistories(uploadedBefore);
+    int untrackedCount = collectUntrackedFiles(uploadedBefore);
+    log.info("## collected orphan images - history: {}, untracked file: {}", historyCount, untrackedCount);
+  }
+
+  /**
+   * 유예 기간이 지난 업로드 내역 중 사용되지 않는 이미지를 삭제 대기 상태로 변경합니다.
+   * 업로드 완료 처리하지 않은 서명된 URL 업로드(PENDING)도 함께 정리합니다.
+   * @return 삭제 대기 상태로 변경한 내역 수
+   */
+  int collectUploadHistories(Instant uploadedBefore) {
+    LocalDateTime createdBefore = LocalDateTime.ofInstant(uploadedBefore, ZoneId.systemDefault());
+    return collectUploadHistories(FileUploadStatus.UPLOADED, createdBefore)
+        + collectUploadHistories(FileUploadStatus.PENDING, createdBefore);
+  }
+
+  private int collectUploadHistories(FileUploadStatus status, LocalDateTime createdBefore) {
+    int collectedCount = 0;
+    long lastId = 0L;
+    List<FileUploadHistory> histories;
+    do {
+      histories = fileUploadHistoryRepository.findCreatedBefore(
+          status, createdBefore, lastId, PageRequest.of(0, PAGE_SIZE));
+      if (histories.isEmpty()) {
+        break;
+      }
+      lastId = histories.get(histories.size() - 1).getId();
+
+      Set<String> referencedImages = findReferencedImages(histories.stream()
+          .map(FileUploadHistory::getStoredFileName)
+          .collect(Collectors.toList()));
+      for (FileUploadHistory history : histories) {
+        if (!referencedImages.contains(history.getStoredFileName())) {
+          collectedCount += fileUploadHistoryRepository.markPendingDelete(
+              history.getId(), status, history.getReferenceCount());
+        }
+      }
+    } while (histories.size() == PAGE_SIZE);
+    return collectedCount;
+  }
+
+  /**
+   * 스토리지 목록을 페이지 단위로 조회하여, 업로드 내역과 축소 이미지에 없고 사용되지 않는 파일을 삭제합니다.
+   * @return 삭제한 파일 수
+   */
+  int collectUntrackedFiles(Instant uploadedBefore) {
+    int[] deletedCount = {0};
+    fileManager.listFiles(IMAGE_PREFIX, page -> {
+      List<String> candidates = page.stream()
+          .filter(file -> file.getLastModified().isBefore(uploadedBefore))
+          .map(StoredFile::getStoredFileName)
+          .collect(Collectors.toList());
+      if (candidates.isEmpty()) {
+        return;
+      }
+      Set<String> knownFiles = new HashSet<>(fileUploadHistoryRepository.findStoredFileNamesIn(candidates));
+      knownFiles.addAll(fileUploadVariantRepository.findStoredFileNamesIn(candidates));
+      candidates.removeAll(knownFiles);
+      candidates.removeAll(findReferencedImages(candidates));
+      if (candidates.isEmpty()) {
+        return;
+      }
+
+      List<String> failedFiles = fileManager.deleteFiles(candidates);
+      candidates.removeAll(failedFiles);
+      candidates.forEach(imageDownloadUrlProvider::evict);
+      deletedCount[0] += candidates.size();
+      if (!failedFiles.isEmpty()) {
+        // 다음 실행 시 다시 삭제합니다.
+        log.warn("## failed to delete orphan images: {}", failedFiles.size());
+      }
+    });
+    return deletedCount[0];
+  }
+
+  private Set<String> findReferencedImages(Collection<String> images) {
+    Set<String> referencedImages = new HashSet<>();
+    if (images.isEmpty()) {
+      return referencedImages;
+    }
+    referencedImages.addAll(memberRepository.findProfileImagesIn(images));
+    referencedImages.addAll(smallGroupRepository.findImagesIn(images));
+    referencedImages.addAll(smallGroupRepository.findBannersIn(images));
+    return referencedImages;
+  }
+}
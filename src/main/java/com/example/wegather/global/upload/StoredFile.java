@@ -0,0 +1,15 @@
+package com.example.wegather.global.upload;
+
+import java.time.Instant;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스토리지에 저장된 파일의 목록 조회 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public class StoredFile {
+  private final String storedFileName;
+  private final Instant lastModified;
+}
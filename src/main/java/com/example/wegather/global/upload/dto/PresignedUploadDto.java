@@ -0,0 +1,18 @@
+package com.example.wegather.global.upload.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 서명된 업로드 URL 발급 결과
+ * 클라이언트는 uploadUrl 로 파일을 PUT 한 뒤, storedFileName 으로 업로드 완료를 알립니다.
+ */
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+public class PresignedUploadDto {
+  private String storedFileName;
+  private String uploadUrl;
+  private LocalDateTime expiresAt;
+}
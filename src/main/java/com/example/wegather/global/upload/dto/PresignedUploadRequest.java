@@ -0,0 +1,19 @@
+package com.example.wegather.global.upload.dto;
+
+import javax.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 서명된 업로드 URL 발급 요청
+ * contentType 은 클라이언트가 업로드 시 Content-Type 헤더로 그대로 보내야 합니다.
+ */
+@Getter
+@AllArgsConstructor @Builder
+public class PresignedUploadRequest {
+  @NotEmpty
+  private String originalFileName;
+  @NotEmpty
+  private String contentType;
+}
@@ -0,0 +1,17 @@
+package com.example.wegather.global.upload.dto;
+
+import javax.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 서명된 URL 로 업로드한 파일을 지정하는 요청
+ */
+@Getter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class UploadedImageRequest {
+  @NotEmpty
+  private String storedFileName;
+}
@@ -2,7 +2,9 @@ package com.example.wegather.global.upload.entity;
 
 import com.example.wegather.global.BaseTimeEntity;
 import com.example.wegather.member.domain.entity.Member;
+import java.time.LocalDateTime;
 import javax.persistence.Entity;
+import javax.persistence.Column;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
@@ -10,7 +12,9 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,6 +23,10 @@ import lombok.NoArgsConstructor;
 
 @Builder
 @Getter @AllArgsConstructor @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    @Index(name = "idx_file_upload_history_stored_file_name", columnList = "stored_file_name"),
+    @Index(name = "idx_file_upload_history_content_hash", columnList = "content_hash")
+})
 @Entity
 public class FileUploadHistory extends BaseTimeEntity {
   @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,6 +40,31 @@ public class FileUploadHistory extends BaseTimeEntity {
   private StorageType storageType;
   @Enumerated(EnumType.STRING)
   private FileUploadStatus fileUploadStatus;
+  // 파일 내용의 SHA-256 (hex), 같은 내용의 업로드는 저장된 파일을 재사용합니다.
+  @Column(length = 64)
+  private String contentHash;
+  // 저장된 파일을 사용하는 업로드 수, 0 이 되면 파일을 삭제합니다.
+  @Builder.Default
+  private int referenceCount = 1;
+  // 스토리지 삭제에 실패한 횟수와 다시 삭제할 시각 (삭제 대기 상태에서만 사용)
+  private int deleteAttemptCount;
+  private LocalDateTime nextDeleteAttemptAt;
+
+  public void uploaded() {
+    fileUploadStatus = FileUploadStatus.UPLOADED;
+  }
+
+  public boolean isPending() {
+    return fileUploadStatus == FileUploadStatus.PENDING;
+  }
+
+  public boolean isUploaded() {
+    return fileUploadStatus == FileUploadStatus.UPLOADED;
+  }
+
+  public boolean isUploadedBy(Long memberId) {
+    return member != null && member.getId().equals(memberId);
+  }
 
   public void deleted() {
     fileUploadStatus = FileUploadStatus.DELETED;
@@ -1,5 +1,5 @@
 package com.example.wegather.global.upload.entity;
 
 public enum FileUploadStatus {
-  UPLOADED, DELETED
+  PENDING, UPLOADED, PENDING_DELETE, DELETED
 }
@@ -0,0 +1,45 @@
+package com.example.wegather.global.upload.entity;
+
+import com.example.wegather.global.BaseTimeEntity;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업로드된 이미지로 생성한 축소 이미지
+ */
+@Builder
+@Getter @AllArgsConstructor @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"file_upload_history_id", "variant"}))
+@Entity
+public class FileUploadVariant extends BaseTimeEntity {
+  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "file_upload_history_id")
+  private FileUploadHistory fileUploadHistory;
+  @Enumerated(EnumType.STRING)
+  private ImageVariant variant;
+  private String storedFileName;
+
+  public static FileUploadVariant of(FileUploadHistory fileUploadHistory, ImageVariant variant, String storedFileName) {
+    return FileUploadVariant.builder()
+        .fileUploadHistory(fileUploadHistory)
+        .variant(variant)
+        .storedFileName(storedFileName)
+        .build();
+  }
+}
@@ -0,0 +1,31 @@
+package com.example.wegather.global.upload.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드된 이미지로 생성하는 축소 이미지의 크기
+ * 긴 변의 길이가 size 이하가 되도록 비율을 유지하여 줄입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+  SMALL(64),    // 회원 목록 프로필
+  MEDIUM(256),  // 검색 결과 카드
+  LARGE(1024);  // 상세 화면
+
+  public static final String EXTENSION = "jpg";
+
+  private final int size;
+
+  /**
+   * 원본 저장 파일명으로 축소 이미지의 저장 파일명을 만듭니다.
+   * ex) images/2024/2024-01-29/UUID.png -> images/2024/2024-01-29/UUID_256.jpg
+   */
+  public String storedFileNameOf(String originalStoredFileName) {
+    int extPos = originalStoredFileName.lastIndexOf(".");
+    String baseName = extPos > originalStoredFileName.lastIndexOf("/")
+        ? originalStoredFileName.substring(0, extPos) : originalStoredFileName;
+    return baseName + "_" + size + "." + EXTENSION;
+  }
+}
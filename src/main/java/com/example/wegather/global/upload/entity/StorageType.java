@@ -1,5 +1,5 @@
 package com.example.wegather.global.upload.entity;
 
 public enum StorageType {
-  AWS_S3
+  AWS_S3, LOCAL
 }
@@ -0,0 +1,15 @@
+package com.example.wegather.global.upload.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이미지 업로드 완료 이벤트
+ * 트랜잭션 커밋 이후 축소 이미지 생성에 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ImageUploadedEvent {
+  private final Long fileUploadHistoryId;
+  private final String storedFileName;
+}
@@ -2,33 +2,69 @@ package com.example.wegather.global.upload.repository;
 
 import static com.example.wegather.global.exception.ErrorCode.*;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.ResponseHeaderOverrides;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.example.wegather.global.exception.customException.FileUploadException;
+import com.example.wegather.global.upload.StoredFile;
 import com.example.wegather.global.upload.UploadFile;
+import com.example.wegather.global.upload.entity.StorageType;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.image.storage-type", havingValue = "AWS_S3", matchIfMissing = true)
 @Service
 public class AWSFileManager extends AbstractFileManager {
 
+  // DeleteObjects API 한 번에 삭제할 수 있는 최대 파일 수
+  private static final int MAX_DELETE_OBJECTS = 1000;
+  // ListObjectsV2 API 한 번에 조회할 수 있는 최대 파일 수
+  private static final int MAX_LIST_KEYS = 1000;
+
   @Value("${application.bucket.name}")
   private String bucketName;
 
+  @Value("${application.image.multipart.threshold:16MB}")
+  private DataSize multipartThreshold;
+
   private final AmazonS3 s3Client;
+  private final S3MultipartUploader multipartUploader;
+
+  @Override
+  public StorageType getStorageType() {
+    return StorageType.AWS_S3;
+  }
 
   @Override
   public Resource getFile(String filename) {
@@ -47,9 +83,11 @@ public class AWSFileManager extends AbstractFileManager {
     String storeFileName = createStoreFileName(multipartFile.getOriginalFilename());
     ObjectMetadata objectMetadata = new ObjectMetadata();
     objectMetadata.setContentType(multipartFile.getContentType());
+    // 크기를 지정하지 않으면 SDK 가 전체 스트림을 메모리에 버퍼링합니다.
+    objectMetadata.setContentLength(multipartFile.getSize());
 
     try (InputStream inputStream = multipartFile.getInputStream()) {
-      s3Client.putObject(new PutObjectRequest(bucketName, storeFileName, inputStream, objectMetadata));
+      putObject(storeFileName, inputStream, objectMetadata);
     } catch (IOException e) {
       throw new FileUploadException(FAIL_TO_UPLOAD_FILE.getDescription());
     }
@@ -57,6 +95,42 @@ public class AWSFileManager extends AbstractFileManager {
     return UploadFile.of(multipartFile.getOriginalFilename(), storeFileName);
   }
 
+  /**
+   * InputStream 을 입력받아 AWS S3 에 업로드 합니다.
+   * 크기를 지정하므로 SDK 가 스트림을 메모리에 버퍼링하지 않습니다.
+   * @param inputStream 파일 내용
+   * @param contentLength 파일 크기
+   * @param originalName 파일의 원래 이름
+   * @param contentType 파일의 Content-Type
+   * @return
+   */
+  @Override
+  public UploadFile storeFile(InputStream inputStream, long contentLength, String originalName,
+      String contentType) {
+    String storeFileName = createStoreFileName(originalName);
+    ObjectMetadata objectMetadata = new ObjectMetadata();
+    objectMetadata.setContentLength(contentLength);
+    if (contentType != null) {
+      objectMetadata.setContentType(contentType);
+    }
+
+    putObject(storeFileName, inputStream, objectMetadata);
+
+    return UploadFile.of(originalName, storeFileName);
+  }
+
+  /**
+   * 파일 크기가 threshold 이상이면 multipart upload 로 나누어 병렬로 업로드합니다.
+   * 파트 단위로 재시도되므로, 큰 파일의 일부 전송이 실패해도 전체를 다시 보내지 않습니다.
+   */
+  private void putObject(String storeFileName, InputStream inputStream, ObjectMetadata objectMetadata) {
+    if (objectMetadata.getContentLength() >= multipartThreshold.toBytes()) {
+      multipartUploader.upload(bucketName, storeFileName, inputStream, objectMetadata);
+      return;
+    }
+    s3Client.putObject(new PutObjectRequest(bucketName, storeFileName, inputStream, objectMetadata));
+  }
+
   /**
    * 이미지 형태의 Byte 배열을 입력받아 AWS S3 에 업로드 합니다.
    * originalFileName 은 "확장자"를 포합해야합니다.
@@ -79,8 +153,89 @@ public class AWSFileManager extends AbstractFileManager {
     return UploadFile.of(originalName, storeFileName);
   }
 
+  @Override
+  public void storeFile(String storedFileName, byte[] bytes, String contentType) {
+    ObjectMetadata objectMetadata = new ObjectMetadata();
+    objectMetadata.setContentLength(bytes.length);
+    objectMetadata.setContentType(contentType);
+
+    try (InputStream inputStream = new ByteArrayInputStream(bytes)) {
+      s3Client.putObject(new PutObjectRequest(bucketName, storedFileName, inputStream, objectMetadata));
+    } catch (IOException e) {
+      throw new FileUploadException(FAIL_TO_UPLOAD_FILE.getDescription());
+    }
+  }
+
+  @Override
+  public boolean supportsSignedUrl() {
+    return true;
+  }
+
+  @Override
+  public URL generateUploadUrl(String filename, String contentType, Date expiration) {
+    GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, filename, HttpMethod.PUT)
+        .withContentType(contentType)
+        .withExpiration(expiration);
+    return s3Client.generatePresignedUrl(request);
+  }
+
+  @Override
+  public URL generateDownloadUrl(String filename, Date expiration) {
+    GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, filename, HttpMethod.GET)
+        .withExpiration(expiration)
+        .withResponseHeaders(new ResponseHeaderOverrides().withCacheControl(IMMUTABLE_CACHE_CONTROL));
+    return s3Client.generatePresignedUrl(request);
+  }
+
+  @Override
+  public Optional<Long> getFileSize(String filename) {
+    try {
+      return Optional.of(s3Client.getObjectMetadata(bucketName, filename).getContentLength());
+    } catch (AmazonS3Exception e) {
+      if (e.getStatusCode() == 404) {
+        return Optional.empty();
+      }
+      throw e;
+    }
+  }
+
   @Override
   public void deleteFile(String filename) {
     s3Client.deleteObject(bucketName, filename);
   }
+
+  /**
+   * DeleteObjects API 로 최대 1000개씩 묶어서 삭제합니다.
+   * 일부 파일만 실패한 경우 실패한 파일명을 반환하며, 요청 자체가 실패하면 예외가 발생합니다.
+   */
+  @Override
+  public List<String> deleteFiles(Collection<String> filenames) {
+    List<KeyVersion> keys = filenames.stream().map(KeyVersion::new).collect(Collectors.toList());
+    List<String> failedFilenames = new ArrayList<>();
+    for (int from = 0; from < keys.size(); from += MAX_DELETE_OBJECTS) {
+      List<KeyVersion> batch = keys.subList(from, Math.min(from + MAX_DELETE_OBJECTS, keys.size()));
+      try {
+        s3Client.deleteObjects(new DeleteObjectsRequest(bucketName).withKeys(batch).withQuiet(true));
+      } catch (MultiObjectDeleteException e) {
+        e.getErrors().forEach(error -> failedFilenames.add(error.getKey()));
+      }
+    }
+    return failedFilenames;
+  }
+
+  @Override
+  public void listFiles(String prefix, Consumer<List<StoredFile>> pageConsumer) {
+    ListObjectsV2Request request = new ListObjectsV2Request()
+        .withBucketName(bucketName)
+        .withPrefix(prefix)
+        .withMaxKeys(MAX_LIST_KEYS);
+    ListObjectsV2Result result;
+    do {
+      result = s3Client.listObjectsV2(request);
+      pageConsumer.accept(result.getObjectSummaries().stream()
+          .map(summary -> new StoredFile(summary.getKey(), summary.getLastModified().toInstant()))
+          .collect(Collectors.toList()));
+      request.setContinuationToken(result.getNextContinuationToken());
+    } while (result.isTruncated());
+  }
 }
@@ -1,13 +1,24 @@
 package com.example.wegather.global.upload.repository;
 
+import com.example.wegather.global.upload.UploadFile;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 import org.apache.commons.codec.binary.Base64;
 
 public abstract class AbstractFileManager implements FileManager {
+  /**
+   * 저장 파일명은 UUID 기반으로 내용이 바뀌지 않으므로, 브라우저가 1년간 재검증 없이 캐시하도록 합니다.
+   */
+  public static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
   private static final DateTimeFormatter simpleDateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+  @Override
+  public UploadFile storeFile(InputStream inputStream, long contentLength, String originalName) {
+    return storeFile(inputStream, contentLength, originalName, null);
+  }
+
   /**
    * 저장할 파일 이름을 생성합니다.
    * 1. 생성한 날짜로 폴더를 구분합니다.
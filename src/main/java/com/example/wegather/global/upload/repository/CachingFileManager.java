@@ -0,0 +1,394 @@
+package com.example.wegather.global.upload.repository;
+
+import static com.example.wegather.global.exception.ErrorCode.*;
+
+import com.example.wegather.global.upload.StoredFile;
+import com.example.wegather.global.upload.UploadFile;
+import com.example.wegather.global.upload.entity.StorageType;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 스토리지에서 가져온 이미지를 로컬 디스크에 캐시하는 FileManager 입니다.
+ * 저장 파일명은 UUID 기반으로 내용이 바뀌지 않으므로 캐시를 무효화할 필요가 없으며,
+ * 전체 크기가 max-size 를 넘으면 가장 오래 사용하지 않은 파일부터 삭제합니다. (LRU)
+ * 캐시된 파일은 FileSystemResource 로 반환되어 Range 요청이 가능하며,
+ * ImageUploadController 는 Tomcat sendfile 로 파일을 힙 버퍼에 복사하지 않고 전송합니다. (zero-copy)
+ * 반환한 파일은 읽기가 끝날 때까지 고정(pin)되어 삭제되지 않습니다.
+ * - 웹 요청 중에 반환한 파일은 요청이 끝날 때 고정을 해제합니다.
+ *   sendfile 은 요청 처리가 끝난 뒤 Tomcat 이 파일을 열어 전송하므로, 고정을 해제한 뒤에도 잠시 LRU 삭제에서 제외합니다.
+ * - 그 외에는 처음 연 InputStream 을 닫을 때 고정을 해제합니다.
+ */
+@Slf4j
+@Primary
+// 로컬 디스크 스토리지(LOCAL)는 캐시할 필요가 없으므로 S3 를 사용할 때만 등록합니다.
+@ConditionalOnExpression("${application.image.disk-cache.enabled:false} "
+    + "and '${application.image.storage-type:AWS_S3}' == 'AWS_S3'")
+@Service
+public class CachingFileManager extends AbstractFileManager {
+  private static final String TEMP_FILE_SUFFIX = ".tmp";
+  private static final String PIN_CALLBACK_PREFIX = CachingFileManager.class.getName() + ".pin.";
+  // 웹 요청이 끝난 뒤 Tomcat 이 sendfile 로 파일을 열 때까지 LRU 삭제를 미루는 시간
+  private static final long SENDFILE_GRACE_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+  private final AWSFileManager delegate;
+  private final Path cacheDir;
+  private final long maxCacheBytes;
+
+  // 접근 순서로 정렬된 캐시 파일 목록 (파일명 -> 크기)
+  private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+  // 읽는 중인 파일 (파일명 -> 고정 수), 아래 필드는 모두 entries 의 lock 안에서 접근합니다.
+  private final Map<String, Integer> pins = new HashMap<>();
+  // 읽는 중에 스토리지에서 삭제되어, 고정이 해제되면 삭제할 파일
+  private final Set<String> deleteOnRelease = new HashSet<>();
+  // 웹 요청에서 반환한 파일 (파일명 -> LRU 삭제에서 제외할 시각, System.nanoTime 기준)
+  private final Map<String, Long> sendfileGraceUntil = new HashMap<>();
+  private final AtomicLong pinSequence = new AtomicLong();
+  private long cachedBytes;
+
+  public CachingFileManager(AWSFileManager delegate,
+      @Value("${application.image.disk-cache.dir:${java.io.tmpdir}/wegather-image-cache}") String cacheDir,
+      @Value("${application.image.disk-cache.max-size:1GB}") DataSize maxCacheSize) throws IOException {
+    this.delegate = delegate;
+    this.cacheDir = Paths.get(cacheDir).toAbsolutePath().normalize();
+    this.maxCacheBytes = maxCacheSize.toBytes();
+    Files.createDirectories(this.cacheDir);
+    loadCachedFiles();
+  }
+
+  /**
+   * 서버 재시작 시 디스크에 남아있는 캐시 파일을 최근 수정 순서로 다시 등록합니다.
+   */
+  private void loadCachedFiles() throws IOException {
+    try (Stream<Path> files = Files.walk(cacheDir)) {
+      files.filter(Files::isRegularFile)
+          .sorted(Comparator.comparing(this::lastModifiedTime))
+          .forEach(file -> {
+            if (file.getFileName().toString().endsWith(TEMP_FILE_SUFFIX)) {
+              deleteQuietly(file);
+              return;
+            }
+            String filename = cacheDir.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+            synchronized (entries) {
+              register(filename, sizeOf(file));
+            }
+          });
+    }
+    synchronized (entries) {
+      evictIfNeeded();
+    }
+  }
+
+  @Override
+  public StorageType getStorageType() {
+    return delegate.getStorageType();
+  }
+
+  /**
+   * 캐시된 파일을 고정하여 반환합니다. 캐시되지 않은 파일은 스토리지에서 받아 캐시한 뒤 반환합니다.
+   */
+  @Override
+  public Resource getFile(String filename) {
+    Path cachedFile = resolveCachePath(filename);
+    CachedFileResource resource = null;
+    synchronized (entries) {
+      if (entries.get(filename) != null) {
+        resource = pin(filename, cachedFile);
+      }
+    }
+
+    if (resource == null) {
+      try {
+        resource = download(filename, cachedFile);
+      } catch (IOException e) {
+        log.warn("## 이미지 캐시 저장 실패, 스토리지에서 직접 반환합니다. filename: {}", filename, e);
+        return delegate.getFile(filename);
+      }
+    }
+    registerRelease(resource);
+    return resource;
+  }
+
+  /**
+   * 스토리지의 파일을 임시 파일로 받은 뒤, 캐시 경로로 이동합니다.
+   * 이동은 원자적으로 처리되므로, 다른 요청이 받는 중인 파일을 읽는 일이 없습니다.
+   * @return 고정된 캐시 파일
+   */
+  private CachedFileResource download(String filename, Path cachedFile) throws IOException {
+    Files.createDirectories(cachedFile.getParent());
+    Path tempFile = Files.createTempFile(cachedFile.getParent(), cachedFile.getFileName().toString(), TEMP_FILE_SUFFIX);
+    try (InputStream inputStream = delegate.getFile(filename).getInputStream()) {
+      Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+      Files.move(tempFile, cachedFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException | RuntimeException e) {
+      deleteQuietly(tempFile);
+      throw e;
+    }
+
+    synchronized (entries) {
+      register(filename, Files.size(cachedFile));
+      CachedFileResource resource = pin(filename, cachedFile);
+      evictIfNeeded();
+      return resource;
+    }
+  }
+
+  // entries 의 lock 안에서 호출합니다.
+  private CachedFileResource pin(String filename, Path cachedFile) {
+    pins.merge(filename, 1, Integer::sum);
+    return new CachedFileResource(cachedFile, afterRequest -> release(filename, afterRequest),
+        RequestContextHolder.getRequestAttributes() == null);
+  }
+
+  // 웹 요청 중이면 요청이 끝날 때 고정을 해제합니다.
+  private void registerRelease(CachedFileResource resource) {
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (requestAttributes != null) {
+      requestAttributes.registerDestructionCallback(
+          PIN_CALLBACK_PREFIX + pinSequence.incrementAndGet(), () -> resource.release(true),
+          RequestAttributes.SCOPE_REQUEST);
+    }
+  }
+
+  private void release(String filename, boolean afterRequest) {
+    synchronized (entries) {
+      if (afterRequest) {
+        sendfileGraceUntil.put(filename, System.nanoTime() + SENDFILE_GRACE_NANOS);
+      }
+      pins.computeIfPresent(filename, (key, count) -> count > 1 ? count - 1 : null);
+      if (pins.containsKey(filename)) {
+        return;
+      }
+      if (deleteOnRelease.remove(filename)) {
+        deleteQuietly(resolveCachePath(filename));
+      }
+      evictIfNeeded();
+    }
+  }
+
+  private void register(String filename, long size) {
+    Long previous = entries.put(filename, size);
+    cachedBytes += size - (previous == null ? 0 : previous);
+  }
+
+  /**
+   * 전체 크기가 max-size 이하가 될 때까지 가장 오래 사용하지 않은 파일부터 삭제합니다.
+   * 읽는 중인(고정된) 파일과 sendfile 로 전송 중일 수 있는 파일은 건너뛰며, 고정이 해제될 때 다시 확인합니다.
+   */
+  private void evictIfNeeded() {
+    long now = System.nanoTime();
+    Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+    while (cachedBytes > maxCacheBytes && iterator.hasNext()) {
+      Map.Entry<String, Long> eldest = iterator.next();
+      if (pins.containsKey(eldest.getKey()) || inSendfileGrace(eldest.getKey(), now)) {
+        continue;
+      }
+      iterator.remove();
+      cachedBytes -= eldest.getValue();
+      deleteQuietly(resolveCachePath(eldest.getKey()));
+    }
+  }
+
+  // entries 의 lock 안에서 호출합니다. 지난 시각은 함께 제거합니다.
+  private boolean inSendfileGrace(String filename, long now) {
+    Long graceUntil = sendfileGraceUntil.get(filename);
+    if (graceUntil == null) {
+      return false;
+    }
+    if (graceUntil - now > 0) {
+      return true;
+    }
+    sendfileGraceUntil.remove(filename);
+    return false;
+  }
+
+  /**
+   * 파일명을 캐시 디렉토리 내의 경로로 변환합니다.
+   * 요청 경로로 전달된 파일명이 캐시 디렉토리 밖을 가리키지 않도록 확인합니다.
+   */
+  private Path resolveCachePath(String filename) {
+    Path path = cacheDir.resolve(filename).normalize();
+    if (!path.startsWith(cacheDir) || path.equals(cacheDir)) {
+      throw new IllegalArgumentException(INVALID_INPUT_ERROR.getDescription());
+    }
+    return path;
+  }
+
+  private FileTime lastModifiedTime(Path file) {
+    try {
+      return Files.getLastModifiedTime(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private long sizeOf(Path file) {
+    try {
+      return Files.size(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("## 이미지 캐시 파일 삭제 실패: {}", file, e);
+    }
+  }
+
+  @Override
+  public UploadFile storeFile(MultipartFile multipartFile) {
+    return delegate.storeFile(multipartFile);
+  }
+
+  @Override
+  public UploadFile storeFile(InputStream inputStream, long contentLength, String originalName,
+      String contentType) {
+    return delegate.storeFile(inputStream, contentLength, originalName, contentType);
+  }
+
+  @Override
+  public UploadFile storeFile(byte[] bytes, String originalName) {
+    return delegate.storeFile(bytes, originalName);
+  }
+
+  @Override
+  public void storeFile(String storedFileName, byte[] bytes, String contentType) {
+    delegate.storeFile(storedFileName, bytes, contentType);
+  }
+
+  @Override
+  public boolean supportsSignedUrl() {
+    return delegate.supportsSignedUrl();
+  }
+
+  @Override
+  public URL generateUploadUrl(String filename, String contentType, Date expiration) {
+    return delegate.generateUploadUrl(filename, contentType, expiration);
+  }
+
+  @Override
+  public URL generateDownloadUrl(String filename, Date expiration) {
+    return delegate.generateDownloadUrl(filename, expiration);
+  }
+
+  @Override
+  public Optional<Long> getFileSize(String filename) {
+    return delegate.getFileSize(filename);
+  }
+
+  @Override
+  public void deleteFile(String filename) {
+    delegate.deleteFile(filename);
+    evictCachedFile(filename);
+  }
+
+  @Override
+  public List<String> deleteFiles(Collection<String> filenames) {
+    List<String> failedFilenames = delegate.deleteFiles(filenames);
+    Set<String> failed = new HashSet<>(failedFilenames);
+    filenames.stream()
+        .filter(filename -> !failed.contains(filename))
+        .forEach(this::evictCachedFile);
+    return failedFilenames;
+  }
+
+  @Override
+  public void listFiles(String prefix, Consumer<List<StoredFile>> pageConsumer) {
+    delegate.listFiles(prefix, pageConsumer);
+  }
+
+  private void evictCachedFile(String filename) {
+    synchronized (entries) {
+      Long size = entries.remove(filename);
+      if (size != null) {
+        cachedBytes -= size;
+      }
+      // 스토리지에서 삭제된 파일은 전송 중이더라도 삭제합니다.
+      sendfileGraceUntil.remove(filename);
+      if (pins.containsKey(filename)) {
+        deleteOnRelease.add(filename);
+        return;
+      }
+    }
+    deleteQuietly(resolveCachePath(filename));
+  }
+
+  /**
+   * 고정된 캐시 파일
+   * 웹 요청 밖에서 반환된 경우, 처음 연 InputStream 을 닫을 때 고정을 해제합니다.
+   */
+  private static class CachedFileResource extends FileSystemResource {
+    // 고정 해제 (웹 요청이 끝나서 해제하는지 여부)
+    private final Consumer<Boolean> releaser;
+    private final boolean releaseOnClose;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    CachedFileResource(Path path, Consumer<Boolean> releaser, boolean releaseOnClose) {
+      super(path);
+      this.releaser = releaser;
+      this.releaseOnClose = releaseOnClose;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+      InputStream inputStream = super.getInputStream();
+      if (!releaseOnClose) {
+        return inputStream;
+      }
+      return new FilterInputStream(inputStream) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            release(false);
+          }
+        }
+      };
+    }
+
+    void release(boolean afterRequest) {
+      if (released.compareAndSet(false, true)) {
+        releaser.accept(afterRequest);
+      }
+    }
+  }
+}
@@ -1,11 +1,25 @@
 package com.example.wegather.global.upload.repository;
 
+import com.example.wegather.global.upload.StoredFile;
 import com.example.wegather.global.upload.UploadFile;
+import com.example.wegather.global.upload.entity.StorageType;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface FileManager {
 
+  /**
+   * 파일이 저장되는 스토리지 종류를 반환합니다.
+   */
+  StorageType getStorageType();
+
   /**
    * 해당 파일을 반환합니다.
    * @param filename
@@ -20,6 +34,26 @@ public interface FileManager {
    */
   UploadFile storeFile(MultipartFile multipartFile);
 
+  /**
+   * InputStream 의 파일을 업로드 합니다.
+   * 크기를 미리 알려주어 전체 내용을 메모리에 올리지 않고 전송합니다.
+   * @param inputStream 파일 내용
+   * @param contentLength 파일 크기 (byte)
+   * @param originalName 파일의 원래 이름 (확장자 포함)
+   * @return
+   */
+  UploadFile storeFile(InputStream inputStream, long contentLength, String originalName);
+
+  /**
+   * InputStream 의 파일을 Content-Type 과 함께 업로드 합니다.
+   * @param inputStream 파일 내용
+   * @param contentLength 파일 크기 (byte)
+   * @param originalName 파일의 원래 이름 (확장자 포함)
+   * @param contentType 파일의 Content-Type (null 이면 지정하지 않습니다.)
+   * @return
+   */
+  UploadFile storeFile(InputStream inputStream, long contentLength, String originalName, String contentType);
+
   /**
    * byte[] 의 파일을 업로드 합니다.
    * MultipartFile 형태의 입력값을 사용하도록 권장 (base64 입력방식은 deprecated)
@@ -30,9 +64,63 @@ public interface FileManager {
   @Deprecated
   UploadFile storeFile(byte[] bytes, String originalName);
 
+  /**
+   * 지정한 이름으로 파일을 저장합니다.
+   * 서버에서 생성한 파일(축소 이미지 등)을 저장할 때 사용합니다.
+   * @param storedFileName 저장할 파일명
+   * @param bytes 파일 내용
+   * @param contentType 파일의 Content-Type
+   */
+  void storeFile(String storedFileName, byte[] bytes, String contentType);
+
+  /**
+   * 서명된 URL(generateUploadUrl, generateDownloadUrl)을 지원하는지 여부
+   */
+  boolean supportsSignedUrl();
+
+  /**
+   * 클라이언트가 서버를 거치지 않고 직접 업로드할 수 있는 서명된 URL 을 생성합니다.
+   * @param filename 저장될 파일명
+   * @param contentType 업로드할 파일의 Content-Type
+   * @param expiration URL 만료 시각
+   * @return PUT 요청용 서명된 URL
+   */
+  URL generateUploadUrl(String filename, String contentType, Date expiration);
+
+  /**
+   * 클라이언트가 서버를 거치지 않고 직접 다운로드할 수 있는 서명된 URL 을 생성합니다.
+   * @param filename 저장된 파일명
+   * @param expiration URL 만료 시각
+   * @return GET 요청용 서명된 URL
+   */
+  URL generateDownloadUrl(String filename, Date expiration);
+
+  /**
+   * 저장된 파일의 크기를 반환합니다.
+   * @param filename
+   * @return 파일 크기 (byte), 파일이 없으면 empty
+   */
+  Optional<Long> getFileSize(String filename);
+
   /**
    * 파일을 삭제합니다.
    * @param filename
    */
   void deleteFile(String filename);
+
+  /**
+   * 여러 파일을 한 번에 삭제합니다.
+   * 없는 파일은 삭제된 것으로 처리합니다.
+   * @param filenames 삭제할 파일명 목록
+   * @return 삭제에 실패한 파일명 목록
+   */
+  List<String> deleteFiles(Collection<String> filenames);
+
+  /**
+   * prefix 로 시작하는 저장된 파일 목록을 페이지 단위로 조회합니다.
+   * 전체 목록을 메모리에 올리지 않도록, 한 페이지씩 조회하여 pageConsumer 에 전달합니다.
+   * @param prefix 조회할 파일명 prefix
+   * @param pageConsumer 한 페이지의 파일 목록을 처리하는 함수
+   */
+  void listFiles(String prefix, Consumer<List<StoredFile>> pageConsumer);
 }
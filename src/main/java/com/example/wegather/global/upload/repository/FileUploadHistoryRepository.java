@@ -1,9 +1,124 @@
 package com.example.wegather.global.upload.repository;
 
 import com.example.wegather.global.upload.entity.FileUploadHistory;
+import com.example.wegather.global.upload.entity.FileUploadStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface FileUploadHistoryRepository extends JpaRepository<FileUploadHistory, Long> {
   Optional<FileUploadHistory> findByStoredFileName(String storedFileName);
+
+  Optional<FileUploadHistory> findFirstByContentHashAndFileUploadStatus(String contentHash, FileUploadStatus status);
+
+  /**
+   * 업로드 완료 상태인 경우에만 참조 수를 1 증가시킵니다.
+   * 동시에 삭제 중인 파일은 상태가 바뀌어 증가되지 않으므로, 삭제된 파일을 재사용하지 않습니다.
+   * @param id 업로드 내역 ID
+   * @return 증가했으면 1, 업로드 완료 상태가 아니면 0
+   */
+  @Modifying(flushAutomatically = true)
+  @Query("update FileUploadHistory h "
+      + "set h.referenceCount = h.referenceCount + 1 "
+      + "where h.id = :id "
+      + "and h.fileUploadStatus = com.example.wegather.global.upload.entity.FileUploadStatus.UPLOADED")
+  int acquireReference(Long id);
+
+  /**
+   * 참조 수를 1 감소시킵니다.
+   * row 에 lock 이 걸리므로, 트랜잭션이 끝날 때까지 다른 요청이 참조 수를 변경할 수 없습니다.
+   * @param id 업로드 내역 ID
+   * @return 변경된 row 수
+   */
+  @Modifying(flushAutomatically = true)
+  @Query("update FileUploadHistory h "
+      + "set h.referenceCount = h.referenceCount - 1 "
+      + "where h.id = :id and h.referenceCount > 0")
+  int releaseReference(Long id);
+
+  /**
+   * 참조가 남아있지 않은 경우에만 상태를 변경합니다.
+   * @param id 업로드 내역 ID
+   * @param status 변경할 상태 (DELETED, PENDING_DELETE)
+   * @return 변경했으면 1, 참조가 남아있으면 0
+   */
+  @Modifying(flushAutomatically = true)
+  @Query("update FileUploadHistory h "
+      + "set h.fileUploadStatus = :status "
+      + "where h.id = :id and h.referenceCount = 0")
+  int changeStatusIfUnreferenced(Long id, FileUploadStatus status);
+
+  /**
+   * ID 이후의 삭제 대기 중인 업로드 내역 중, 삭제할 시각이 된 내역을 ID 순서로 조회합니다.
+   * @param lastId 이전에 조회한 마지막 ID
+   * @param now 현재 시각
+   */
+  @Query("select h from FileUploadHistory h "
+      + "where h.fileUploadStatus = com.example.wegather.global.upload.entity.FileUploadStatus.PENDING_DELETE "
+      + "and (h.nextDeleteAttemptAt is null or h.nextDeleteAttemptAt <= :now) "
+      + "and h.id > :lastId order by h.id")
+  List<FileUploadHistory> findPendingDeleteAfter(Long lastId, LocalDateTime now, Pageable pageable);
+
+  /**
+   * 삭제에 실패한 내역의 실패 횟수를 증가시키고, 다시 삭제할 시각을 기록합니다.
+   * @param ids 업로드 내역 ID
+   * @param nextAttemptAt 다시 삭제할 시각
+   * @return 변경된 row 수
+   */
+  @Transactional
+  @Modifying
+  @Query("update FileUploadHistory h "
+      + "set h.deleteAttemptCount = h.deleteAttemptCount + 1, h.nextDeleteAttemptAt = :nextAttemptAt "
+      + "where h.id in :ids "
+      + "and h.fileUploadStatus = com.example.wegather.global.upload.entity.FileUploadStatus.PENDING_DELETE")
+  int postponeDelete(Collection<Long> ids, LocalDateTime nextAttemptAt);
+
+  /**
+   * 생성 시각 이전에 저장된, 해당 상태의 업로드 내역을 ID 순서로 조회합니다.
+   * @param status 조회할 상태
+   * @param createdBefore 생성 시각 기준
+   * @param lastId 이전에 조회한 마지막 ID
+   */
+  @Query("select h from FileUploadHistory h "
+      + "where h.fileUploadStatus = :status and h.createdAt < :createdBefore "
+      + "and h.id > :lastId order by h.id")
+  List<FileUploadHistory> findCreatedBefore(FileUploadStatus status, LocalDateTime createdBefore,
+      Long lastId, Pageable pageable);
+
+  @Query("select h.storedFileName from FileUploadHistory h where h.storedFileName in :storedFileNames")
+  List<String> findStoredFileNamesIn(Collection<String> storedFileNames);
+
+  /**
+   * 조회 이후 상태와 참조 수가 바뀌지 않은 경우에만 삭제 대기 상태로 변경합니다.
+   * 조회 후 같은 내용의 업로드로 재사용된 경우에는 참조 수가 바뀌어 변경되지 않습니다.
+   * @param id 업로드 내역 ID
+   * @param status 조회 시 상태
+   * @param referenceCount 조회 시 참조 수
+   * @return 변경했으면 1, 아니면 0
+   */
+  @Transactional
+  @Modifying
+  @Query("update FileUploadHistory h "
+      + "set h.fileUploadStatus = com.example.wegather.global.upload.entity.FileUploadStatus.PENDING_DELETE, "
+      + "h.referenceCount = 0 "
+      + "where h.id = :id and h.fileUploadStatus = :status and h.referenceCount = :referenceCount")
+  int markPendingDelete(Long id, FileUploadStatus status, int referenceCount);
+
+  /**
+   * 삭제 대기 중인 업로드 내역을 삭제 완료 상태로 변경합니다.
+   * @return 변경된 row 수
+   */
+  @Transactional
+  @Modifying
+  @Query("update FileUploadHistory h "
+      + "set h.fileUploadStatus = com.example.wegather.global.upload.entity.FileUploadStatus.DELETED "
+      + "where h.id in :ids "
+      + "and h.fileUploadStatus = com.example.wegather.global.upload.entity.FileUploadStatus.PENDING_DELETE")
+  int markDeleted(Collection<Long> ids);
 }
@@ -0,0 +1,48 @@
+package com.example.wegather.global.upload.repository;
+
+import com.example.wegather.global.upload.entity.FileUploadVariant;
+import com.example.wegather.global.upload.entity.ImageVariant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface FileUploadVariantRepository extends JpaRepository<FileUploadVariant, Long> {
+
+  /**
+   * 원본 저장 파일명에 해당하는 축소 이미지를 조회합니다.
+   * @return [원본 저장 파일명, 축소 이미지 저장 파일명] 목록
+   */
+  @Query("select h.storedFileName, v.storedFileName from FileUploadVariant v "
+      + "join v.fileUploadHistory h "
+      + "where h.storedFileName in :originalFileNames and v.variant = :variant")
+  List<Object[]> findVariantFileNames(Collection<String> originalFileNames, ImageVariant variant);
+
+  @Query("select v.storedFileName from FileUploadVariant v "
+      + "join v.fileUploadHistory h "
+      + "where h.storedFileName = :originalFileName")
+  List<String> findAllFileNamesByOriginal(String originalFileName);
+
+  /**
+   * 업로드 내역들의 축소 이미지를 조회합니다.
+   * @return [업로드 내역 ID, 축소 이미지 저장 파일명] 목록
+   */
+  @Query("select v.fileUploadHistory.id, v.storedFileName from FileUploadVariant v "
+      + "where v.fileUploadHistory.id in :fileUploadHistoryIds")
+  List<Object[]> findFileNamesByHistoryIds(Collection<Long> fileUploadHistoryIds);
+
+  @Query("select v.storedFileName from FileUploadVariant v where v.storedFileName in :storedFileNames")
+  List<String> findStoredFileNamesIn(Collection<String> storedFileNames);
+
+  /**
+   * 업로드 내역들의 축소 이미지 내역을 삭제합니다.
+   * 원본과 함께 스토리지에서 삭제한 뒤 호출합니다.
+   * @return 삭제된 row 수
+   */
+  @Transactional
+  @Modifying
+  @Query("delete from FileUploadVariant v where v.fileUploadHistory.id in :fileUploadHistoryIds")
+  int deleteByHistoryIds(Collection<Long> fileUploadHistoryIds);
+}
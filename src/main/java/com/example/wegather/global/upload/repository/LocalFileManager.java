@@ -0,0 +1,258 @@
+package com.example.wegather.global.upload.repository;
+
+import static com.example.wegather.global.exception.ErrorCode.*;
+
+import com.example.wegather.global.exception.customException.FileDeleteException;
+import com.example.wegather.global.exception.customException.FileGetException;
+import com.example.wegather.global.exception.customException.FileUploadException;
+import com.example.wegather.global.upload.StoredFile;
+import com.example.wegather.global.upload.UploadFile;
+import com.example.wegather.global.upload.entity.StorageType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 서버의 로컬 디스크에 파일을 저장하는 FileManager 입니다.
+ * 단일 서버 환경에서 외부 스토리지 없이 사용합니다. (application.image.storage-type=LOCAL)
+ * 1. 저장 파일명의 날짜 폴더(images/년/날짜/)로 디렉토리를 나누어 저장합니다.
+ * 2. 같은 디렉토리에 임시 파일로 쓴 뒤 원자적으로 이동하므로, 쓰는 중인 파일을 읽는 일이 없습니다.
+ * 3. FileSystemResource 로 반환되어 Range 요청이 가능합니다.
+ * 서명된 URL 은 지원하지 않으므로 download-mode 가 REDIRECT 여도 PROXY 로 동작합니다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "application.image.storage-type", havingValue = "LOCAL")
+@Service
+public class LocalFileManager extends AbstractFileManager {
+  private static final String TEMP_FILE_SUFFIX = ".tmp";
+  private static final int LIST_PAGE_SIZE = 1000;
+
+  private final Path rootDir;
+
+  public LocalFileManager(@Value("${file.dir}") String rootDir) throws IOException {
+    this.rootDir = Paths.get(rootDir).toAbsolutePath().normalize();
+    Files.createDirectories(this.rootDir);
+  }
+
+  @Override
+  public StorageType getStorageType() {
+    return StorageType.LOCAL;
+  }
+
+  @Override
+  public Resource getFile(String filename) {
+    Path file = resolvePath(filename);
+    if (!Files.isRegularFile(file)) {
+      throw new FileGetException(FAIL_TO_GET_FILE.getDescription());
+    }
+    return new FileSystemResource(file);
+  }
+
+  /**
+   * MultipartFile 을 저장합니다.
+   * MultipartFile.transferTo(Path) 는 업로드된 임시 파일을 이동하지 않고, 내용을 스트림으로 복사합니다.
+   */
+  @Override
+  public UploadFile storeFile(MultipartFile multipartFile) {
+    String storeFileName = createStoreFileName(multipartFile.getOriginalFilename());
+    writeAtomically(storeFileName, multipartFile::transferTo);
+    return UploadFile.of(multipartFile.getOriginalFilename(), storeFileName);
+  }
+
+  /**
+   * InputStream 의 내용을 FileChannel.transferFrom 으로 저장합니다.
+   * Content-Type 은 파일 확장자로 판단하므로 저장하지 않습니다.
+   */
+  @Override
+  public UploadFile storeFile(InputStream inputStream, long contentLength, String originalName,
+      String contentType) {
+    String storeFileName = createStoreFileName(originalName);
+    writeAtomically(storeFileName, tempFile -> {
+      try (ReadableByteChannel source = Channels.newChannel(inputStream);
+          FileChannel target = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+        long position = 0;
+        long transferred;
+        while (position < contentLength
+            && (transferred = target.transferFrom(source, position, contentLength - position)) > 0) {
+          position += transferred;
+        }
+        if (position != contentLength) {
+          throw new IOException("unexpected end of stream: " + position + "/" + contentLength);
+        }
+      }
+    });
+    return UploadFile.of(originalName, storeFileName);
+  }
+
+  @Override
+  public UploadFile storeFile(byte[] bytes, String originalName) {
+    String storeFileName = createStoreFileName(originalName);
+    writeAtomically(storeFileName, tempFile -> Files.write(tempFile, bytes));
+    return UploadFile.of(originalName, storeFileName);
+  }
+
+  @Override
+  public void storeFile(String storedFileName, byte[] bytes, String contentType) {
+    writeAtomically(storedFileName, tempFile -> Files.write(tempFile, bytes));
+  }
+
+  /**
+   * 대상 파일과 같은 디렉토리에 임시 파일을 만들어 쓴 뒤, 대상 경로로 원자적으로 이동합니다.
+   */
+  private void writeAtomically(String filename, FileWriter writer) {
+    Path file = resolvePath(filename);
+    Path tempFile = null;
+    try {
+      Files.createDirectories(file.getParent());
+      tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), TEMP_FILE_SUFFIX);
+      writer.write(tempFile);
+      Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      deleteQuietly(tempFile);
+      throw new FileUploadException(FAIL_TO_UPLOAD_FILE.getDescription(), e);
+    } catch (RuntimeException e) {
+      deleteQuietly(tempFile);
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean supportsSignedUrl() {
+    return false;
+  }
+
+  @Override
+  public URL generateUploadUrl(String filename, String contentType, Date expiration) {
+    throw new IllegalStateException(UNSUPPORTED_STORAGE_OPERATION.getDescription());
+  }
+
+  @Override
+  public URL generateDownloadUrl(String filename, Date expiration) {
+    throw new IllegalStateException(UNSUPPORTED_STORAGE_OPERATION.getDescription());
+  }
+
+  @Override
+  public Optional<Long> getFileSize(String filename) {
+    Path file = resolvePath(filename);
+    try {
+      return Files.isRegularFile(file) ? Optional.of(Files.size(file)) : Optional.empty();
+    } catch (IOException e) {
+      throw new FileGetException(FAIL_TO_GET_FILE.getDescription(), e);
+    }
+  }
+
+  @Override
+  public void deleteFile(String filename) {
+    try {
+      Files.deleteIfExists(resolvePath(filename));
+    } catch (IOException e) {
+      throw new FileDeleteException(FAIL_TO_DELETE_FILE.getDescription(), e);
+    }
+  }
+
+  @Override
+  public List<String> deleteFiles(Collection<String> filenames) {
+    List<String> failedFilenames = new ArrayList<>();
+    for (String filename : filenames) {
+      try {
+        Files.deleteIfExists(resolvePath(filename));
+      } catch (IOException e) {
+        log.warn("## 파일 삭제 실패: {}", filename, e);
+        failedFilenames.add(filename);
+      }
+    }
+    return failedFilenames;
+  }
+
+  /**
+   * 디렉토리를 순회하며 LIST_PAGE_SIZE 개씩 전달합니다.
+   * Files.walk 는 순회하면서 경로를 읽으므로, 전체 목록을 메모리에 올리지 않습니다.
+   */
+  @Override
+  public void listFiles(String prefix, Consumer<List<StoredFile>> pageConsumer) {
+    Path dir = resolvePath(prefix);
+    if (!Files.isDirectory(dir)) {
+      return;
+    }
+    try (Stream<Path> files = Files.walk(dir)) {
+      Iterator<Path> iterator = files
+          .filter(Files::isRegularFile)
+          .filter(file -> !file.getFileName().toString().endsWith(TEMP_FILE_SUFFIX))
+          .iterator();
+      List<StoredFile> page = new ArrayList<>(LIST_PAGE_SIZE);
+      while (iterator.hasNext()) {
+        page.add(toStoredFile(iterator.next()));
+        if (page.size() == LIST_PAGE_SIZE) {
+          pageConsumer.accept(page);
+          page = new ArrayList<>(LIST_PAGE_SIZE);
+        }
+      }
+      if (!page.isEmpty()) {
+        pageConsumer.accept(page);
+      }
+    } catch (IOException | UncheckedIOException e) {
+      throw new FileGetException(FAIL_TO_GET_FILE.getDescription(), e);
+    }
+  }
+
+  private StoredFile toStoredFile(Path file) {
+    String filename = rootDir.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+    try {
+      return new StoredFile(filename, Files.getLastModifiedTime(file).toInstant());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 파일명을 저장 디렉토리 내의 경로로 변환합니다.
+   * 요청 경로로 전달된 파일명이 저장 디렉토리 밖을 가리키지 않도록 확인합니다.
+   */
+  private Path resolvePath(String filename) {
+    Path path = rootDir.resolve(filename).normalize();
+    if (!path.startsWith(rootDir) || path.equals(rootDir)) {
+      throw new IllegalArgumentException(INVALID_INPUT_ERROR.getDescription());
+    }
+    return path;
+  }
+
+  private void deleteQuietly(Path file) {
+    if (file == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("## 임시 파일 삭제 실패: {}", file, e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface FileWriter {
+    void write(Path tempFile) throws IOException;
+  }
+}
@@ -0,0 +1,151 @@
+package com.example.wegather.global.upload.repository;
+
+import static com.example.wegather.global.exception.ErrorCode.*;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.example.wegather.global.exception.customException.FileUploadException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 큰 파일을 S3 multipart upload 로 나누어 병렬로 업로드합니다.
+ * 파트는 스트림에서 순서대로 읽고, 업로드는 s3UploadExecutor 에서 병렬로 처리합니다.
+ * 동시에 메모리에 올라가는 파트 수를 제한하므로, 파일 크기와 관계없이 (파트 크기 x 최대 파트 수) 만큼만 사용합니다.
+ * 파트 업로드가 실패하면 업로드 중인 파트가 끝나기를 기다린 뒤 multipart upload 를 중단(abort)하여 파트가 남지 않도록 합니다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "application.image.storage-type", havingValue = "AWS_S3", matchIfMissing = true)
+@Component
+public class S3MultipartUploader {
+  private final AmazonS3 s3Client;
+  private final ThreadPoolTaskExecutor executor;
+  private final int partSize;
+  private final Semaphore inFlightParts;
+
+  public S3MultipartUploader(AmazonS3 s3Client,
+      @Qualifier("s3UploadExecutor") ThreadPoolTaskExecutor executor,
+      @Value("${application.image.multipart.part-size:8MB}") DataSize partSize) {
+    this.s3Client = s3Client;
+    this.executor = executor;
+    this.partSize = Math.toIntExact(partSize.toBytes());
+    this.inFlightParts = new Semaphore(executor.getMaxPoolSize() * 2);
+  }
+
+  /**
+   * 파일을 파트로 나누어 업로드합니다.
+   * @param bucketName 버킷 이름
+   * @param key 저장할 파일명
+   * @param inputStream 파일 내용
+   * @param metadata Content-Length 가 지정된 메타데이터
+   * @throws FileUploadException
+   *    - 파트 업로드에 실패한 경우 (업로드는 중단됩니다.)
+   */
+  public void upload(String bucketName, String key, InputStream inputStream, ObjectMetadata metadata) {
+    long contentLength = metadata.getContentLength();
+    String uploadId = s3Client.initiateMultipartUpload(
+        new InitiateMultipartUploadRequest(bucketName, key, metadata)).getUploadId();
+    List<Future<PartETag>> parts = new ArrayList<>();
+    try {
+      long position = 0;
+      for (int partNumber = 1; position < contentLength; partNumber++) {
+        throwIfAnyFailed(parts);
+        int size = (int) Math.min(partSize, contentLength - position);
+        parts.add(uploadPart(new UploadPartRequest()
+            .withBucketName(bucketName)
+            .withKey(key)
+            .withUploadId(uploadId)
+            .withPartNumber(partNumber)
+            .withPartSize(size), inputStream));
+        position += size;
+      }
+
+      List<PartETag> partETags = new ArrayList<>();
+      for (Future<PartETag> part : parts) {
+        partETags.add(part.get());
+      }
+      s3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+    } catch (Exception e) {
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      abort(bucketName, key, uploadId, parts);
+      throw new FileUploadException(FAIL_TO_UPLOAD_FILE.getDescription(), e);
+    }
+  }
+
+  /**
+   * 스트림에서 파트 하나를 읽어 업로드를 요청합니다.
+   * 업로드 중인 파트가 최대 개수에 도달하면 하나가 끝날 때까지 기다립니다.
+   */
+  private Future<PartETag> uploadPart(UploadPartRequest request, InputStream inputStream)
+      throws IOException, InterruptedException {
+    inFlightParts.acquire();
+    try {
+      byte[] part = inputStream.readNBytes((int) request.getPartSize());
+      if (part.length != request.getPartSize()) {
+        throw new IOException("unexpected end of stream, part: " + request.getPartNumber());
+      }
+      request.setInputStream(new ByteArrayInputStream(part));
+      return executor.submit(() -> {
+        try {
+          return s3Client.uploadPart(request).getPartETag();
+        } finally {
+          inFlightParts.release();
+        }
+      });
+    } catch (IOException | RuntimeException e) {
+      inFlightParts.release();
+      throw e;
+    }
+  }
+
+  // 이미 실패한 파트가 있으면 나머지 파트를 읽지 않고 중단합니다.
+  private void throwIfAnyFailed(List<Future<PartETag>> parts) throws ExecutionException, InterruptedException {
+    for (Future<PartETag> part : parts) {
+      if (part.isDone()) {
+        part.get();
+      }
+    }
+  }
+
+  /**
+   * 업로드 중인 파트가 모두 끝난 뒤 multipart upload 를 중단합니다.
+   * 중단 후에 끝난 파트는 스토리지에 남을 수 있으므로, 먼저 기다립니다.
+   */
+  private void abort(String bucketName, String key, String uploadId, List<Future<PartETag>> parts) {
+    for (Future<PartETag> part : parts) {
+      try {
+        part.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (ExecutionException ignored) {
+        // 실패한 파트는 중단 대상이므로 무시합니다.
+      }
+    }
+    try {
+      s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+    } catch (RuntimeException e) {
+      log.error("## multipart upload 중단 실패, key: {}, uploadId: {}", key, uploadId, e);
+    }
+  }
+}
@@ -12,4 +12,21 @@ public enum SmallGroupStatus {
   CLOSED("종료");
 
   private final String description;
+
+  /**
+   * 소모임 상태 값으로 소모임 상태를 결정합니다.
+   * 종료 > 모집중 > 공개 > 준비중 순으로 우선합니다.
+   */
+  public static SmallGroupStatus of(boolean closed, boolean recruiting, boolean published) {
+    if (closed) {
+      return CLOSED;
+    }
+    if (recruiting) {
+      return RECRUITING;
+    }
+    if (published) {
+      return PUBLISHED;
+    }
+    return BEFORE_OPEN;
+  }
 }
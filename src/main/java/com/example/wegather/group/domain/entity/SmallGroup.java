@@ -3,7 +3,6 @@ package com.example.wegather.group.domain.entity;
 import com.example.wegather.global.BaseTimeEntity;
 import com.example.wegather.group.domain.vo.RecruitingType;
 import com.example.wegather.global.vo.SmallGroupStatus;
-import com.example.wegather.group.domain.vo.SmallGroupMemberType;
 import com.example.wegather.interest.domain.Interest;
 import com.example.wegather.member.domain.entity.Member;
 import java.time.LocalDateTime;
@@ -14,6 +13,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import javax.persistence.Basic;
 import javax.persistence.CascadeType;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
@@ -21,6 +21,7 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
@@ -35,12 +36,18 @@ import org.hibernate.annotations.DynamicInsert;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @DynamicInsert
 @Entity
-@Table(name = "SMALL_GROUP")
+@Table(name = "SMALL_GROUP",
+    indexes = {
+        @Index(name = "idx_small_group_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_small_group_image", columnList = "image"),
+        @Index(name = "idx_small_group_banner", columnList = "banner")
+    })
 public class SmallGroup extends BaseTimeEntity {
   @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
   @ManyToOne(fetch = FetchType.LAZY)
   private Member leader;
+  @Column(unique = true)
   private String path;
   private String name;
   private String shortDescription;
@@ -59,6 +66,8 @@ public class SmallGroup extends BaseTimeEntity {
   private boolean published = false;
   private boolean closed = false;
   private boolean useBanner = false;
+  @Column(updatable = false)   // 동시성 보장을 위해 벌크 update 쿼리로만 변경합니다.
+  private int currentMemberCount = 0;
   @OneToMany(mappedBy = "smallGroup")
   private Set<SmallGroupMember> members = new HashSet<>();
   @OneToMany(fetch = FetchType.LAZY, mappedBy = "smallGroup", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -98,29 +107,12 @@ public class SmallGroup extends BaseTimeEntity {
         .collect(Collectors.toList());
   }
 
-  public boolean isExceedMaxMember(Long nowCount) {
-    return maxMemberCount <= nowCount;
-  }
-
-  /**
-   * 회원 ID가 해당 소모임의 회원에 포합되어 있는지 반환합니다.
-   * @param memberId 회원 ID
-   * @return
-   */
-  public boolean isMemberOrManager(Long memberId) {
-    return containsInMember(memberId);
-  }
-
   /**
-   * 회원 ID가 해당 소모임의 관리자인지 판단합니다.
-   * @param memberId 회원 ID
+   * 현재 회원수가 최대 회원수에 도달했는지 반환합니다.
    * @return
    */
-  public boolean isManager(Long memberId) {
-    return members.stream()
-        .filter(member -> member.getSmallGroupMemberType().equals(SmallGroupMemberType.MANAGER))
-        .map(SmallGroupMember::getMemberId)
-        .anyMatch(member -> member.equals(memberId));
+  public boolean isExceedMaxMember() {
+    return maxMemberCount <= currentMemberCount;
   }
 
   /**
@@ -128,11 +120,15 @@ public class SmallGroup extends BaseTimeEntity {
    * @return
    */
   public boolean isJoinable() {
-    return isPublished() && isRecruiting() && !isClosed();
+    return isJoinable(published, recruiting, closed);
   }
 
-  public int getCurrentMemberCount() {
-    return this.members.size();
+  /**
+   * 소모임 상태 값으로 가입 가능 여부를 결정합니다.
+   * 엔티티 없이 컬럼만 조회한 경우(SmallGroupDetailDto)에도 같은 규칙을 사용합니다.
+   */
+  public static boolean isJoinable(boolean published, boolean recruiting, boolean closed) {
+    return published && recruiting && !closed;
   }
 
   public void updateBanner(String banner) {
@@ -155,11 +151,6 @@ public class SmallGroup extends BaseTimeEntity {
     this.image = newImage;
   }
 
-  private boolean containsInMember(Long memberId) {
-    return members.stream().map(SmallGroupMember::getMemberId)
-        .anyMatch(memberId::equals);
-  }
-
   /**
    * 소모임을 공개 합니다.
    */
@@ -191,16 +182,7 @@ public class SmallGroup extends BaseTimeEntity {
    * @return
    */
   public SmallGroupStatus getStatus() {
-    if (this.closed) {
-      return SmallGroupStatus.CLOSED;
-    }
-    if (this.recruiting) {
-      return SmallGroupStatus.RECRUITING;
-    }
-    if (this.published) {
-      return SmallGroupStatus.PUBLISHED;
-    }
-    return SmallGroupStatus.BEFORE_OPEN;
+    return SmallGroupStatus.of(closed, recruiting, published);
   }
 
   @Override
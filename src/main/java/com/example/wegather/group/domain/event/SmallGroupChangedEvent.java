@@ -0,0 +1,30 @@
+package com.example.wegather.group.domain.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 소모임이 생성, 수정, 삭제되었을 때 발행되는 이벤트
+ * 검색 인덱스 등 DB 외부에 유지되는 소모임 데이터를 갱신하는 데 사용합니다.
+ * path 는 생성, 삭제 이벤트에만 포함됩니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class SmallGroupChangedEvent {
+  private final Long smallGroupId;
+  private final String path;
+  private final boolean deleted;
+
+  public static SmallGroupChangedEvent created(Long smallGroupId, String path) {
+    return new SmallGroupChangedEvent(smallGroupId, path, false);
+  }
+
+  public static SmallGroupChangedEvent saved(Long smallGroupId) {
+    return new SmallGroupChangedEvent(smallGroupId, null, false);
+  }
+
+  public static SmallGroupChangedEvent deleted(Long smallGroupId, String path) {
+    return new SmallGroupChangedEvent(smallGroupId, path, true);
+  }
+}
@@ -0,0 +1,18 @@
+package com.example.wegather.group.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 소모임 가입 요청이 승인 또는 거절되었을 때 발행되는 이벤트
+ * 가입을 요청한 회원에게 결과 알림을 보내는 데 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SmallGroupJoinResultEvent {
+  private final Long smallGroupId;
+  private final String path;
+  private final String name;
+  private final Long memberId;
+  private final boolean approved;
+}
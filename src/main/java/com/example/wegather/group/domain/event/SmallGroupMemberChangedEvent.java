@@ -0,0 +1,14 @@
+package com.example.wegather.group.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 소모임 회원이 추가되거나 회원 유형이 변경되었을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class SmallGroupMemberChangedEvent {
+  private final Long smallGroupId;
+  private final Long memberId;
+}
@@ -0,0 +1,17 @@
+package com.example.wegather.group.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 소모임이 처음 공개되었을 때 발행되는 이벤트
+ * 관심사가 같은 회원에게 소모임 생성 알림을 보내는 데 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SmallGroupPublishedEvent {
+  private final Long smallGroupId;
+  private final String path;
+  private final String name;
+  private final Long leaderId;
+}
@@ -2,13 +2,17 @@ package com.example.wegather.group.domain.repotitory;
 
 import com.example.wegather.group.domain.entity.SmallGroup;
 import com.example.wegather.group.domain.entity.SmallGroupMember;
+import com.example.wegather.group.domain.vo.SmallGroupMemberType;
 import com.example.wegather.member.domain.entity.Member;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 public interface SmallGroupMemberRepository extends JpaRepository<SmallGroupMember, Long> {
+  String MEMBER_TYPE_CACHE_NAME = "smallGroupMemberType";
+
   Long countBySmallGroup(SmallGroup smallGroup);
 
   boolean existsBySmallGroupAndMember(SmallGroup smallGroup, Member member);
@@ -22,6 +26,21 @@ public interface SmallGroupMemberRepository extends JpaRepository<SmallGroupMemb
 
   Optional<SmallGroupMember> findBySmallGroup_IdAndMember_Id(Long smallGroupId, Long memberId);
 
+  /**
+   * 소모임 회원 유형을 조회합니다.
+   * (small_group_id, member_id) 유니크 인덱스로 조회하며, 결과는 캐시됩니다.
+   * 캐시가 없으면 key 별 lock 을 잡고 한 번만 조회합니다. (sync)
+   * 캐시는 SmallGroupMembershipService 에서 회원 변경 시 제거합니다.
+   * @param smallGroupId 소모임 ID
+   * @param memberId 회원 ID
+   * @return 소모임 회원이 아니면 empty
+   */
+  @Cacheable(value = MEMBER_TYPE_CACHE_NAME, key = "#p0 + ':' + #p1", sync = true)
+  @Query("select sgm.smallGroupMemberType from SmallGroupMember sgm "
+      + "where sgm.smallGroup.id = :smallGroupId "
+      + "and sgm.member.id = :memberId")
+  Optional<SmallGroupMemberType> findMemberType(Long smallGroupId, Long memberId);
+
   @Query("select sgm from SmallGroupMember sgm "
       + "where sgm.smallGroup.id = :smallGroupId "
       + "and sgm.smallGroupMemberType = com.example.wegather.group.domain.vo.SmallGroupMemberType.MANAGER"
@@ -1,12 +1,91 @@
 package com.example.wegather.group.domain.repotitory;
 
 import com.example.wegather.group.domain.entity.SmallGroup;
+import com.example.wegather.group.dto.SmallGroupIndexDto;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface SmallGroupRepository extends JpaRepository<SmallGroup, Long>,
     SmallGroupRepositoryQuerydsl {
 
   Optional<SmallGroup> findByPath(String path);
 
+  boolean existsByPath(String path);
+
+  @Query("select sg.id from SmallGroup sg where sg.path = :path")
+  Optional<Long> findIdByPath(String path);
+
+  @Query("select new com.example.wegather.group.dto.SmallGroupIndexDto(sg.id, sg.name, sg.shortDescription) "
+      + "from SmallGroup sg where sg.id > :lastId order by sg.id")
+  List<SmallGroupIndexDto> findIndexTargetsAfter(Long lastId, Pageable pageable);
+
+  @Query("select new com.example.wegather.group.dto.SmallGroupIndexDto(sg.id, sg.name, sg.shortDescription) "
+      + "from SmallGroup sg where sg.id = :smallGroupId")
+  Optional<SmallGroupIndexDto> findIndexTargetById(Long smallGroupId);
+
+  /**
+   * 소모임의 현재 회원수를 1 증가시킵니다.
+   * 영속성 컨텍스트를 거치지 않고 DB 에서 원자적으로 증가시킵니다.
+   * 실행 후 영속성 컨텍스트를 비우므로, 이후에 조회하는 소모임은 DB 의 회원수를 가집니다.
+   * @param smallGroupId 소모임 ID
+   * @return 변경된 row 수
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update SmallGroup sg "
+      + "set sg.currentMemberCount = sg.currentMemberCount + 1 "
+      + "where sg.id = :smallGroupId")
+  int increaseMemberCount(Long smallGroupId);
+
+  /**
+   * 최대 회원수를 넘지 않는 경우에만 현재 회원수를 1 증가시켜 자리를 확보합니다.
+   * 조건 확인과 증가가 하나의 update 로 처리되어, 동시에 가입하더라도 최대 회원수를 초과하지 않습니다.
+   * 실행 후 영속성 컨텍스트를 비우므로, 이후에 조회하는 소모임은 DB 의 회원수를 가집니다.
+   * @param smallGroupId 소모임 ID
+   * @return 자리를 확보했으면 1, 최대 회원수에 도달했으면 0
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update SmallGroup sg "
+      + "set sg.currentMemberCount = sg.currentMemberCount + 1 "
+      + "where sg.id = :smallGroupId "
+      + "and sg.currentMemberCount < sg.maxMemberCount")
+  int reserveSeat(Long smallGroupId);
+
+  @Query("select sgi.interest.id from SmallGroupInterest sgi where sgi.smallGroup.id = :smallGroupId")
+  List<Long> findInterestIds(Long smallGroupId);
+
+  @Query("select sg.image from SmallGroup sg where sg.image in :images")
+  List<String> findImagesIn(Collection<String> images);
+
+  @Query("select sg.banner from SmallGroup sg where sg.banner in :images")
+  List<String> findBannersIn(Collection<String> images);
+
+  @Query("select max(sg.id) from SmallGroup sg")
+  Optional<Long> findMaxId();
+
+  /**
+   * ID 범위 내 소모임의 현재 회원수를 small_group_member 의 실제 회원수로 보정합니다.
+   * 회원수가 실제와 다른 소모임만 update 됩니다.
+   * @param fromId 시작 소모임 ID (포함)
+   * @param toId 끝 소모임 ID (포함)
+   * @return 보정된 소모임 수
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "update small_group sg "
+      + "inner join ("
+      + "  select g.id as small_group_id, count(sgm.id) as member_count "
+      + "  from small_group g "
+      + "  left join small_group_member sgm on sgm.small_group_id = g.id "
+      + "  where g.id between :fromId and :toId "
+      + "  group by g.id"
+      + ") actual on actual.small_group_id = sg.id "
+      + "set sg.current_member_count = actual.member_count "
+      + "where sg.current_member_count <> actual.member_count", nativeQuery = true)
+  int reconcileMemberCount(Long fromId, Long toId);
 }
@@ -2,61 +2,310 @@ package com.example.wegather.group.domain.repotitory;
 
 import static com.example.wegather.group.domain.entity.QSmallGroup.smallGroup;
 import static com.example.wegather.group.domain.entity.QSmallGroupInterest.*;
-import static com.example.wegather.group.domain.entity.QSmallGroupMember.smallGroupMember;
 import static com.example.wegather.interest.domain.QInterest.*;
 import static com.example.wegather.member.domain.entity.QMember.member;
 
+import com.example.wegather.global.vo.SmallGroupStatus;
+import com.example.wegather.group.domain.entity.QSmallGroupJoin;
 import com.example.wegather.group.domain.entity.QSmallGroupMember;
 import com.example.wegather.group.domain.entity.SmallGroup;
-import com.querydsl.core.QueryResults;
+import com.example.wegather.group.domain.search.SmallGroupNgramIndex;
+import com.example.wegather.group.domain.search.SmallGroupSearchEngine;
+import com.example.wegather.group.domain.vo.JoinRequestStatus;
+import com.example.wegather.group.dto.SmallGroupDetailDto;
+import com.example.wegather.group.dto.SmallGroupFacetDto;
+import com.example.wegather.group.dto.SmallGroupSearchCursor;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPQLQuery;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class SmallGroupRepositoryImpl extends QuerydslRepositorySupport implements SmallGroupRepositoryQuerydsl {
 
-  public SmallGroupRepositoryImpl(EntityManager entityManager) {
+  // 후보가 이보다 많으면 IN 절이 커지므로 LIKE 검색으로 처리합니다.
+  private static final int MAX_INDEX_CANDIDATES = 5000;
+
+  // MySQL ngram parser 의 기본 ngram_token_size
+  private static final int FULLTEXT_MIN_KEYWORD_LENGTH = 2;
+
+  private final SmallGroupNgramIndex smallGroupNgramIndex;
+  private final SmallGroupSearchEngine searchEngine;
+
+  public SmallGroupRepositoryImpl(EntityManager entityManager, SmallGroupNgramIndex smallGroupNgramIndex,
+      @Value("${app.search.engine:LIKE}") SmallGroupSearchEngine searchEngine) {
     super(SmallGroup.class);
     setEntityManager(entityManager);
+    this.smallGroupNgramIndex = smallGroupNgramIndex;
+    this.searchEngine = searchEngine;
   }
 
+  /**
+   * 소모임 이름 또는 짧은 소개로 소모임을 검색합니다.
+   * 컬렉션을 fetch join 한 상태로 페이징하면 메모리에서 페이징(HHH000104)이 일어나므로, 2단계로 나누어 조회합니다.
+   * 1. 조건에 맞는 소모임 ID 만 DB 에서 페이징하여 조회합니다. (count 쿼리는 필요할 때만 실행)
+   * 2. 조회된 ID 의 소모임과 관심사를 한 번의 쿼리로 조회합니다.
+   * FULLTEXT 검색 시에는 관련도 순으로 먼저 정렬합니다.
+   * @param keyword 검색어
+   * @param pageable 페이징 정보
+   * @return
+   */
   @Override
   public Page<SmallGroup> search(String keyword, Pageable pageable) {
-    JPQLQuery<SmallGroup> query = from(smallGroup).distinct()
-        .join(smallGroup.leader, member).fetchJoin()
-        .leftJoin(smallGroup.smallGroupInterests, smallGroupInterest).fetchJoin()
-        .leftJoin(smallGroupInterest.interest, interest).fetchJoin()
-        .leftJoin(smallGroup.members, smallGroupMember).fetchJoin()
-        .leftJoin(smallGroupMember.member, member).fetchJoin()
+    JPQLQuery<Long> idQuery = from(smallGroup)
+        .select(smallGroup.id)
         .where(
-            groupNameContains(keyword)
+            keywordContains(keyword)
         );
+    if (isFullTextSearch(keyword)) {
+      idQuery.orderBy(fullTextRelevance(keyword).desc());
+    }
+    List<Long> ids = getQuerydsl().applyPagination(pageable, idQuery).fetch();
+
+    JPQLQuery<Long> countQuery = from(smallGroup)
+        .select(smallGroup.count())
+        .where(
+            keywordContains(keyword)
+        );
+
+    return PageableExecutionUtils.getPage(findAllWithInterestsByIdIn(ids), pageable, countQuery::fetchOne);
+  }
+
+  /**
+   * 커서 이후의 소모임을 (생성일시, ID) 내림차순으로 검색합니다.
+   * offset 없이 (created_at, id) 인덱스에서 커서 위치부터 읽으므로, 페이지가 깊어져도 조회 비용이 일정합니다.
+   * @param keyword 검색어
+   * @param cursor 마지막으로 조회한 소모임의 커서, null 이면 처음부터 조회
+   * @param limit 조회할 최대 개수
+   * @return
+   */
+  @Override
+  public List<SmallGroup> searchAfter(String keyword, SmallGroupSearchCursor cursor, int limit) {
+    List<Long> ids = from(smallGroup)
+        .select(smallGroup.id)
+        .where(
+            keywordContains(keyword),
+            afterCursor(cursor)
+        )
+        .orderBy(smallGroup.createdAt.desc(), smallGroup.id.desc())
+        .limit(limit)
+        .fetch();
+
+    return findAllWithInterestsByIdIn(ids);
+  }
+
+  private BooleanExpression afterCursor(SmallGroupSearchCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    return smallGroup.createdAt.lt(cursor.getCreatedAt())
+        .or(smallGroup.createdAt.eq(cursor.getCreatedAt()).and(smallGroup.id.lt(cursor.getId())));
+  }
+
+  /**
+   * ID 목록에 해당하는 소모임을 관심사와 함께 조회합니다.
+   * 입력받은 ID 목록의 순서를 유지하여 반환합니다.
+   * @param ids 소모임 ID 목록
+   * @return
+   */
+  @Override
+  public List<SmallGroup> findAllWithInterestsByIdIn(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    Map<Long, SmallGroup> smallGroupById = from(smallGroup).distinct()
+        .leftJoin(smallGroup.smallGroupInterests, smallGroupInterest).fetchJoin()
+        .leftJoin(smallGroupInterest.interest, interest).fetchJoin()
+        .where(smallGroup.id.in(ids))
+        .fetch().stream()
+        .collect(Collectors.toMap(SmallGroup::getId, Function.identity()));
+
+    return ids.stream()
+        .map(smallGroupById::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * 검색어 조건, 설정된 검색 엔진에 따라 조건을 만듭니다.
+   * FULLTEXT 는 1글자 검색어를 찾을 수 없으므로 LIKE 로 검색합니다.
+   */
+  private BooleanExpression keywordContains(String keyword) {
+    if (keyword == null) {
+      return null;
+    }
+    if (isFullTextSearch(keyword)) {
+      return fullTextRelevance(keyword).gt(0);
+    }
+    if (searchEngine == SmallGroupSearchEngine.NGRAM_INDEX) {
+      return ngramIndexContains(keyword);
+    }
+    return likeContains(keyword);
+  }
 
-    JPQLQuery<SmallGroup> pageableQuery = getQuerydsl().applyPagination(pageable, query);
-    QueryResults<SmallGroup> fetchResult = pageableQuery.fetchResults();
-    return new PageImpl<>(fetchResult.getResults(), pageable, fetchResult.getTotal());
+  private BooleanExpression likeContains(String keyword) {
+    return smallGroup.name.contains(keyword)
+        .or(smallGroup.shortDescription.contains(keyword));
   }
 
-  private BooleanExpression groupNameContains(String groupName) {
-    return groupName != null ? smallGroup.name.contains(groupName) : null;
+  private boolean isFullTextSearch(String keyword) {
+    return searchEngine == SmallGroupSearchEngine.FULLTEXT
+        && keyword != null
+        && removeQuotes(keyword).length() >= FULLTEXT_MIN_KEYWORD_LENGTH;
+  }
+
+  /**
+   * 이름, 짧은 소개, 상세 소개에 대한 FULLTEXT 관련도
+   * 검색어를 구문("...")으로 검색하여, ngram 이 연속으로 일치하는 소모임만 찾습니다.
+   */
+  private NumberExpression<Double> fullTextRelevance(String keyword) {
+    return Expressions.numberTemplate(Double.class,
+        "function('match_against', {0}, {1}, {2}, {3})",
+        smallGroup.name, smallGroup.shortDescription, smallGroup.fullDescription,
+        Expressions.constant("\"" + removeQuotes(keyword) + "\""));
+  }
+
+  // boolean mode 연산자로 해석되지 않도록 구문 안의 큰따옴표를 제거합니다.
+  private static String removeQuotes(String keyword) {
+    return keyword.replace("\"", "").trim();
+  }
+
+  /**
+   * n-gram 색인으로 후보 ID 를 먼저 구해 PK 로 범위를 좁히고, 실제 포함 여부는 LIKE 로 확인합니다.
+   * 색인을 사용할 수 없는 경우(준비 전, 1글자 검색어, 후보 과다)에는 LIKE 만으로 검색합니다.
+   */
+  private BooleanExpression ngramIndexContains(String keyword) {
+    BooleanExpression contains = likeContains(keyword);
+
+    Optional<int[]> candidates = smallGroupNgramIndex.findCandidates(keyword);
+    if (candidates.isEmpty() || candidates.get().length > MAX_INDEX_CANDIDATES) {
+      return contains;
+    }
+    if (candidates.get().length == 0) {
+      return Expressions.FALSE.isTrue();
+    }
+    List<Long> candidateIds = Arrays.stream(candidates.get()).asLongStream().boxed()
+        .collect(Collectors.toList());
+    return smallGroup.id.in(candidateIds).and(contains);
   }
 
   @Override
   public Optional<SmallGroup> findWithInterestByPath(String smallGroupPath) {
+    return findWithInterest(smallGroup.path.eq(smallGroupPath));
+  }
+
+  @Override
+  public Optional<SmallGroup> findWithInterestById(Long smallGroupId) {
+    return findWithInterest(smallGroup.id.eq(smallGroupId));
+  }
 
+  private Optional<SmallGroup> findWithInterest(BooleanExpression condition) {
     return Optional.ofNullable(
         from(smallGroup).distinct()
           .leftJoin(smallGroup.leader, member).fetchJoin()
           .leftJoin(smallGroup.smallGroupInterests, smallGroupInterest).fetchJoin()
           .leftJoin(smallGroupInterest.interest, interest).fetchJoin()
-        .where(smallGroup.path.eq(smallGroupPath))
+        .where(condition)
         .fetchOne());
   }
+
+  /**
+   * 소모임 상세 정보를 한 번의 쿼리로 조회합니다.
+   * 소모임장은 inner join, 조회한 회원의 소모임 회원 정보와 요청 상태의 가입 요청은 left join 으로 조회합니다.
+   * (소모임, 회원) 별로 회원 정보와 가입 요청은 최대 1건이므로 결과는 1건입니다.
+   * @param smallGroupId 소모임 ID
+   * @param viewerId 조회한 회원 ID
+   */
+  @Override
+  public Optional<SmallGroupDetailDto> findDetailById(Long smallGroupId, Long viewerId) {
+    QSmallGroupMember viewerMember = new QSmallGroupMember("viewerMember");
+    QSmallGroupJoin viewerJoin = new QSmallGroupJoin("viewerJoin");
+
+    return Optional.ofNullable(
+        from(smallGroup)
+            .select(Projections.constructor(SmallGroupDetailDto.class,
+                smallGroup.id, smallGroup.path, smallGroup.name, smallGroup.shortDescription,
+                smallGroup.fullDescription, smallGroup.image, smallGroup.banner, smallGroup.useBanner,
+                smallGroup.maxMemberCount, smallGroup.recruiting, smallGroup.recruitingType,
+                smallGroup.published, smallGroup.closed,
+                member.id, member.username,
+                viewerMember.id, viewerJoin.id))
+            .join(smallGroup.leader, member)
+            .leftJoin(viewerMember).on(
+                viewerMember.smallGroup.eq(smallGroup),
+                viewerMember.member.id.eq(viewerId))
+            .leftJoin(viewerJoin).on(
+                viewerJoin.smallGroup.eq(smallGroup),
+                viewerJoin.member.id.eq(viewerId),
+                viewerJoin.status.eq(JoinRequestStatus.REQUEST))
+            .where(smallGroup.id.eq(smallGroupId))
+            .fetchFirst());
+  }
+
+  /**
+   * 패싯 색인 대상 소모임을 ID 순으로 조회합니다.
+   * 엔티티 대신 필요한 컬럼만 조회하고, 관심사는 조회된 소모임 ID 로 한 번에 조회합니다.
+   * @param lastId 이전에 조회한 마지막 소모임 ID
+   * @param limit 조회할 최대 개수
+   */
+  @Override
+  public List<SmallGroupFacetDto> findFacetTargetsAfter(Long lastId, int limit) {
+    return findFacetTargets(smallGroup.id.gt(lastId), limit);
+  }
+
+  @Override
+  public Optional<SmallGroupFacetDto> findFacetTargetById(Long smallGroupId) {
+    return findFacetTargets(smallGroup.id.eq(smallGroupId), 1).stream().findFirst();
+  }
+
+  private List<SmallGroupFacetDto> findFacetTargets(BooleanExpression condition, int limit) {
+    List<Tuple> groups = from(smallGroup)
+        .select(smallGroup.id, smallGroup.closed, smallGroup.recruiting, smallGroup.published,
+            smallGroup.recruitingType)
+        .where(condition)
+        .orderBy(smallGroup.id.asc())
+        .limit(limit)
+        .fetch();
+    if (groups.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    List<Long> ids = groups.stream().map(group -> group.get(smallGroup.id)).collect(Collectors.toList());
+    Map<Long, List<String>> interestsByGroupId = from(smallGroupInterest)
+        .select(smallGroupInterest.smallGroup.id, interest.name)
+        .join(smallGroupInterest.interest, interest)
+        .where(smallGroupInterest.smallGroup.id.in(ids))
+        .fetch().stream()
+        .collect(Collectors.groupingBy(tuple -> tuple.get(smallGroupInterest.smallGroup.id),
+            Collectors.mapping(tuple -> tuple.get(interest.name), Collectors.toList())));
+
+    return groups.stream()
+        .map(group -> new SmallGroupFacetDto(
+            group.get(smallGroup.id),
+            SmallGroupStatus.of(
+                Boolean.TRUE.equals(group.get(smallGroup.closed)),
+                Boolean.TRUE.equals(group.get(smallGroup.recruiting)),
+                Boolean.TRUE.equals(group.get(smallGroup.published))),
+            group.get(smallGroup.recruitingType),
+            interestsByGroupId.getOrDefault(group.get(smallGroup.id), Collections.emptyList())))
+        .collect(Collectors.toList());
+  }
 }
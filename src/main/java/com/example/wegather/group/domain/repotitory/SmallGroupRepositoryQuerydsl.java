@@ -1,6 +1,10 @@
 package com.example.wegather.group.domain.repotitory;
 
 import com.example.wegather.group.domain.entity.SmallGroup;
+import com.example.wegather.group.dto.SmallGroupDetailDto;
+import com.example.wegather.group.dto.SmallGroupFacetDto;
+import com.example.wegather.group.dto.SmallGroupSearchCursor;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,5 +12,17 @@ import org.springframework.data.domain.Pageable;
 public interface SmallGroupRepositoryQuerydsl {
   Page<SmallGroup> search(String keyword, Pageable pageable);
 
+  List<SmallGroup> searchAfter(String keyword, SmallGroupSearchCursor cursor, int limit);
+
+  List<SmallGroup> findAllWithInterestsByIdIn(List<Long> ids);
+
   Optional<SmallGroup> findWithInterestByPath(String smallGroupPath);
+
+  Optional<SmallGroup> findWithInterestById(Long smallGroupId);
+
+  Optional<SmallGroupDetailDto> findDetailById(Long smallGroupId, Long viewerId);
+
+  List<SmallGroupFacetDto> findFacetTargetsAfter(Long lastId, int limit);
+
+  Optional<SmallGroupFacetDto> findFacetTargetById(Long smallGroupId);
 }
@@ -0,0 +1,235 @@
+package com.example.wegather.group.domain.search;
+
+import com.example.wegather.global.vo.SmallGroupStatus;
+import com.example.wegather.group.domain.vo.RecruitingType;
+import com.example.wegather.group.dto.SmallGroupFacetDto;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관심사, 소모임 상태, 모집 방식별 소모임 ID BitSet 색인
+ * 필터링과 패싯별 개수 계산을 BitSet 연산으로 처리하여 추가 SQL 없이 응답합니다.
+ * - 같은 패싯 안의 값은 OR, 서로 다른 패싯은 AND 로 조합합니다.
+ * - 패싯별 개수는 해당 패싯을 제외한 나머지 조건으로 계산합니다. (선택한 값 외의 다른 값 개수도 보여주기 위함)
+ * - 관심사는 회원이 자유롭게 추가하므로 값이 많습니다. 값마다 BitSet 을 계산하지 않고 조건에 맞는 소모임을 순회하며 세고,
+ *   소모임이 많은 순으로 {@value #INTEREST_FACET_LIMIT} 개와 선택한 관심사만 반환합니다.
+ */
+@Component
+public class SmallGroupFacetIndex {
+  public static final String INTEREST = "interest";
+  public static final String STATUS = "status";
+  public static final String RECRUITING_TYPE = "recruitingType";
+  static final int INTEREST_FACET_LIMIT = 20;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final BitSet all = new BitSet();
+  private final Facet<String> interestFacet = new Facet<>(new TreeMap<>());
+  private final Facet<SmallGroupStatus> statusFacet = new Facet<>(new EnumMap<>(SmallGroupStatus.class));
+  private final Facet<RecruitingType> recruitingTypeFacet = new Facet<>(new EnumMap<>(RecruitingType.class));
+  // 삭제, 수정 시 기존 색인 값을 찾기 위해 사용합니다.
+  private final Map<Integer, SmallGroupFacetDto> documents = new HashMap<>();
+  private volatile boolean ready = false;
+
+  /**
+   * 소모임을 색인합니다. 이미 색인된 소모임이면 기존 색인을 교체합니다.
+   */
+  public void put(SmallGroupFacetDto document) {
+    lock.writeLock().lock();
+    try {
+      int docId = Math.toIntExact(document.getId());
+      removeDocument(docId);
+
+      all.set(docId);
+      document.getInterests().forEach(interest -> interestFacet.add(interest, docId));
+      statusFacet.add(document.getStatus(), docId);
+      recruitingTypeFacet.add(document.getRecruitingType(), docId);
+      documents.put(docId, document);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 색인되지 않은 소모임만 색인합니다.
+   * 초기 적재 중에 이벤트로 먼저 반영된 최신 색인을 덮어쓰지 않기 위해 사용합니다.
+   */
+  public void putIfAbsent(SmallGroupFacetDto document) {
+    lock.writeLock().lock();
+    try {
+      if (!documents.containsKey(Math.toIntExact(document.getId()))) {
+        put(document);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long smallGroupId) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(Math.toIntExact(smallGroupId));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void removeDocument(int docId) {
+    SmallGroupFacetDto document = documents.remove(docId);
+    if (document == null) {
+      return;
+    }
+    all.clear(docId);
+    document.getInterests().forEach(interest -> interestFacet.remove(interest, docId));
+    statusFacet.remove(document.getStatus(), docId);
+    recruitingTypeFacet.remove(document.getRecruitingType(), docId);
+  }
+
+  /**
+   * 조건에 맞는 소모임 ID 를 ID 내림차순(최신순)으로 커서 이후부터 조회하고, 패싯별 개수를 함께 계산합니다.
+   * 커서 바로 앞의 ID 부터 읽으므로, 페이지가 깊어져도 앞의 소모임을 건너뛰지 않습니다.
+   * @param interests 관심사 이름, 비어있으면 조건 없음
+   * @param statuses 소모임 상태, 비어있으면 조건 없음
+   * @param recruitingTypes 모집 방식, 비어있으면 조건 없음
+   * @param cursor 이전 조회 결과의 마지막 소모임 ID (1 이상), null 이면 처음부터 조회
+   * @param size 페이지 크기
+   */
+  public SmallGroupFacetResult search(Set<String> interests, Set<SmallGroupStatus> statuses,
+      Set<RecruitingType> recruitingTypes, Long cursor, int size) {
+    lock.readLock().lock();
+    try {
+      BitSet interestBits = interestFacet.matching(interests);
+      BitSet statusBits = statusFacet.matching(statuses);
+      BitSet recruitingTypeBits = recruitingTypeFacet.matching(recruitingTypes);
+
+      BitSet matched = intersect(interestBits, statusBits, recruitingTypeBits);
+
+      // 값별 개수를 계산할 때 BitSet 을 복사하지 않도록 하나의 BitSet 을 재사용합니다.
+      BitSet scratch = new BitSet(all.length());
+      Map<String, Map<String, Integer>> facetCounts = new LinkedHashMap<>();
+      facetCounts.put(INTEREST, countInterests(intersect(statusBits, recruitingTypeBits), interests));
+      facetCounts.put(STATUS, statusFacet.count(intersect(interestBits, recruitingTypeBits), scratch));
+      facetCounts.put(RECRUITING_TYPE, recruitingTypeFacet.count(intersect(interestBits, statusBits), scratch));
+
+      int from = cursor == null
+          ? matched.length() - 1
+          : (int) Math.min(cursor - 1, matched.length() - 1);
+      List<Long> ids = new ArrayList<>(size);
+      int docId = matched.previousSetBit(from);
+      for (; docId >= 0 && ids.size() < size; docId = matched.previousSetBit(docId - 1)) {
+        ids.add((long) docId);
+      }
+      // 페이지를 채운 뒤에도 남은 소모임이 있으면 마지막 ID 가 다음 커서가 됩니다.
+      Long nextCursor = docId >= 0 ? ids.get(ids.size() - 1) : null;
+
+      return new SmallGroupFacetResult(ids, nextCursor, matched.cardinality(), facetCounts);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * base 에 포함된 소모임을 순회하며 관심사별 소모임 수를 세고, 많은 순으로 상위 관심사와 선택한 관심사만 반환합니다.
+   * 관심사 수와 관계없이 base 의 소모임 수에 비례하는 시간이 걸리며, BitSet 을 새로 만들지 않습니다.
+   */
+  private Map<String, Integer> countInterests(BitSet base, Set<String> selected) {
+    Map<String, Integer> counts = new HashMap<>();
+    for (int docId = base.nextSetBit(0); docId >= 0; docId = base.nextSetBit(docId + 1)) {
+      documents.get(docId).getInterests().forEach(interest -> counts.merge(interest, 1, Integer::sum));
+    }
+
+    Map<String, Integer> result = new LinkedHashMap<>();
+    counts.entrySet().stream()
+        .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+        .limit(INTEREST_FACET_LIMIT)
+        .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+    if (selected != null) {
+      selected.forEach(interest -> result.putIfAbsent(interest, counts.getOrDefault(interest, 0)));
+    }
+    return result;
+  }
+
+  private BitSet intersect(BitSet... filters) {
+    BitSet result = (BitSet) all.clone();
+    for (BitSet filter : filters) {
+      if (filter != null) {
+        result.and(filter);
+      }
+    }
+    return result;
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public void markReady() {
+    this.ready = true;
+  }
+
+  /**
+   * 패싯 값별 소모임 ID BitSet
+   */
+  private static class Facet<K> {
+    private final Map<K, BitSet> bitsByValue;
+
+    Facet(Map<K, BitSet> bitsByValue) {
+      this.bitsByValue = bitsByValue;
+    }
+
+    void add(K value, int docId) {
+      if (value != null) {
+        bitsByValue.computeIfAbsent(value, key -> new BitSet()).set(docId);
+      }
+    }
+
+    void remove(K value, int docId) {
+      if (value == null) {
+        return;
+      }
+      BitSet bits = bitsByValue.get(value);
+      if (bits != null) {
+        bits.clear(docId);
+        if (bits.isEmpty()) {
+          bitsByValue.remove(value);
+        }
+      }
+    }
+
+    // 선택한 값 중 하나라도 가진 소모임, 선택한 값이 없으면 null(조건 없음)
+    BitSet matching(Set<K> selected) {
+      if (selected == null || selected.isEmpty()) {
+        return null;
+      }
+      BitSet result = new BitSet();
+      for (K value : selected) {
+        BitSet bits = bitsByValue.get(value);
+        if (bits != null) {
+          result.or(bits);
+        }
+      }
+      return result;
+    }
+
+    // 값의 수가 적은 패싯에만 사용합니다. scratch 는 계산에만 사용하며 내용을 덮어씁니다.
+    Map<String, Integer> count(BitSet base, BitSet scratch) {
+      Map<String, Integer> counts = new LinkedHashMap<>();
+      bitsByValue.forEach((value, bits) -> {
+        scratch.clear();
+        scratch.or(bits);
+        scratch.and(base);
+        counts.put(String.valueOf(value), scratch.cardinality());
+      });
+      return counts;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.example.wegather.group.domain.search;
+
+import com.example.wegather.group.domain.event.SmallGroupChangedEvent;
+import com.example.wegather.group.domain.repotitory.SmallGroupRepository;
+import com.example.wegather.group.dto.SmallGroupFacetDto;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 소모임 패싯 색인을 생성하고 최신 상태로 유지합니다.
+ * - 애플리케이션 시작 시 전체 소모임을 ID 순으로 나누어 색인합니다.
+ * - 소모임 변경 이벤트를 트랜잭션 커밋 이후에 반영합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SmallGroupFacetIndexer {
+  private static final int LOAD_BATCH_SIZE = 1000;
+
+  private final SmallGroupRepository smallGroupRepository;
+  private final SmallGroupFacetIndex smallGroupFacetIndex;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadAll() {
+    long lastId = 0L;
+    int indexedCount = 0;
+    List<SmallGroupFacetDto> targets;
+    do {
+      targets = smallGroupRepository.findFacetTargetsAfter(lastId, LOAD_BATCH_SIZE);
+      for (SmallGroupFacetDto target : targets) {
+        smallGroupFacetIndex.putIfAbsent(target);
+        lastId = target.getId();
+      }
+      indexedCount += targets.size();
+    } while (targets.size() == LOAD_BATCH_SIZE);
+
+    smallGroupFacetIndex.markReady();
+    log.info("## small group facet index loaded: {}", indexedCount);
+  }
+
+  @TransactionalEventListener
+  public void handleSmallGroupChanged(SmallGroupChangedEvent event) {
+    if (event.isDeleted()) {
+      smallGroupFacetIndex.remove(event.getSmallGroupId());
+      return;
+    }
+    smallGroupRepository.findFacetTargetById(event.getSmallGroupId())
+        .ifPresent(smallGroupFacetIndex::put);
+  }
+}
@@ -0,0 +1,21 @@
+package com.example.wegather.group.domain.search;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 패싯 색인 검색 결과
+ * ids : 페이지에 해당하는 소모임 ID, nextCursor : 다음 페이지 커서 (마지막 페이지면 null)
+ * totalCount : 조건에 맞는 전체 소모임 수
+ * facetCounts : 패싯 이름 -> (패싯 값 -> 소모임 수)
+ */
+@Getter
+@AllArgsConstructor
+public class SmallGroupFacetResult {
+  private List<Long> ids;
+  private Long nextCursor;
+  private int totalCount;
+  private Map<String, Map<String, Integer>> facetCounts;
+}
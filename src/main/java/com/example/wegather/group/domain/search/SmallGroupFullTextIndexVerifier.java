@@ -0,0 +1,33 @@
+package com.example.wegather.group.domain.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * FULLTEXT 검색을 사용할 때, 시작 시점에 FULLTEXT 인덱스가 있는지 확인합니다.
+ * 인덱스가 없으면 MATCH ... AGAINST 가 검색 요청마다 실패하므로, 애플리케이션 시작을 중단합니다.
+ * 인덱스는 db/small-group-fulltext-index.sql 로 생성합니다.
+ */
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "FULLTEXT")
+public class SmallGroupFullTextIndexVerifier {
+  static final String INDEX_NAME = "ft_small_group_search";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void verify() {
+    Integer count = jdbcTemplate.queryForObject("select count(*) from information_schema.statistics "
+        + "where table_schema = database() and table_name = 'small_group' and index_name = ?",
+        Integer.class, INDEX_NAME);
+    if (count == null || count == 0) {
+      throw new IllegalStateException("FULLTEXT index " + INDEX_NAME + " does not exist. "
+          + "Run db/small-group-fulltext-index.sql before using app.search.engine=FULLTEXT");
+    }
+  }
+}
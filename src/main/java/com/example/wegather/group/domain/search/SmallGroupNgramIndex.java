@@ -0,0 +1,305 @@
+package com.example.wegather.group.domain.search;
+
+import java.lang.Character.UnicodeScript;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+
+/**
+ * 소모임 이름, 짧은 소개에 대한 n-gram 역색인
+ * 한글은 형태소 분석 없이도 부분 검색이 되도록 2-gram, 3-gram 단위로 색인합니다.
+ * gram 별 posting list 는 정렬된 int 배열이며, 변경 시 배열을 새로 만들어 교체하므로 조회는 lock 없이 처리됩니다.
+ * 초기 적재는 {@link BulkLoad} 로 gram 별 버퍼에 모은 뒤 마지막에 한 번만 배열로 만듭니다.
+ * 색인 결과는 후보 ID 의 상위 집합이므로, 최종 일치 여부는 DB 에서 다시 확인해야 합니다.
+ *
+ * 색인과 검색어는 MySQL collation(utf8mb4_0900_ai_ci 등)과 같도록 전각/반각 등 호환 문자를 통일하고(NFKD),
+ * 악센트를 제거한 뒤 소문자로 변환합니다. 변환 후 ASCII, 한글 외의 문자가 남는 검색어는 collation 과 같은 결과를
+ * 보장할 수 없으므로 색인을 사용하지 않고 LIKE 로 검색합니다.
+ *
+ * 제약 사항
+ * - 색인은 각 애플리케이션 인스턴스의 메모리에만 있고, 변경 이벤트도 같은 인스턴스에서 커밋된 것만 반영합니다.
+ *   여러 인스턴스로 실행하면 다른 인스턴스에서 변경한 소모임은 재시작 전까지 반영되지 않으므로,
+ *   단일 인스턴스에서만 app.search.engine=NGRAM_INDEX 로 사용합니다. (기본값은 LIKE)
+ */
+@Component
+public class SmallGroupNgramIndex {
+  private static final int MIN_GRAM_SIZE = 2;
+  private static final int MAX_GRAM_SIZE = 3;
+  private static final int[] EMPTY_POSTING = new int[0];
+  private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+  private final Map<String, int[]> postings = new ConcurrentHashMap<>();
+  // 삭제, 수정 시 기존 gram 을 찾기 위해 사용합니다. 쓰기 작업(synchronized) 에서만 접근합니다.
+  private final Map<Integer, Set<String>> gramsByGroupId = new HashMap<>();
+  // 초기 적재 중에 삭제된 소모임 ID, 적재 중이 아니면 null 입니다.
+  private Set<Integer> removedDuringBulkLoad;
+  private volatile boolean ready = false;
+
+  /**
+   * 소모임 하나를 색인합니다. 이미 색인된 소모임이면 기존 색인을 교체합니다.
+   * 변경된 gram 의 posting 배열을 복사하여 교체하므로, 이벤트로 들어오는 단건 변경에만 사용합니다.
+   * @param smallGroupId 소모임 ID
+   * @param texts 색인할 문자열 (이름, 짧은 소개)
+   */
+  public synchronized void put(Long smallGroupId, String... texts) {
+    int docId = Math.toIntExact(smallGroupId);
+    removeDocument(docId);
+
+    Set<String> grams = tokenize(texts);
+    for (String gram : grams) {
+      postings.compute(gram, (key, posting) -> insert(posting, docId));
+    }
+    gramsByGroupId.put(docId, grams);
+  }
+
+  public synchronized void remove(Long smallGroupId) {
+    int docId = Math.toIntExact(smallGroupId);
+    removeDocument(docId);
+    if (removedDuringBulkLoad != null) {
+      removedDuringBulkLoad.add(docId);
+    }
+  }
+
+  /**
+   * 초기 적재를 시작합니다.
+   * 적재 중에 {@link #put}, {@link #remove} 로 먼저 반영된 소모임은 적재 결과로 덮어쓰지 않습니다.
+   */
+  public synchronized BulkLoad startBulkLoad() {
+    removedDuringBulkLoad = new HashSet<>();
+    return new BulkLoad();
+  }
+
+  private void removeDocument(int docId) {
+    Set<String> grams = gramsByGroupId.remove(docId);
+    if (grams == null) {
+      return;
+    }
+    for (String gram : grams) {
+      postings.computeIfPresent(gram, (key, posting) -> {
+        int[] removed = delete(posting, docId);
+        return removed.length == 0 ? null : removed;
+      });
+    }
+  }
+
+  /**
+   * 검색어를 포함할 수 있는 소모임 ID 후보를 조회합니다.
+   * 검색어의 모든 gram 을 포함하는 소모임의 교집합을 반환합니다.
+   * @param keyword 검색어
+   * @return 정렬된 후보 소모임 ID,
+   *         색인이 준비되지 않았거나 검색어가 짧거나 collation 과 같게 변환할 수 없는 문자가 있으면 empty
+   */
+  public Optional<int[]> findCandidates(String keyword) {
+    if (!ready || keyword == null) {
+      return Optional.empty();
+    }
+    String normalized = normalize(keyword);
+    if (normalized.length() < MIN_GRAM_SIZE || !isFoldable(normalized)) {
+      return Optional.empty();
+    }
+
+    int gramSize = Math.min(normalized.length(), MAX_GRAM_SIZE);
+    int[][] lists = grams(normalized, gramSize).stream()
+        .map(gram -> postings.getOrDefault(gram, EMPTY_POSTING))
+        .sorted((a, b) -> Integer.compare(a.length, b.length))
+        .toArray(int[][]::new);
+
+    int[] result = lists[0];
+    for (int i = 1; i < lists.length && result.length > 0; i++) {
+      result = intersect(result, lists[i]);
+    }
+    return Optional.of(result);
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public void markReady() {
+    this.ready = true;
+  }
+
+  private static Set<String> tokenize(String... texts) {
+    Set<String> grams = new HashSet<>();
+    for (String text : texts) {
+      if (text == null) {
+        continue;
+      }
+      String normalized = normalize(text);
+      for (int size = MIN_GRAM_SIZE; size <= MAX_GRAM_SIZE; size++) {
+        grams.addAll(grams(normalized, size));
+      }
+    }
+    return grams;
+  }
+
+  private static Set<String> grams(String text, int size) {
+    Set<String> grams = new HashSet<>();
+    for (int i = 0; i + size <= text.length(); i++) {
+      grams.add(text.substring(i, i + size));
+    }
+    return grams;
+  }
+
+  // MySQL 의 악센트, 대소문자 구분 없는 collation(*_ai_ci)과 맞추기 위해 호환 문자를 통일하고 악센트를 제거한 뒤 소문자로 색인합니다.
+  // 한글은 자모로 분해되었다가 NFC 로 다시 조합되므로 그대로 유지됩니다.
+  static String normalize(String text) {
+    String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+    String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+    return Normalizer.normalize(stripped.toLowerCase(Locale.ROOT), Normalizer.Form.NFC);
+  }
+
+  // 변환 결과가 collation 의 비교 결과와 같다고 확인한 문자(ASCII, 한글)로만 이루어져 있는지 확인합니다.
+  private static boolean isFoldable(String normalized) {
+    return normalized.codePoints()
+        .allMatch(codePoint -> codePoint < 0x80 || UnicodeScript.of(codePoint) == UnicodeScript.HANGUL);
+  }
+
+  private static int[] insert(int[] posting, int docId) {
+    if (posting == null) {
+      return new int[]{docId};
+    }
+    int index = Arrays.binarySearch(posting, docId);
+    if (index >= 0) {
+      return posting;
+    }
+    int insertAt = -index - 1;
+    int[] inserted = new int[posting.length + 1];
+    System.arraycopy(posting, 0, inserted, 0, insertAt);
+    inserted[insertAt] = docId;
+    System.arraycopy(posting, insertAt, inserted, insertAt + 1, posting.length - insertAt);
+    return inserted;
+  }
+
+  private static int[] delete(int[] posting, int docId) {
+    int index = Arrays.binarySearch(posting, docId);
+    if (index < 0) {
+      return posting;
+    }
+    int[] deleted = new int[posting.length - 1];
+    System.arraycopy(posting, 0, deleted, 0, index);
+    System.arraycopy(posting, index + 1, deleted, index, posting.length - index - 1);
+    return deleted;
+  }
+
+  private static int[] union(int[] a, int[] b) {
+    int[] result = new int[a.length + b.length];
+    int i = 0, j = 0, size = 0;
+    while (i < a.length && j < b.length) {
+      if (a[i] == b[j]) {
+        result[size++] = a[i];
+        i++;
+        j++;
+      } else if (a[i] < b[j]) {
+        result[size++] = a[i++];
+      } else {
+        result[size++] = b[j++];
+      }
+    }
+    while (i < a.length) {
+      result[size++] = a[i++];
+    }
+    while (j < b.length) {
+      result[size++] = b[j++];
+    }
+    return Arrays.copyOf(result, size);
+  }
+
+  private static int[] intersect(int[] a, int[] b) {
+    int[] result = new int[Math.min(a.length, b.length)];
+    int i = 0, j = 0, size = 0;
+    while (i < a.length && j < b.length) {
+      if (a[i] == b[j]) {
+        result[size++] = a[i];
+        i++;
+        j++;
+      } else if (a[i] < b[j]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return Arrays.copyOf(result, size);
+  }
+
+  /**
+   * 초기 적재 작업
+   * gram 별 posting 을 늘어나는 버퍼에 모으고, {@link #commit()} 에서 정렬된 배열로 한 번에 반영합니다.
+   * 소모임마다 posting 배열을 복사하지 않으므로 적재 시간이 소모임 수에 비례합니다.
+   * 하나의 스레드에서만 사용합니다.
+   */
+  public class BulkLoad {
+    private final Map<String, PostingBuffer> buffers = new HashMap<>();
+    private final Map<Integer, Set<String>> loadedGrams = new HashMap<>();
+
+    public void add(Long smallGroupId, String... texts) {
+      int docId = Math.toIntExact(smallGroupId);
+      Set<String> grams = tokenize(texts);
+      if (loadedGrams.put(docId, grams) != null) {
+        throw new IllegalStateException("duplicated small group in bulk load: " + docId);
+      }
+      for (String gram : grams) {
+        buffers.computeIfAbsent(gram, key -> new PostingBuffer()).add(docId);
+      }
+    }
+
+    /**
+     * 적재한 소모임을 색인에 반영합니다.
+     * 적재 중에 이벤트로 색인, 삭제된 소모임은 제외합니다.
+     */
+    public void commit() {
+      synchronized (SmallGroupNgramIndex.this) {
+        Set<Integer> removed = removedDuringBulkLoad;
+        IntPredicate skipped = docId -> gramsByGroupId.containsKey(docId) || removed.contains(docId);
+        for (Map.Entry<String, PostingBuffer> entry : buffers.entrySet()) {
+          int[] loaded = entry.getValue().toSortedArray(skipped);
+          if (loaded.length > 0) {
+            postings.merge(entry.getKey(), loaded, SmallGroupNgramIndex::union);
+          }
+        }
+        loadedGrams.forEach((docId, grams) -> {
+          if (!skipped.test(docId)) {
+            gramsByGroupId.put(docId, grams);
+          }
+        });
+        removedDuringBulkLoad = null;
+      }
+      buffers.clear();
+      loadedGrams.clear();
+    }
+  }
+
+  private static class PostingBuffer {
+    private int[] docIds = new int[4];
+    private int size = 0;
+
+    void add(int docId) {
+      if (size == docIds.length) {
+        docIds = Arrays.copyOf(docIds, size * 2);
+      }
+      docIds[size++] = docId;
+    }
+
+    int[] toSortedArray(IntPredicate skipped) {
+      int[] result = new int[size];
+      int count = 0;
+      for (int i = 0; i < size; i++) {
+        if (!skipped.test(docIds[i])) {
+          result[count++] = docIds[i];
+        }
+      }
+      // ID 순으로 적재하므로 대부분 이미 정렬되어 있습니다.
+      Arrays.sort(result, 0, count);
+      return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.example.wegather.group.domain.search;
+
+import com.example.wegather.group.domain.event.SmallGroupChangedEvent;
+import com.example.wegather.group.domain.repotitory.SmallGroupRepository;
+import com.example.wegather.group.dto.SmallGroupIndexDto;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 소모임 n-gram 색인을 생성하고 최신 상태로 유지합니다.
+ * - 애플리케이션 시작 시 전체 소모임을 ID 순으로 나누어 조회하고, 한 번에 색인에 반영합니다.
+ * - 소모임 변경 이벤트를 트랜잭션 커밋 이후에 반영합니다.
+ * n-gram 색인으로 검색할 때만 색인을 만듭니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "NGRAM_INDEX")
+public class SmallGroupNgramIndexer {
+  private static final int LOAD_BATCH_SIZE = 1000;
+
+  private final SmallGroupRepository smallGroupRepository;
+  private final SmallGroupNgramIndex smallGroupNgramIndex;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadAll() {
+    long lastId = 0L;
+    int indexedCount = 0;
+    SmallGroupNgramIndex.BulkLoad bulkLoad = smallGroupNgramIndex.startBulkLoad();
+    List<SmallGroupIndexDto> targets;
+    do {
+      targets = smallGroupRepository.findIndexTargetsAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+      for (SmallGroupIndexDto target : targets) {
+        bulkLoad.add(target.getId(), target.getName(), target.getShortDescription());
+        lastId = target.getId();
+      }
+      indexedCount += targets.size();
+    } while (targets.size() == LOAD_BATCH_SIZE);
+
+    bulkLoad.commit();
+    smallGroupNgramIndex.markReady();
+    log.info("## small group ngram index loaded: {}", indexedCount);
+  }
+
+  @TransactionalEventListener
+  public void handleSmallGroupChanged(SmallGroupChangedEvent event) {
+    if (event.isDeleted()) {
+      smallGroupNgramIndex.remove(event.getSmallGroupId());
+      return;
+    }
+    smallGroupRepository.findIndexTargetById(event.getSmallGroupId())
+        .ifPresent(target ->
+            smallGroupNgramIndex.put(target.getId(), target.getName(), target.getShortDescription()));
+  }
+}
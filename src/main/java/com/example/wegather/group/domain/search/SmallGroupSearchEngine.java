@@ -0,0 +1,14 @@
+package com.example.wegather.group.domain.search;
+
+/**
+ * 소모임 검색어 처리 방식
+ * app.search.engine 설정으로 선택합니다.
+ */
+public enum SmallGroupSearchEngine {
+  /** 이름, 짧은 소개를 LIKE '%검색어%' 로 검색합니다. */
+  LIKE,
+  /** MySQL FULLTEXT(ngram parser) 인덱스를 boolean mode 로 검색하고, 관련도 순으로 정렬합니다. */
+  FULLTEXT,
+  /** 메모리 n-gram 색인으로 후보를 구한 뒤 LIKE 로 확인합니다. */
+  NGRAM_INDEX
+}
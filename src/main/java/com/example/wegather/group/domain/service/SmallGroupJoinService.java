@@ -6,9 +6,12 @@ import com.example.wegather.global.exception.customException.NoPermissionExcepti
 import com.example.wegather.group.domain.entity.SmallGroup;
 import com.example.wegather.group.domain.entity.SmallGroupJoin;
 import com.example.wegather.group.domain.entity.SmallGroupMember;
+import com.example.wegather.group.domain.event.SmallGroupJoinResultEvent;
+import com.example.wegather.group.domain.event.SmallGroupMemberChangedEvent;
 import com.example.wegather.group.domain.repotitory.SmallGroupJoinRepository;
 import com.example.wegather.group.domain.repotitory.SmallGroupMemberRepository;
 import com.example.wegather.group.domain.repotitory.SmallGroupRepository;
+import com.example.wegather.group.domain.vo.JoinRequestStatus;
 import com.example.wegather.group.domain.vo.RecruitingType;
 import com.example.wegather.group.dto.GroupJoinRequestDto;
 import com.example.wegather.member.domain.MemberRepository;
@@ -16,6 +19,8 @@ import com.example.wegather.member.domain.entity.Member;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +31,8 @@ public class SmallGroupJoinService {
   private final SmallGroupJoinRepository smallGroupJoinRepository;
   private final MemberRepository memberRepository;
   private final SmallGroupMemberRepository smallGroupMemberRepository;
+  private final SmallGroupMembershipService smallGroupMembershipService;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 가입 요청
@@ -69,9 +76,29 @@ public class SmallGroupJoinService {
    * @return 생성된 소모임가입 ID
    */
   private Long joinAsFCFS(SmallGroup smallGroup, Member member) {
-    Long joinId = smallGroupJoinRepository.save(SmallGroupJoin.ofAsFCFS(smallGroup, member)).getId();
-    smallGroupMemberRepository.save(SmallGroupMember.of(smallGroup, member));
-    return joinId;
+    reserveSeat(smallGroup);
+    try {
+      Long joinId = smallGroupJoinRepository.save(SmallGroupJoin.ofAsFCFS(smallGroup, member)).getId();
+      smallGroupMemberRepository.save(SmallGroupMember.of(smallGroup, member));
+      eventPublisher.publishEvent(new SmallGroupMemberChangedEvent(smallGroup.getId(), member.getId()));
+      return joinId;
+    } catch (DataIntegrityViolationException e) {
+      // 같은 회원의 동시 가입 요청, 트랜잭션이 롤백되어 확보한 자리도 반환됩니다.
+      throw new IllegalArgumentException(ALREADY_JOINED_MEMBER.getDescription());
+    }
+  }
+
+  /**
+   * 소모임의 자리를 하나 확보합니다.
+   * 소모임 row 에 lock 이 걸리므로, 가입 데이터 insert 보다 먼저 호출하여 lock 순서를 일정하게 유지합니다.
+   * 호출 전까지의 변경은 flush 되고 영속성 컨텍스트가 비워지므로, 이후에는 조회해 둔 엔티티의 값을 변경하지 않습니다.
+   * @throws IllegalStateException
+   *    - 최대 회원수를 초과한 경우
+   */
+  private void reserveSeat(SmallGroup smallGroup) {
+    if (smallGroupRepository.reserveSeat(smallGroup.getId()) == 0) {
+      throw new IllegalStateException(EXCESS_MAX_MEMBER_COUNT.getDescription());
+    }
   }
 
   /**
@@ -93,7 +120,7 @@ public class SmallGroupJoinService {
   }
 
   private void validateGetAllJoinRequests(SmallGroup smallGroup, Long loginMemberId) {
-    if (!smallGroup.isManager(loginMemberId)) {
+    if (!smallGroupMembershipService.isManager(smallGroup.getId(), loginMemberId)) {
       throw new NoPermissionException(LEADER_ONLY.getDescription());
     }
   }
@@ -106,6 +133,10 @@ public class SmallGroupJoinService {
    * @param loginId  로그인한 회원의 ID
    * @throws NoPermissionException
    *    - 소모임장이 아닌 경우
+   * @throws IllegalArgumentException
+   *    - 해당 소모임의 가입 요청이 아닌 경우
+   *    - 이미 처리된 가입 요청인 경우
+   *    - 이미 가입한 회원인 경우
    * @throws IllegalStateException
    *    - 최대 회원수를 초과한 경우
    */
@@ -113,24 +144,46 @@ public class SmallGroupJoinService {
   public void approveJoinRequest(Long id, Long requestId, Long loginId) {
     SmallGroup smallGroup = findSmallGroupById(id);
     validateIsLeader(smallGroup, loginId);
-    // 소모임 가입 승인
     SmallGroupJoin smallGroupJoin = findSmallGroupJoinById(requestId);
+    validateJoinRequest(smallGroup, smallGroupJoin);
+    // 소모임 가입 승인
     smallGroupJoin.approve();
     // 소모임 멤버 추가
-    addSmallGroupMember(smallGroup, smallGroupJoin);
+    addSmallGroupMember(smallGroup, smallGroupJoin.getMember());
+    publishJoinResult(smallGroup, smallGroupJoin, true);
   }
 
-  private void addSmallGroupMember(SmallGroup smallGroup, SmallGroupJoin smallGroupJoin) {
-    // 회원수 체크
-    validateExceedMaxCount(smallGroup);
-    // 소모임 회원 추가
-    smallGroupMemberRepository.save(SmallGroupMember.of(smallGroup, smallGroupJoin.getMember()));
+  private void addSmallGroupMember(SmallGroup smallGroup, Member member) {
+    // 회원수 체크 및 자리 확보
+    reserveSeat(smallGroup);
+    try {
+      // 소모임 회원 추가
+      smallGroupMemberRepository.save(SmallGroupMember.of(smallGroup, member));
+    } catch (DataIntegrityViolationException e) {
+      // 같은 요청의 동시 승인, 트랜잭션이 롤백되어 확보한 자리도 반환됩니다.
+      throw new IllegalArgumentException(ALREADY_JOINED_MEMBER.getDescription());
+    }
+    eventPublisher.publishEvent(new SmallGroupMemberChangedEvent(smallGroup.getId(), member.getId()));
+  }
+
+  /**
+   * 승인, 거절할 가입 요청이 해당 소모임의 처리되지 않은 요청인지 확인합니다.
+   * @throws IllegalArgumentException
+   *    - 해당 소모임의 가입 요청이 아닌 경우
+   *    - 이미 승인, 거절된 요청이거나 선착순 가입인 경우
+   */
+  private void validateJoinRequest(SmallGroup smallGroup, SmallGroupJoin smallGroupJoin) {
+    if (!smallGroupJoin.getSmallGroup().getId().equals(smallGroup.getId())) {
+      throw new IllegalArgumentException(SMALL_GROUP_JOIN_NOT_FOUND.getDescription());
+    }
+    if (smallGroupJoin.getStatus() != JoinRequestStatus.REQUEST) {
+      throw new IllegalArgumentException(ALREADY_PROCESSED_JOIN_REQUEST.getDescription());
+    }
   }
 
-  // 최대 회원수를 넘는지 체크합니다.
+  // 최대 회원수를 넘는지 미리 체크합니다. 실제 자리 확보는 reserveSeat 에서 처리합니다.
   private void validateExceedMaxCount(SmallGroup smallGroup) {
-    Long nowMemberCount = smallGroupMemberRepository.countBySmallGroup(smallGroup);
-    if (smallGroup.isExceedMaxMember(nowMemberCount)) {
+    if (smallGroup.isExceedMaxMember()) {
       throw new IllegalStateException(EXCESS_MAX_MEMBER_COUNT.getDescription());
     }
   }
@@ -142,6 +195,7 @@ public class SmallGroupJoinService {
    * @param requestId 가입 요청 ID
    * @param loginId  로그인한 회원의 ID
    * @throws NoPermissionException - 소모임장이 아닌 경우
+   * @throws IllegalArgumentException - 해당 소모임의 처리되지 않은 가입 요청이 아닌 경우
    */
   @Transactional
   public void rejectJoinRequest(Long id, Long requestId, Long loginId) {
@@ -149,7 +203,15 @@ public class SmallGroupJoinService {
     validateIsLeader(smallGroup, loginId);
 
     SmallGroupJoin smallGroupJoin = findSmallGroupJoinById(requestId);
+    validateJoinRequest(smallGroup, smallGroupJoin);
     smallGroupJoin.reject();
+    publishJoinResult(smallGroup, smallGroupJoin, false);
+  }
+
+  // 트랜잭션 커밋 이후 가입을 요청한 회원에게 결과 알림을 보냅니다.
+  private void publishJoinResult(SmallGroup smallGroup, SmallGroupJoin smallGroupJoin, boolean approved) {
+    eventPublisher.publishEvent(new SmallGroupJoinResultEvent(smallGroup.getId(), smallGroup.getPath(),
+        smallGroup.getName(), smallGroupJoin.getMember().getId(), approved));
   }
 
   private SmallGroupJoin findSmallGroupJoinById(Long requestId) {
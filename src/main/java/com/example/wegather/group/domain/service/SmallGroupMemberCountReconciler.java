@@ -0,0 +1,34 @@
+package com.example.wegather.group.domain.service;
+
+import com.example.wegather.group.domain.repotitory.SmallGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 소모임의 현재 회원수(current_member_count)를 small_group_member 기준으로 보정합니다.
+ * 회원수는 가입 시 증가 쿼리로 관리되므로, 수동 데이터 변경 등으로 어긋난 값을 주기적으로 바로잡습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SmallGroupMemberCountReconciler {
+  private static final long ID_RANGE_SIZE = 1000L;
+  private final SmallGroupRepository smallGroupRepository;
+
+  /**
+   * 소모임 ID 를 일정 범위로 나누어 보정합니다.
+   * 범위마다 트랜잭션이 분리되어, 한 번에 많은 row 에 lock 이 걸리지 않습니다.
+   */
+  @Scheduled(cron = "${app.schedule.member-count-reconcile-cron:0 0 4 * * *}")
+  public void reconcile() {
+    long maxId = smallGroupRepository.findMaxId().orElse(0L);
+    int reconciledCount = 0;
+
+    for (long fromId = 1; fromId <= maxId; fromId += ID_RANGE_SIZE) {
+      reconciledCount += smallGroupRepository.reconcileMemberCount(fromId, fromId + ID_RANGE_SIZE - 1);
+    }
+    log.info("## reconciled small group member count: {}", reconciledCount);
+  }
+}
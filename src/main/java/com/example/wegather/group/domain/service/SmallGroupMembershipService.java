@@ -0,0 +1,70 @@
+package com.example.wegather.group.domain.service;
+
+import com.example.wegather.group.domain.event.SmallGroupChangedEvent;
+import com.example.wegather.group.domain.event.SmallGroupMemberChangedEvent;
+import com.example.wegather.group.domain.repotitory.SmallGroupMemberRepository;
+import com.example.wegather.group.domain.vo.SmallGroupMemberType;
+import net.sf.ehcache.Ehcache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 회원의 소모임 내 역할을 조회합니다.
+ * 소모임 회원 컬렉션을 읽지 않고 (소모임 ID, 회원 ID) 로 회원 유형만 조회하며, 조회 결과는 캐시됩니다.
+ * 회원 추가, 소모임 삭제 시 트랜잭션 커밋 이후에 캐시를 제거합니다.
+ */
+@Service
+public class SmallGroupMembershipService {
+  private final SmallGroupMemberRepository smallGroupMemberRepository;
+  private final Ehcache memberTypeCache;
+
+  public SmallGroupMembershipService(SmallGroupMemberRepository smallGroupMemberRepository,
+      CacheManager cacheManager) {
+    this.smallGroupMemberRepository = smallGroupMemberRepository;
+    this.memberTypeCache = (Ehcache) cacheManager.getCache(SmallGroupMemberRepository.MEMBER_TYPE_CACHE_NAME)
+        .getNativeCache();
+  }
+
+  /**
+   * 소모임의 관리자인지 확인합니다.
+   * @param smallGroupId 소모임 ID
+   * @param memberId 회원 ID
+   */
+  public boolean isManager(Long smallGroupId, Long memberId) {
+    return smallGroupMemberRepository.findMemberType(smallGroupId, memberId)
+        .map(SmallGroupMemberType.MANAGER::equals)
+        .orElse(false);
+  }
+
+  /**
+   * 소모임의 회원(관리자 포함)인지 확인합니다.
+   * @param smallGroupId 소모임 ID
+   * @param memberId 회원 ID
+   */
+  public boolean isMember(Long smallGroupId, Long memberId) {
+    return smallGroupMemberRepository.findMemberType(smallGroupId, memberId).isPresent();
+  }
+
+  /**
+   * 회원 유형 캐시를 제거합니다.
+   * 조회(sync)와 같은 key lock 을 잡고 제거하므로, 커밋 이전 값을 읽던 조회가 있으면 그 조회가 캐시에 넣은 뒤에 제거됩니다.
+   */
+  @TransactionalEventListener
+  public void evictMemberType(SmallGroupMemberChangedEvent event) {
+    String key = event.getSmallGroupId() + ":" + event.getMemberId();
+    memberTypeCache.acquireWriteLockOnKey(key);
+    try {
+      memberTypeCache.remove(key);
+    } finally {
+      memberTypeCache.releaseWriteLockOnKey(key);
+    }
+  }
+
+  // 소모임 ID 로 시작하는 key 만 골라 제거할 수 없으므로 전체를 제거합니다. (소모임 삭제는 드문 작업)
+  @TransactionalEventListener(condition = "#event.deleted")
+  @CacheEvict(value = SmallGroupMemberRepository.MEMBER_TYPE_CACHE_NAME, allEntries = true)
+  public void evictAllMemberTypes(SmallGroupChangedEvent event) {
+  }
+}
@@ -0,0 +1,60 @@
+package com.example.wegather.group.domain.service;
+
+import com.example.wegather.group.domain.event.SmallGroupChangedEvent;
+import com.example.wegather.group.domain.repotitory.SmallGroupRepository;
+import java.util.Optional;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 소모임 path 를 소모임 ID 로 변환합니다.
+ * - 존재하는 path 는 ID 를 캐시합니다. (smallGroupIdByPath)
+ * - 존재하지 않는 path 도 짧은 시간 캐시하여, 없는 path 요청이 반복되어도 DB 를 조회하지 않습니다. (unknownSmallGroupPath)
+ * 소모임 생성, 삭제 시 트랜잭션 커밋 이후에 해당 path 의 캐시를 제거합니다.
+ */
+@Component
+public class SmallGroupPathResolver {
+  public static final String ID_BY_PATH_CACHE_NAME = "smallGroupIdByPath";
+  public static final String UNKNOWN_PATH_CACHE_NAME = "unknownSmallGroupPath";
+
+  private final SmallGroupRepository smallGroupRepository;
+  private final Cache idByPathCache;
+  private final Cache unknownPathCache;
+
+  public SmallGroupPathResolver(SmallGroupRepository smallGroupRepository, CacheManager cacheManager) {
+    this.smallGroupRepository = smallGroupRepository;
+    this.idByPathCache = cacheManager.getCache(ID_BY_PATH_CACHE_NAME);
+    this.unknownPathCache = cacheManager.getCache(UNKNOWN_PATH_CACHE_NAME);
+  }
+
+  /**
+   * path 에 해당하는 소모임 ID 를 조회합니다.
+   * @param path 소모임 path
+   * @return 소모임이 없으면 empty
+   */
+  public Optional<Long> resolve(String path) {
+    Long cachedId = idByPathCache.get(path, Long.class);
+    if (cachedId != null) {
+      return Optional.of(cachedId);
+    }
+    if (unknownPathCache.get(path) != null) {
+      return Optional.empty();
+    }
+
+    Optional<Long> id = smallGroupRepository.findIdByPath(path);
+    if (id.isPresent()) {
+      idByPathCache.put(path, id.get());
+    } else {
+      unknownPathCache.put(path, Boolean.TRUE);
+    }
+    return id;
+  }
+
+  @TransactionalEventListener(condition = "#event.path != null")
+  public void evict(SmallGroupChangedEvent event) {
+    idByPathCache.evict(event.getPath());
+    unknownPathCache.evict(event.getPath());
+  }
+}
@@ -4,16 +4,25 @@ import static com.example.wegather.global.exception.ErrorCode.*;
 
 import com.example.wegather.auth.MemberDetails;
 import com.example.wegather.global.exception.customException.NoPermissionException;
+import com.example.wegather.global.vo.SmallGroupStatus;
+import com.example.wegather.global.upload.DecodedImageFile;
 import com.example.wegather.global.upload.ImageUploadService;
+import com.example.wegather.global.upload.entity.ImageVariant;
 import com.example.wegather.group.domain.entity.SmallGroup;
-import com.example.wegather.group.domain.repotitory.SmallGroupJoinRepository;
+import com.example.wegather.group.domain.event.SmallGroupChangedEvent;
+import com.example.wegather.group.domain.event.SmallGroupMemberChangedEvent;
+import com.example.wegather.group.domain.event.SmallGroupPublishedEvent;
+import com.example.wegather.group.domain.search.SmallGroupFacetIndex;
+import com.example.wegather.group.domain.search.SmallGroupFacetResult;
 import com.example.wegather.group.domain.repotitory.SmallGroupRepository;
 import com.example.wegather.group.domain.vo.RecruitingType;
 import com.example.wegather.group.dto.CreateSmallGroupRequest;
 import com.example.wegather.group.dto.ManagerAndMemberDto;
+import com.example.wegather.group.dto.SmallGroupCursorPageDto;
 import com.example.wegather.group.dto.SmallGroupDto;
+import com.example.wegather.group.dto.SmallGroupFacetSearchDto;
+import com.example.wegather.group.dto.SmallGroupSearchCursor;
 import com.example.wegather.group.dto.SmallGroupSearchDto;
-import com.example.wegather.group.dto.UpdateBannerRequest;
 import com.example.wegather.group.dto.UpdateGroupDescriptionRequest;
 import com.example.wegather.group.dto.UpdateGroupWithMultipartImageRequest;
 import com.example.wegather.group.domain.entity.SmallGroupMember;
@@ -24,8 +33,11 @@ import com.example.wegather.interest.domain.InterestService;
 import com.example.wegather.member.domain.entity.Member;
 import com.example.wegather.member.domain.MemberRepository;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -36,14 +48,18 @@ import org.springframework.web.multipart.MultipartFile;
 @Service
 @RequiredArgsConstructor
 public class SmallGroupService {
+  private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
   private final SmallGroupRepository smallGroupRepository;
   private final MemberRepository memberRepository;
   private final InterestRepository interestRepository;
   private final InterestService interestService;
   private final SmallGroupMemberRepository smallGroupMemberRepository;
-  private final SmallGroupJoinRepository smallGroupJoinRepository;
   private final ImageUploadService imageUploadService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final SmallGroupFacetIndex smallGroupFacetIndex;
+  private final SmallGroupMembershipService smallGroupMembershipService;
+  private final SmallGroupPathResolver smallGroupPathResolver;
 
   @Transactional
   public SmallGroup addSmallGroup(CreateSmallGroupRequest request, Long memberId) {
@@ -61,6 +77,7 @@ public class SmallGroupService {
         .build());
 
     saveLeaderAsManager(member, savedGroup);
+    eventPublisher.publishEvent(SmallGroupChangedEvent.created(savedGroup.getId(), savedGroup.getPath()));
     return savedGroup;
   }
 
@@ -73,6 +90,8 @@ public class SmallGroupService {
     SmallGroupMember smallGroupMember = SmallGroupMember.of(savedGroup, leader);
     smallGroupMember.changeTypeManager();
     smallGroupMemberRepository.save(smallGroupMember);
+    smallGroupRepository.increaseMemberCount(savedGroup.getId());
+    eventPublisher.publishEvent(new SmallGroupMemberChangedEvent(savedGroup.getId(), leader.getId()));
   }
 
   public SmallGroup getSmallGroup(Long id) {
@@ -80,25 +99,108 @@ public class SmallGroupService {
         .orElseThrow(() -> new IllegalArgumentException(SMALL_GROUP_NOT_FOUND.getDescription()));
   }
 
+  /**
+   * path 로 소모임 상세 정보를 조회합니다.
+   * 소모임 정보, 소모임장, 조회한 회원의 가입 여부와 가입 요청 여부를 한 번의 쿼리로 조회합니다.
+   * @param path 소모임 path
+   * @param memberDetails 로그인한 회원
+   * @throws IllegalArgumentException
+   *    - 소모임이 존재하지 않는 경우
+   */
   public SmallGroupDto getSmallGroupByPath(String path, MemberDetails memberDetails) {
-    SmallGroup smallGroup = findSmallGroupByPath(path);
-    SmallGroupDto smallGroupDto = SmallGroupDto.from(smallGroup);
-
-    smallGroupDto.changeJoinable(smallGroup.isJoinable());
-    smallGroupDto.changeMemberOrManager(smallGroup.isMemberOrManager(memberDetails.getMemberId()));
-    smallGroupDto.changeJoinRequested(
-        smallGroupJoinRepository.existsRequestedJoin(smallGroup.getId(), memberDetails.getMemberId()));
-    return smallGroupDto;
+    return smallGroupRepository.findDetailById(resolveSmallGroupId(path), memberDetails.getMemberId())
+        .map(SmallGroupDto::from)
+        .orElseThrow(() -> new IllegalArgumentException(SMALL_GROUP_NOT_FOUND.getDescription()));
   }
 
   private SmallGroup findSmallGroupByPath(String path) {
-    return smallGroupRepository.findByPath(path)
+    return smallGroupRepository.findById(resolveSmallGroupId(path))
+        .orElseThrow(() -> new IllegalArgumentException(SMALL_GROUP_NOT_FOUND.getDescription()));
+  }
+
+  /**
+   * path 에 해당하는 소모임 ID 를 조회합니다. (캐시 사용)
+   * @throws IllegalArgumentException
+   *    - 소모임이 존재하지 않는 경우
+   */
+  private Long resolveSmallGroupId(String path) {
+    return smallGroupPathResolver.resolve(path)
         .orElseThrow(() -> new IllegalArgumentException(SMALL_GROUP_NOT_FOUND.getDescription()));
   }
 
   public Page<SmallGroupSearchDto> searchSmallGroups(String keyword, Pageable pageable) {
     Page<SmallGroup> searchResult = smallGroupRepository.search(keyword, pageable);
-    return searchResult.map(SmallGroupSearchDto::from);
+    Map<String, String> images = findSearchCardImages(searchResult.getContent());
+    return searchResult.map(smallGroup -> SmallGroupSearchDto.from(smallGroup, images.get(smallGroup.getImage())));
+  }
+
+  /**
+   * 소모임 목록을 검색 결과 DTO 로 변환합니다.
+   */
+  private List<SmallGroupSearchDto> toSearchDtos(List<SmallGroup> smallGroups) {
+    Map<String, String> images = findSearchCardImages(smallGroups);
+    return smallGroups.stream()
+        .map(smallGroup -> SmallGroupSearchDto.from(smallGroup, images.get(smallGroup.getImage())))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * 검색 결과 카드는 이미지를 작게 표시하므로, 축소 이미지가 있으면 축소 이미지를 사용합니다.
+   * @return 원본 이미지 -> 사용할 이미지
+   */
+  private Map<String, String> findSearchCardImages(List<SmallGroup> smallGroups) {
+    return imageUploadService.findVariantImages(
+        smallGroups.stream().map(SmallGroup::getImage).collect(Collectors.toList()), ImageVariant.MEDIUM);
+  }
+
+  /**
+   * 커서 기반으로 소모임을 검색합니다.
+   * 다음 페이지 존재 여부를 알기 위해 요청한 개수보다 1개 더 조회합니다.
+   * @param keyword 검색어
+   * @param cursor 이전 검색 결과의 nextCursor, null 이면 첫 페이지
+   * @param size 페이지 크기
+   * @throws IllegalArgumentException
+   *    - 올바르지 않은 커서인 경우
+   */
+  public SmallGroupCursorPageDto searchSmallGroupsByCursor(String keyword, String cursor, int size) {
+    size = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    SmallGroupSearchCursor searchCursor = cursor != null ? SmallGroupSearchCursor.decode(cursor) : null;
+    List<SmallGroup> smallGroups = smallGroupRepository.searchAfter(keyword, searchCursor, size + 1);
+
+    boolean hasNext = smallGroups.size() > size;
+    List<SmallGroup> content = hasNext ? smallGroups.subList(0, size) : smallGroups;
+    String nextCursor = hasNext ? SmallGroupSearchCursor.from(content.get(content.size() - 1)).encode() : null;
+
+    return new SmallGroupCursorPageDto(toSearchDtos(content), nextCursor, hasNext);
+  }
+
+  /**
+   * 관심사, 소모임 상태, 모집 방식으로 소모임을 검색합니다. (최신순)
+   * 패싯 색인으로 조회할 소모임 ID 와 패싯별 개수를 구하고, 해당 페이지의 소모임만 DB 에서 조회합니다.
+   * @param interests 관심사 이름
+   * @param statuses 소모임 상태
+   * @param recruitingTypes 모집 방식
+   * @param cursor 이전 검색 결과의 nextCursor, null 이면 첫 페이지
+   * @param size 페이지 크기
+   * @throws IllegalArgumentException
+   *    - 올바르지 않은 커서인 경우
+   * @throws IllegalStateException
+   *    - 검색 색인이 아직 준비되지 않은 경우
+   */
+  public SmallGroupFacetSearchDto searchSmallGroupsByFacet(Set<String> interests, Set<SmallGroupStatus> statuses,
+      Set<RecruitingType> recruitingTypes, Long cursor, int size) {
+    if (cursor != null && cursor < 1) {
+      throw new IllegalArgumentException(INVALID_SEARCH_CURSOR.getDescription());
+    }
+    if (!smallGroupFacetIndex.isReady()) {
+      throw new IllegalStateException(SEARCH_INDEX_NOT_READY.getDescription());
+    }
+    size = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    SmallGroupFacetResult result = smallGroupFacetIndex.search(interests, statuses, recruitingTypes, cursor, size);
+
+    List<SmallGroupSearchDto> content = toSearchDtos(smallGroupRepository.findAllWithInterestsByIdIn(result.getIds()));
+    return new SmallGroupFacetSearchDto(content, result.getTotalCount(),
+        result.getNextCursor(), result.getNextCursor() != null, result.getFacetCounts());
   }
 
   /**
@@ -123,6 +225,7 @@ public class SmallGroupService {
     smallGroup.updateSmallGroupDescription(
         request.getShortDescription(),
         request.getFullDescription());
+    eventPublisher.publishEvent(SmallGroupChangedEvent.saved(smallGroup.getId()));
   }
 
   /**
@@ -146,6 +249,7 @@ public class SmallGroupService {
     smallGroup.updateSmallGroupDescription(
         descriptionInfo.getShortDescription(),
         descriptionInfo.getFullDescription());
+    eventPublisher.publishEvent(SmallGroupChangedEvent.saved(smallGroup.getId()));
   }
 
   /**
@@ -155,7 +259,7 @@ public class SmallGroupService {
    * @param smallGroup 소모임
    */
   private void validateUpdatable(MemberDetails principal, SmallGroup smallGroup) {
-    if (!smallGroup.isManager(principal.getMemberId())) {
+    if (!smallGroupMembershipService.isManager(smallGroup.getId(), principal.getMemberId())) {
       throw new NoPermissionException(PERMISSION_DENIED.getDescription());
     }
   }
@@ -167,6 +271,7 @@ public class SmallGroupService {
     validateUpdatable(principal, smallGroup);
 
     smallGroupRepository.deleteById(id);
+    eventPublisher.publishEvent(SmallGroupChangedEvent.deleted(id, smallGroup.getPath()));
   }
 
   @Transactional
@@ -177,6 +282,7 @@ public class SmallGroupService {
     Interest interest = interestService.findOrAddInterestByName(interestName);
 
     smallGroup.addInterest(interest);
+    eventPublisher.publishEvent(SmallGroupChangedEvent.saved(smallGroup.getId()));
   }
 
   @Transactional
@@ -187,12 +293,20 @@ public class SmallGroupService {
         .orElseThrow(() -> new IllegalArgumentException(INTEREST_NOT_FOUND.getDescription()));
 
     smallGroup.removeInterest(interest);
+    eventPublisher.publishEvent(SmallGroupChangedEvent.saved(smallGroup.getId()));
   }
 
   public List<ManagerAndMemberDto> getSmallGroupManagersAndMembers(String path) {
     SmallGroup smallGroup = findSmallGroupByPath(path);
-    return smallGroupMemberRepository.findBySmallGroupOrderbyType(smallGroup).stream()
-        .map(ManagerAndMemberDto::from).collect(Collectors.toList());
+    List<SmallGroupMember> groupMembers = smallGroupMemberRepository.findBySmallGroupOrderbyType(smallGroup);
+    // 회원 목록은 프로필 이미지를 작게 표시하므로, 축소 이미지가 있으면 축소 이미지를 사용합니다.
+    Map<String, String> profileImages = imageUploadService.findVariantImages(groupMembers.stream()
+        .map(groupMember -> groupMember.getMember().getProfileImage())
+        .collect(Collectors.toList()), ImageVariant.SMALL);
+    return groupMembers.stream()
+        .map(groupMember -> ManagerAndMemberDto.from(groupMember,
+            profileImages.get(groupMember.getMember().getProfileImage())))
+        .collect(Collectors.toList());
   }
 
   /**
@@ -202,16 +316,16 @@ public class SmallGroupService {
    * 수정 전 이미지는 삭제됩니다.
    * @param memberDetails
    * @param path
-   * @param request
+   * @param image 요청 본문에서 스트리밍으로 디코딩된 이미지 임시 파일
    */
   @Deprecated
   @Transactional
-  public void updateBanner(MemberDetails memberDetails, String path, UpdateBannerRequest request) {
+  public void updateBanner(MemberDetails memberDetails, String path, DecodedImageFile image) {
     SmallGroup smallGroup = findSmallGroupByPath(path);
     validateUpdatable(memberDetails, smallGroup);
 
     // 이미지 업로드
-    String storedFileName = imageUploadService.uploadImage(request.getImage(), request.getOriginalImageName());
+    String storedFileName = imageUploadService.uploadImage(image, memberDetails.getMemberId());
 
     replaceBannerImage(smallGroup, storedFileName);
   }
@@ -222,7 +336,7 @@ public class SmallGroupService {
 
     // 기존 이미지 삭제
     if (StringUtils.hasText(originalImage)) {
-      imageUploadService.deleteImage(originalImage);
+      imageUploadService.deleteImageLater(originalImage);
     }
   }
 
@@ -244,6 +358,26 @@ public class SmallGroupService {
     replaceBannerImage(smallGroup, storedFileName);
   }
 
+  /**
+   * 배너 이미지를 수정합니다. (서명된 URL 로 업로드 완료된 이미지)
+   * 현재 배너 이미지와 같으면 아무것도 변경하지 않습니다.
+   * @param memberDetails
+   * @param path
+   * @param storedFileName 업로드 완료된 이미지의 저장 파일명
+   */
+  @Transactional
+  public void updateBannerUploaded(MemberDetails memberDetails, String path, String storedFileName) {
+    SmallGroup smallGroup = findSmallGroupByPath(path);
+    validateUpdatable(memberDetails, smallGroup);
+    if (storedFileName.equals(smallGroup.getBanner())) {
+      return;
+    }
+
+    String uploadedImage = imageUploadService.acquireUploadedImage(storedFileName, memberDetails.getMemberId());
+
+    replaceBannerImage(smallGroup, uploadedImage);
+  }
+
   @Transactional
   public void toggleUseBanner(MemberDetails memberDetails, String path) {
     SmallGroup smallGroup = findSmallGroupByPath(path);
@@ -257,7 +391,7 @@ public class SmallGroupService {
   }
 
   private SmallGroup findWithInterestByPath(String path) {
-    return smallGroupRepository.findWithInterestByPath(path)
+    return smallGroupRepository.findWithInterestById(resolveSmallGroupId(path))
         .orElseThrow(() -> new IllegalArgumentException(SMALL_GROUP_NOT_FOUND.getDescription()));
   }
 
@@ -265,7 +399,14 @@ public class SmallGroupService {
   public void publishSmallGroup(MemberDetails principal, String path) {
     SmallGroup smallGroup = findSmallGroupByPath(path);
     validateUpdatable(principal, smallGroup);
+    boolean firstPublished = !smallGroup.isPublished();
     smallGroup.publish();
+    eventPublisher.publishEvent(SmallGroupChangedEvent.saved(smallGroup.getId()));
+    // 다시 공개하는 경우에는 알림을 중복으로 보내지 않습니다.
+    if (firstPublished) {
+      eventPublisher.publishEvent(new SmallGroupPublishedEvent(
+          smallGroup.getId(), smallGroup.getPath(), smallGroup.getName(), smallGroup.getLeader().getId()));
+    }
   }
 
   @Transactional
@@ -273,6 +414,7 @@ public class SmallGroupService {
     SmallGroup smallGroup = findSmallGroupByPath(path);
     validateUpdatable(principal, smallGroup);
     smallGroup.openRecruiting(recruitingType);
+    eventPublisher.publishEvent(SmallGroupChangedEvent.saved(smallGroup.getId()));
   }
 
   @Transactional
@@ -280,5 +422,6 @@ public class SmallGroupService {
     SmallGroup smallGroup = findSmallGroupByPath(path);
     validateUpdatable(principal, smallGroup);
     smallGroup.close();
+    eventPublisher.publishEvent(SmallGroupChangedEvent.saved(smallGroup.getId()));
   }
 }
@@ -15,10 +15,17 @@ public class ManagerAndMemberDto {
   private boolean manager;
 
   public static ManagerAndMemberDto from(SmallGroupMember groupMember) {
+    return from(groupMember, groupMember.getMember().getProfileImage());
+  }
+
+  /**
+   * @param image 표시할 프로필 이미지 (축소 이미지 등)
+   */
+  public static ManagerAndMemberDto from(SmallGroupMember groupMember, String image) {
     return ManagerAndMemberDto.builder()
         .name(groupMember.getMember().getUsername())
         .introduction(groupMember.getMember().getIntroductionText())
-        .image(groupMember.getMember().getProfileImage())
+        .image(image)
         .manager(groupMember.getSmallGroupMemberType() == SmallGroupMemberType.MANAGER)
         .build();
   }
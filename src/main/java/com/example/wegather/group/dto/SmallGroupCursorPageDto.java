@@ -0,0 +1,17 @@
+package com.example.wegather.group.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 커서 기반 소모임 검색 결과
+ * 전체 개수는 포함하지 않으며, 다음 페이지는 nextCursor 로 조회합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class SmallGroupCursorPageDto {
+  private List<SmallGroupSearchDto> content;
+  private String nextCursor;
+  private boolean hasNext;
+}
@@ -0,0 +1,31 @@
+package com.example.wegather.group.dto;
+
+import com.example.wegather.group.domain.vo.RecruitingType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 소모임 상세 조회용 projection
+ * 소모임 정보, 소모임장, 조회한 회원의 가입 여부와 가입 요청 여부를 한 번의 쿼리로 조회합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class SmallGroupDetailDto {
+  private Long id;
+  private String path;
+  private String name;
+  private String shortDescription;
+  private String fullDescription;
+  private String image;
+  private String banner;
+  private Boolean useBanner;
+  private Long maxMemberCount;
+  private Boolean recruiting;
+  private RecruitingType recruitingType;
+  private Boolean published;
+  private Boolean closed;
+  private Long leaderId;
+  private String leaderUsername;
+  private Long viewerSmallGroupMemberId;   // 조회한 회원이 소모임 회원이 아니면 null
+  private Long viewerJoinRequestId;        // 조회한 회원의 요청 상태 가입 요청이 없으면 null
+}
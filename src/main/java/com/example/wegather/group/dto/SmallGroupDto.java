@@ -51,6 +51,33 @@ public class SmallGroupDto {
         .build();
   }
 
+  public static SmallGroupDto from(SmallGroupDetailDto detail) {
+    boolean recruiting = Boolean.TRUE.equals(detail.getRecruiting());
+    boolean published = Boolean.TRUE.equals(detail.getPublished());
+    boolean closed = Boolean.TRUE.equals(detail.getClosed());
+    return SmallGroupDto.builder()
+        .id(detail.getId())
+        .path(detail.getPath())
+        .name(detail.getName())
+        .shortDescription(detail.getShortDescription())
+        .fullDescription(detail.getFullDescription())
+        .image(detail.getImage())
+        .leaderId(detail.getLeaderId())
+        .leaderUsername(detail.getLeaderUsername())
+        .maxMemberCount(detail.getMaxMemberCount())
+        .banner(detail.getBanner())
+        .useBanner(Boolean.TRUE.equals(detail.getUseBanner()))
+        .recruiting(recruiting)
+        .recruitingType(detail.getRecruitingType() != null ? detail.getRecruitingType().name() : "")
+        .published(published)
+        .status(SmallGroupStatus.of(closed, recruiting, published))
+        .closed(closed)
+        .joinable(SmallGroup.isJoinable(published, recruiting, closed))
+        .managerOrMember(detail.getViewerSmallGroupMemberId() != null)
+        .joinRequested(detail.getViewerJoinRequestId() != null)
+        .build();
+  }
+
   public void changeJoinable(boolean joinable) {
     this.joinable = joinable;
   }
@@ -0,0 +1,19 @@
+package com.example.wegather.group.dto;
+
+import com.example.wegather.global.vo.SmallGroupStatus;
+import com.example.wegather.group.domain.vo.RecruitingType;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 패싯 색인 생성에 필요한 소모임 정보
+ */
+@Getter
+@AllArgsConstructor
+public class SmallGroupFacetDto {
+  private Long id;
+  private SmallGroupStatus status;
+  private RecruitingType recruitingType;
+  private List<String> interests;
+}
@@ -0,0 +1,21 @@
+package com.example.wegather.group.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 패싯 소모임 검색 결과
+ * 다음 페이지는 nextCursor 로 조회합니다.
+ * facets : 패싯 이름(interest, status, recruitingType) -> (패싯 값 -> 소모임 수)
+ */
+@Getter
+@AllArgsConstructor
+public class SmallGroupFacetSearchDto {
+  private List<SmallGroupSearchDto> content;
+  private long totalElements;
+  private Long nextCursor;
+  private boolean hasNext;
+  private Map<String, Map<String, Integer>> facets;
+}
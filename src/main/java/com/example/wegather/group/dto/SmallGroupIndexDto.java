@@ -0,0 +1,15 @@
+package com.example.wegather.group.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 인덱스 생성에 필요한 소모임 정보
+ */
+@Getter
+@AllArgsConstructor
+public class SmallGroupIndexDto {
+  private Long id;
+  private String name;
+  private String shortDescription;
+}
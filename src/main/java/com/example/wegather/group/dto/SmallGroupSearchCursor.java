@@ -0,0 +1,49 @@
+package com.example.wegather.group.dto;
+
+import static com.example.wegather.global.exception.ErrorCode.INVALID_SEARCH_CURSOR;
+
+import com.example.wegather.group.domain.entity.SmallGroup;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 소모임 검색 커서
+ * 마지막으로 조회한 소모임의 (생성일시, ID) 를 담고 있으며, 클라이언트에는 Base64 문자열로 전달됩니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class SmallGroupSearchCursor {
+  private static final String DELIMITER = "_";
+
+  private final LocalDateTime createdAt;
+  private final Long id;
+
+  public static SmallGroupSearchCursor from(SmallGroup smallGroup) {
+    return new SmallGroupSearchCursor(smallGroup.getCreatedAt(), smallGroup.getId());
+  }
+
+  /**
+   * 커서 문자열을 해석합니다.
+   * @param cursor Base64 로 인코딩된 커서
+   * @throws IllegalArgumentException
+   *    - 올바르지 않은 커서인 경우
+   */
+  public static SmallGroupSearchCursor decode(String cursor) {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] tokens = decoded.split(DELIMITER);
+      return new SmallGroupSearchCursor(LocalDateTime.parse(tokens[0]), Long.parseLong(tokens[1]));
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException(INVALID_SEARCH_CURSOR.getDescription());
+    }
+  }
+
+  public String encode() {
+    String raw = createdAt + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -22,11 +22,18 @@ public class SmallGroupSearchDto {
   private LocalDateTime createdAt;
 
   public static SmallGroupSearchDto from (SmallGroup smallGroup) {
+    return from(smallGroup, smallGroup.getImage());
+  }
+
+  /**
+   * @param image 표시할 이미지 (축소 이미지 등)
+   */
+  public static SmallGroupSearchDto from (SmallGroup smallGroup, String image) {
     return SmallGroupSearchDto.builder()
         .path(smallGroup.getPath())
         .name(smallGroup.getName())
         .shortDescription(smallGroup.getShortDescription())
-        .image(smallGroup.getImage())
+        .image(image)
         .status(smallGroup.getStatus())
         .interests(smallGroup.getInterests())
         .maxMemberCount(smallGroup.getMaxMemberCount())
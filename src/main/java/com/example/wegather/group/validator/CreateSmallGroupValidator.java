@@ -1,9 +1,7 @@
 package com.example.wegather.group.validator;
 
-import com.example.wegather.group.domain.entity.SmallGroup;
 import com.example.wegather.group.domain.repotitory.SmallGroupRepository;
 import com.example.wegather.group.dto.CreateSmallGroupRequest;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.Errors;
@@ -23,8 +21,8 @@ public class CreateSmallGroupValidator implements Validator {
   public void validate(Object target, Errors errors) {
     CreateSmallGroupRequest request = (CreateSmallGroupRequest) target;
 
-    Optional<SmallGroup> smallGroup = smallGroupRepository.findByPath(request.getPath());
-    if (smallGroup.isPresent()) {
+    // 생성 가능 여부는 캐시가 아닌 DB 로 확인합니다.
+    if (smallGroupRepository.existsByPath(request.getPath())) {
       errors.rejectValue("path", "wrong.value", "이미 존재하는 url 입니다.");
     }
   }
@@ -1,19 +1,27 @@
 package com.example.wegather.group.web;
 
 import com.example.wegather.auth.MemberDetails;
+import com.example.wegather.global.vo.SmallGroupStatus;
 import com.example.wegather.group.domain.service.SmallGroupService;
 import com.example.wegather.group.domain.vo.RecruitingType;
+import com.example.wegather.global.upload.Base64ImageRequestReader;
+import com.example.wegather.global.upload.DecodedImageFile;
+import com.example.wegather.global.upload.dto.UploadedImageRequest;
 import com.example.wegather.group.dto.CreateSmallGroupRequest;
 import com.example.wegather.group.dto.ManagerAndMemberDto;
+import com.example.wegather.group.dto.SmallGroupCursorPageDto;
 import com.example.wegather.group.dto.SmallGroupDto;
+import com.example.wegather.group.dto.SmallGroupFacetSearchDto;
 import com.example.wegather.group.dto.SmallGroupSearchDto;
-import com.example.wegather.group.dto.UpdateBannerRequest;
 import com.example.wegather.group.dto.UpdateGroupDescriptionRequest;
 import com.example.wegather.group.dto.UpdateGroupWithMultipartImageRequest;
 import com.example.wegather.group.validator.CreateSmallGroupValidator;
 import com.example.wegather.interest.dto.InterestDto;
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
+import java.util.Set;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -43,6 +51,7 @@ import org.springframework.web.multipart.MultipartFile;
 @RestController
 public class SmallGroupController {
   private final SmallGroupService smallGroupService;
+  private final Base64ImageRequestReader base64ImageRequestReader;
 
   private final CreateSmallGroupValidator createSmallGroupValidator;
 
@@ -93,13 +102,16 @@ public class SmallGroupController {
    * 소모임 배너 수정 (base64 이미지 형식)
    * MultipartFile 이미지로 입력받는 `/{path}/banner/v2` 로 대체되었습니다. (Deprecated 됨)
    * 소모임의 관리자만 수정 가능합니다.
+   * 요청 본문({@link Base64ImageRequestReader} 참고)은 스트리밍으로 디코딩되어, 이미지 크기와 관계없이 일정한 메모리만 사용합니다.
    * @return
    */
   @Deprecated
   @PostMapping("/{path}/banner")
   public ResponseEntity<Void> updateSmallGroupBanner(@AuthenticationPrincipal MemberDetails memberDetails,
-      @PathVariable String path, @RequestBody @Valid UpdateBannerRequest request) {
-    smallGroupService.updateBanner(memberDetails, path ,request);
+      @PathVariable String path, HttpServletRequest request) throws IOException {
+    try (DecodedImageFile image = base64ImageRequestReader.read(request.getInputStream())) {
+      smallGroupService.updateBanner(memberDetails, path, image);
+    }
     return ResponseEntity.ok().build();
   }
 
@@ -115,6 +127,18 @@ public class SmallGroupController {
     return ResponseEntity.ok().build();
   }
 
+  /**
+   * 소모임 배너 수정 (서명된 URL 로 업로드 완료된 이미지)
+   * 소모임의 관리자만 수정 가능합니다.
+   * @return
+   */
+  @PostMapping("/{path}/banner/v3")
+  public ResponseEntity<Void> updateSmallGroupBanner(@AuthenticationPrincipal MemberDetails memberDetails,
+      @PathVariable String path, @RequestBody @Valid UploadedImageRequest request) {
+    smallGroupService.updateBannerUploaded(memberDetails, path, request.getStoredFileName());
+    return ResponseEntity.ok().build();
+  }
+
   /**
    * 배너 사용 여부를 변겅합니다.
    * 관리자만 변경가능합니다.
@@ -140,6 +164,43 @@ public class SmallGroupController {
     return ResponseEntity.ok(smallGroupService.searchSmallGroups(keyword, pageable));
   }
 
+  /**
+   * 커서 기반으로 소모임을 검색합니다. (무한 스크롤)
+   * 생성일시 내림차순으로 조회하며, 전체 개수는 조회하지 않습니다.
+   * @param keyword 검색어
+   * @param cursor 이전 검색 결과의 nextCursor, 첫 페이지는 생략
+   * @param size 페이지 크기 (1 ~ 100)
+   * @return 소모임 검색 결과와 다음 페이지 커서
+   */
+  @GetMapping("/search/cursor")
+  public ResponseEntity<SmallGroupCursorPageDto> searchGroupsByCursor(
+      @RequestParam @Nullable String keyword,
+      @RequestParam @Nullable String cursor,
+      @RequestParam(defaultValue = "9") int size) {
+    return ResponseEntity.ok(smallGroupService.searchSmallGroupsByCursor(keyword, cursor, size));
+  }
+
+  /**
+   * 관심사, 소모임 상태, 모집 방식으로 소모임을 검색합니다.
+   * 같은 조건 안의 값은 OR, 서로 다른 조건은 AND 로 검색하며, 조건별 소모임 수를 함께 반환합니다.
+   * @param interests 관심사 이름 목록
+   * @param statuses 소모임 상태 목록
+   * @param recruitingTypes 모집 방식 목록
+   * @param cursor 이전 검색 결과의 nextCursor, 첫 페이지는 생략 (최신순)
+   * @param size 페이지 크기 (1 ~ 100)
+   * @return 소모임 검색 결과, 다음 페이지 커서와 조건별 소모임 수
+   */
+  @GetMapping("/search/faceted")
+  public ResponseEntity<SmallGroupFacetSearchDto> searchGroupsByFacet(
+      @RequestParam(required = false) Set<String> interests,
+      @RequestParam(required = false) Set<SmallGroupStatus> statuses,
+      @RequestParam(required = false) Set<RecruitingType> recruitingTypes,
+      @RequestParam @Nullable Long cursor,
+      @RequestParam(defaultValue = "9") int size) {
+    return ResponseEntity.ok(
+        smallGroupService.searchSmallGroupsByFacet(interests, statuses, recruitingTypes, cursor, size));
+  }
+
   /**
    * 소모임 정보를 업데이트 합니다. (base64 이미지)
    * **MultipartFile 타입의 입력값을 사용하는 메서드로 대체되었습니다. (@Deprecated 됨)**
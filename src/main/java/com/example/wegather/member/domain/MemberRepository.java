@@ -2,10 +2,12 @@ package com.example.wegather.member.domain;
 
 import com.example.wegather.group.domain.entity.SmallGroup;
 import com.example.wegather.member.domain.entity.Member;
+import com.example.wegather.member.dto.GroupCreatedAlarmTargetDto;
 import com.example.wegather.member.dto.ProfileSmallGroupDto;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -25,6 +27,36 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
   @EntityGraph(attributePaths = {"memberInterests", "memberInterests.interest", "memberAlarmSetting"})
   Optional<Member> findWithInterestsAndAlarmById(Long memberId);
 
+  @Query("select m.profileImage from Member m where m.profileImage in :images")
+  List<String> findProfileImagesIn(Collection<String> images);
+
+  /**
+   * 관심사를 가진 회원 ID 를 회원 ID 순으로 조회합니다.
+   * member_interest 의 (interest_id, member_id) 인덱스만 순서대로 읽으므로 정렬(filesort)이 필요하지 않습니다.
+   * @param lastMemberId 이전에 조회한 마지막 회원 ID
+   */
+  @Query("select mi.member.id from MemberInterest mi "
+      + "where mi.interest.id = :interestId and mi.member.id > :lastMemberId "
+      + "order by mi.member.id")
+  List<Long> findMemberIdsByInterestId(Long interestId, Long lastMemberId, Pageable pageable);
+
+  /**
+   * 회원 중 소모임 생성 알림을 받는 회원을 조회합니다.
+   * 엔티티가 아닌 알림에 필요한 값만 조회하므로 영속성 컨텍스트에 회원이 쌓이지 않습니다.
+   * @param memberIds 관심사가 같은 회원 ID 목록
+   * @param excludedMemberId 알림을 받지 않을 회원 ID (소모임 리더)
+   */
+  @Query("select new com.example.wegather.member.dto.GroupCreatedAlarmTargetDto("
+      +   "m.id, m.email, m.emailVerified, s.groupCreatedByEmail, s.groupCreatedByWeb) "
+      + "from Member m "
+      +   "inner join m.memberAlarmSetting s "
+      + "where m.id in :memberIds and m.id <> :excludedMemberId "
+      + "and (s.groupCreatedByWeb = true or (s.groupCreatedByEmail = true and m.emailVerified = true))")
+  List<GroupCreatedAlarmTargetDto> findGroupCreatedAlarmTargets(Collection<Long> memberIds, Long excludedMemberId);
+
+  @Query("select s.joinResultByWeb from MemberAlarmSetting s where s.member.id = :memberId")
+  Optional<Boolean> findJoinResultByWeb(Long memberId);
+
   @Query("select sg "
       + "from SmallGroupMember sgm "
       +   "inner join sgm.smallGroup sg "
@@ -6,11 +6,11 @@ import static com.example.wegather.global.exception.ErrorCode.MEMBER_NOT_FOUND;
 import static com.example.wegather.global.exception.ErrorCode.PASSWORD_NOT_MATCHED;
 
 import com.example.wegather.auth.MemberDetails;
+import com.example.wegather.global.upload.DecodedImageFile;
 import com.example.wegather.global.upload.ImageUploadService;
 import com.example.wegather.interest.domain.InterestService;
 import com.example.wegather.member.dto.ChangeAlarmSettingsForm;
 import com.example.wegather.member.dto.ChangePasswordForm;
-import com.example.wegather.member.dto.EditProfileImageRequest;
 import com.example.wegather.member.dto.MemberProfileDto;
 import com.example.wegather.global.exception.customException.AuthenticationException;
 import com.example.wegather.interest.domain.Interest;
@@ -61,18 +61,18 @@ public class MemberService {
 
   /**
    * 프로필 이미지 수정  (base64 encoded input)
-   * Base64로 인코딩된 이미지를 입력값으로 받습니다.
+   * Base64로 인코딩된 이미지를 입력값으로 받습니다. 요청 본문에서 스트리밍으로 디코딩된 임시 파일을 업로드합니다.
    * MultipartFile 타입의 이미지로 입력받는 기능으로 대체되었습니다. (Deprecated)
    * @param memberId 회원 ID
-   * @param request base64로 인코딩된 이미지 입력값
+   * @param image 디코딩된 이미지 임시 파일
    */
   @Deprecated
   @Transactional
-  public void updateProfileImage(Long memberId, EditProfileImageRequest request) {
+  public void updateProfileImage(Long memberId, DecodedImageFile image) {
     Member member = getMemberById(memberId);
 
     // 이미지 업로드
-    String storedFileName = imageUploadService.uploadImage(request.getImage(), request.getOriginalImageName());
+    String storedFileName = imageUploadService.uploadImage(image, memberId);
 
     replaceProfileImage(member, storedFileName);
   }
@@ -88,7 +88,7 @@ public class MemberService {
 
     // 기존 이미지 삭제
     if(StringUtils.hasText(priorImage)) {
-      imageUploadService.deleteImage(priorImage);
+      imageUploadService.deleteImageLater(priorImage);
     }
   }
 
@@ -108,6 +108,25 @@ public class MemberService {
     replaceProfileImage(member, storedFileName);
   }
 
+  /**
+   * 프로필 이미지 수정 (서명된 URL 로 업로드 완료된 이미지)
+   * 이미지는 클라이언트가 스토리지에 직접 업로드하며, 업로드 완료된 파일명만 입력받습니다.
+   * 현재 프로필 이미지와 같으면 아무것도 변경하지 않습니다.
+   * @param memberId 회원 ID
+   * @param storedFileName 업로드 완료된 이미지의 저장 파일명
+   */
+  @Transactional
+  public void updateProfileImageUploaded(Long memberId, String storedFileName) {
+    Member member = getMemberById(memberId);
+    if (storedFileName.equals(member.getProfileImage())) {
+      return;
+    }
+
+    String uploadedImage = imageUploadService.acquireUploadedImage(storedFileName, memberId);
+
+    replaceProfileImage(member, uploadedImage);
+  }
+
   @Transactional
   public List<InterestDto> addInterest(MemberDetails principal,Long id, Long interestsId) {
     Member member = getMemberById(id);
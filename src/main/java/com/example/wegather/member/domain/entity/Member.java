@@ -18,8 +18,10 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -30,6 +32,7 @@ import org.hibernate.annotations.DynamicInsert;
 @Getter @EqualsAndHashCode(of = {"id"}, callSuper = false)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @DynamicInsert
+@Table(indexes = @Index(name = "idx_member_profile_image", columnList = "profile_image"))
 @Entity
 public class Member extends BaseTimeEntity {
   @Id
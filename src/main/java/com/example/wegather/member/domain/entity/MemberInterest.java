@@ -8,7 +8,9 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -16,6 +18,8 @@ import lombok.NoArgsConstructor;
 
 @Getter @EqualsAndHashCode(of = {"member", "interest"}, callSuper = false)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 관심사별 회원 ID 를 회원 ID 순으로 찾기 위한 인덱스 입니다. (관심사 -> 회원 역색인)
+@Table(indexes = @Index(name = "idx_member_interest_interest_id_member_id", columnList = "interest_id, member_id"))
 @Entity
 public class MemberInterest extends BaseTimeEntity {
   @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,23 @@
+package com.example.wegather.member.dto;
+
+import lombok.Getter;
+
+/**
+ * 소모임 생성 알림을 받을 회원
+ * 이메일 알림은 이메일 인증을 완료한 회원에게만 보냅니다.
+ */
+@Getter
+public class GroupCreatedAlarmTargetDto {
+  private final Long memberId;
+  private final String email;
+  private final boolean byEmail;
+  private final boolean byWeb;
+
+  public GroupCreatedAlarmTargetDto(Long memberId, String email, boolean emailVerified,
+      boolean groupCreatedByEmail, boolean groupCreatedByWeb) {
+    this.memberId = memberId;
+    this.email = email;
+    this.byEmail = emailVerified && groupCreatedByEmail;
+    this.byWeb = groupCreatedByWeb;
+  }
+}
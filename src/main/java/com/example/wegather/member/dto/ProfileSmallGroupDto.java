@@ -16,6 +16,8 @@ public class ProfileSmallGroupDto {
   private String image; // 소모임 이미지
   private LocalDateTime createdAt;
   private SmallGroupStatus status;
+  private Long maxMemberCount;
+  private int currentMemberCount;
 
   public static ProfileSmallGroupDto from(SmallGroup smallGroup) {
     return ProfileSmallGroupDto.builder()
@@ -24,6 +26,8 @@ public class ProfileSmallGroupDto {
         .image(smallGroup.getImage())
         .createdAt(smallGroup.getCreatedAt())
         .status(smallGroup.getStatus())
+        .maxMemberCount(smallGroup.getMaxMemberCount())
+        .currentMemberCount(smallGroup.getCurrentMemberCount())
         .build();
   }
 }
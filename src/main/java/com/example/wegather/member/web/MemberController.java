@@ -1,9 +1,11 @@
 package com.example.wegather.member.web;
 
 import com.example.wegather.auth.MemberDetails;
+import com.example.wegather.global.upload.Base64ImageRequestReader;
+import com.example.wegather.global.upload.DecodedImageFile;
+import com.example.wegather.global.upload.dto.UploadedImageRequest;
 import com.example.wegather.member.dto.ChangeAlarmSettingsForm;
 import com.example.wegather.member.dto.ChangePasswordForm;
-import com.example.wegather.member.dto.EditProfileImageRequest;
 import com.example.wegather.member.dto.MemberProfileDto;
 import com.example.wegather.interest.dto.InterestDto;
 import com.example.wegather.member.domain.MemberService;
@@ -11,7 +13,10 @@ import com.example.wegather.member.dto.EditProfileForm;
 import com.example.wegather.member.dto.MemberDto;
 import com.example.wegather.member.dto.ProfileSmallGroupDto;
 import com.example.wegather.member.validator.ChangePasswordFormValidator;
+import java.io.IOException;
 import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -35,6 +40,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class MemberController {
 
   private final MemberService memberService;
+  private final Base64ImageRequestReader base64ImageRequestReader;
 
   private final ChangePasswordFormValidator changePasswordFormValidator;
 
@@ -86,15 +92,18 @@ public class MemberController {
 
   /**
    * MultipartFile 타입의 이미지로 입력받는 기능으로 대체되었습니다. (Deprecated)
+   * 요청 본문({@link Base64ImageRequestReader} 참고)은 스트리밍으로 디코딩되어, 이미지 크기와 관계없이 일정한 메모리만 사용합니다.
    * @param memberDetails
-   * @param editProfileImageRequest
+   * @param request
    * @return
    */
   @Deprecated
   @PostMapping("/profile/image")
   public ResponseEntity<Void> editProfileImage(@AuthenticationPrincipal MemberDetails memberDetails,
-      @RequestBody EditProfileImageRequest editProfileImageRequest) {
-    memberService.updateProfileImage(memberDetails.getId(), editProfileImageRequest);
+      HttpServletRequest request) throws IOException {
+    try (DecodedImageFile image = base64ImageRequestReader.read(request.getInputStream())) {
+      memberService.updateProfileImage(memberDetails.getId(), image);
+    }
     return ResponseEntity.ok().build();
   }
 
@@ -105,6 +114,19 @@ public class MemberController {
     return ResponseEntity.ok().build();
   }
 
+  /**
+   * 서명된 URL 로 업로드를 완료한 이미지로 프로필 이미지를 수정합니다.
+   * @param memberDetails
+   * @param request 업로드 완료된 이미지의 저장 파일명
+   * @return
+   */
+  @PostMapping("/profile/image/v3")
+  public ResponseEntity<Void> editProfileImage(@AuthenticationPrincipal MemberDetails memberDetails,
+      @RequestBody @Valid UploadedImageRequest request) {
+    memberService.updateProfileImageUploaded(memberDetails.getId(), request.getStoredFileName());
+    return ResponseEntity.ok().build();
+  }
+
   @PostMapping("/profile/password")
   public ResponseEntity<Void> changePassword(@AuthenticationPrincipal MemberDetails memberDetails,
       @RequestBody ChangePasswordForm changePasswordForm) {
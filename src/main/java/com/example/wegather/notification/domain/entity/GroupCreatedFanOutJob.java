@@ -0,0 +1,59 @@
+package com.example.wegather.notification.domain.entity;
+
+import com.example.wegather.global.BaseTimeEntity;
+import com.example.wegather.group.domain.event.SmallGroupPublishedEvent;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 소모임 생성 알림 발송 작업
+ * 소모임을 공개한 트랜잭션에서 함께 저장되며, 알림을 보낸 마지막 회원 ID 를 page 마다 기록하여
+ * 실패하거나 서버가 종료되어도 이어서 발송합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_group_created_fan_out_job_status_next_attempt_at",
+    columnList = "status, next_attempt_at"))
+@Entity
+public class GroupCreatedFanOutJob extends BaseTimeEntity {
+  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+  private Long smallGroupId;
+  private Long leaderId;
+  private String smallGroupName;
+  private String smallGroupPath;
+  // 알림을 보낸 마지막 회원 ID
+  private long lastMemberId;
+  @Enumerated(EnumType.STRING)
+  @Column(length = 20)
+  private GroupCreatedFanOutJobStatus status;
+  private int attemptCount;
+  private LocalDateTime nextAttemptAt;
+  private LocalDateTime claimedAt;
+  @Column(length = 1000)
+  private String lastError;
+
+  private GroupCreatedFanOutJob(Long smallGroupId, Long leaderId, String smallGroupName, String smallGroupPath) {
+    this.smallGroupId = smallGroupId;
+    this.leaderId = leaderId;
+    this.smallGroupName = smallGroupName;
+    this.smallGroupPath = smallGroupPath;
+    this.status = GroupCreatedFanOutJobStatus.PENDING;
+    this.nextAttemptAt = LocalDateTime.now();
+  }
+
+  public static GroupCreatedFanOutJob from(SmallGroupPublishedEvent event) {
+    return new GroupCreatedFanOutJob(event.getSmallGroupId(), event.getLeaderId(), event.getName(), event.getPath());
+  }
+}
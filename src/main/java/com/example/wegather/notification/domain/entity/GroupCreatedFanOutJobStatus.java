@@ -0,0 +1,5 @@
+package com.example.wegather.notification.domain.entity;
+
+public enum GroupCreatedFanOutJobStatus {
+  PENDING, RUNNING, DONE, DEAD
+}
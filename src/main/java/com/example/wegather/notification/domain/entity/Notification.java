@@ -0,0 +1,56 @@
+package com.example.wegather.notification.domain.entity;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원의 웹 알림
+ * 추가만 하고 수정하지 않으며, 한 번에 많은 회원에게 보내므로 NotificationJdbcRepository 로 batch insert 합니다.
+ * 회원 엔티티를 조회하지 않도록 회원 ID 만 저장합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_notification_member_id_id", columnList = "member_id, id"))
+@Entity
+public class Notification {
+  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+  @Column(nullable = false)
+  private Long memberId;
+  @Enumerated(EnumType.STRING)
+  @Column(length = 30)
+  private NotificationType type;
+  private String message;
+  private String link;
+  @Column(updatable = false)
+  private LocalDateTime createdAt;
+
+  private Notification(Long memberId, NotificationType type, String message, String link) {
+    this.memberId = memberId;
+    this.type = type;
+    this.message = message;
+    this.link = link;
+    this.createdAt = LocalDateTime.now();
+  }
+
+  /**
+   * @param memberId 알림을 받을 회원 ID
+   * @param type 알림 종류
+   * @param message 알림 내용
+   * @param link 알림을 누르면 이동할 경로
+   */
+  public static Notification of(Long memberId, NotificationType type, String message, String link) {
+    return new Notification(memberId, type, message, link);
+  }
+}
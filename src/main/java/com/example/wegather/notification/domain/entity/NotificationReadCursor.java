@@ -0,0 +1,22 @@
+package com.example.wegather.notification.domain.entity;
+
+import java.time.LocalDateTime;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원이 마지막으로 확인한 알림 ID
+ * 알림 row 를 수정하지 않고, 이 ID 보다 큰 알림을 확인하지 않은 알림으로 판단합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class NotificationReadCursor {
+  @Id
+  private Long memberId;
+  private Long lastReadNotificationId;
+  private LocalDateTime updatedAt;
+}
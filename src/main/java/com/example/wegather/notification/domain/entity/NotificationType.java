@@ -0,0 +1,7 @@
+package com.example.wegather.notification.domain.entity;
+
+public enum NotificationType {
+  GROUP_CREATED,      // 관심사가 같은 소모임 공개
+  JOIN_APPROVED,      // 소모임 가입 요청 승인
+  JOIN_REJECTED,      // 소모임 가입 요청 거절
+}
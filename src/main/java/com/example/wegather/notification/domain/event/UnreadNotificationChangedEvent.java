@@ -0,0 +1,15 @@
+package com.example.wegather.notification.domain.event;
+
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원의 확인하지 않은 알림 수가 바뀌었을 때 발행되는 이벤트
+ * 트랜잭션 커밋 이후 미확인 알림 수 캐시를 제거하는 데 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UnreadNotificationChangedEvent {
+  private final Set<Long> memberIds;
+}
@@ -0,0 +1,111 @@
+package com.example.wegather.notification.domain.repository;
+
+import com.example.wegather.notification.domain.entity.GroupCreatedFanOutJob;
+import com.example.wegather.notification.domain.entity.GroupCreatedFanOutJobStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface GroupCreatedFanOutJobRepository extends JpaRepository<GroupCreatedFanOutJob, Long> {
+
+  /**
+   * 실행할 시각이 된 대기 중인 작업의 ID 를 오래된 순서로 조회합니다.
+   */
+  @Query("select j.id from GroupCreatedFanOutJob j "
+      + "where j.status = com.example.wegather.notification.domain.entity.GroupCreatedFanOutJobStatus.PENDING "
+      + "and j.nextAttemptAt <= :now order by j.id")
+  List<Long> findDueIds(LocalDateTime now, Pageable pageable);
+
+  /**
+   * 대기 중인 작업을 실행 중 상태로 변경하여 선점합니다.
+   * @return 선점했으면 1, 이미 다른 곳에서 선점했으면 0
+   */
+  @Transactional
+  @Modifying
+  @Query("update GroupCreatedFanOutJob j "
+      + "set j.status = com.example.wegather.notification.domain.entity.GroupCreatedFanOutJobStatus.RUNNING, "
+      + "j.claimedAt = :now "
+      + "where j.id = :id "
+      + "and j.status = com.example.wegather.notification.domain.entity.GroupCreatedFanOutJobStatus.PENDING")
+  int claim(Long id, LocalDateTime now);
+
+  /**
+   * 실행 중 상태로 오래 남아있는 작업(실행 중 서버 종료 등) 중, 이번 시도로 최대 시도 횟수에 도달하는 작업을
+   * 시도 횟수를 증가시키고 DEAD 상태로 변경합니다.
+   * releaseExpiredClaims 보다 먼저 호출합니다.
+   * @return 변경된 row 수
+   */
+  @Transactional
+  @Modifying
+  @Query("update GroupCreatedFanOutJob j "
+      + "set j.status = com.example.wegather.notification.domain.entity.GroupCreatedFanOutJobStatus.DEAD, "
+      + "j.attemptCount = j.attemptCount + 1, j.lastError = :lastError "
+      + "where j.status = com.example.wegather.notification.domain.entity.GroupCreatedFanOutJobStatus.RUNNING "
+      + "and j.claimedAt < :claimedBefore and j.attemptCount + 1 >= :maxAttempts")
+  int markExpiredClaimsDead(LocalDateTime claimedBefore, int maxAttempts, String lastError);
+
+  /**
+   * 실행 중 상태로 오래 남아있는 작업(실행 중 서버 종료 등)의 시도 횟수를 증가시키고 다시 대기 상태로 변경합니다.
+   * @return 변경된 row 수
+   */
+  @Transactional
+  @Modifying
+  @Query("update GroupCreatedFanOutJob j "
+      + "set j.status = com.example.wegather.notification.domain.entity.GroupCreatedFanOutJobStatus.PENDING, "
+      + "j.attemptCount = j.attemptCount + 1, j.lastError = :lastError "
+      + "where j.status = com.example.wegather.notification.domain.entity.GroupCreatedFanOutJobStatus.RUNNING "
+      + "and j.claimedAt < :claimedBefore")
+  int releaseExpiredClaims(LocalDateTime claimedBefore, String lastError);
+
+  /**
+   * 선점한 작업을 다시 대기 상태로 변경합니다. (실행 대기열이 가득 찬 경우)
+   */
+  @Transactional
+  @Modifying
+  @Query("update GroupCreatedFanOutJob j "
+      + "set j.status = com.example.wegather.notification.domain.entity.GroupCreatedFanOutJobStatus.PENDING "
+      + "where j.id = :id "
+      + "and j.status = com.example.wegather.notification.domain.entity.GroupCreatedFanOutJobStatus.RUNNING")
+  int release(Long id);
+
+  /**
+   * 알림을 보낸 마지막 회원 ID 를 기록하고, 선점 시각을 갱신합니다.
+   * 알림을 저장하는 page 트랜잭션에서 호출하며, 마지막 회원 ID 가 그 사이 바뀌었으면(다른 서버가 다시 선점하여 발송)
+   * 변경하지 않으므로 page 를 rollback 하여 알림이 중복으로 저장되지 않도록 합니다.
+   * @return 기록했으면 1, 다른 곳에서 이미 발송했으면 0
+   */
+  @Transactional
+  @Modifying
+  @Query("update GroupCreatedFanOutJob j "
+      + "set j.lastMemberId = :lastMemberId, j.claimedAt = :now "
+      + "where j.id = :id and j.lastMemberId = :previousLastMemberId "
+      + "and j.status = com.example.wegather.notification.domain.entity.GroupCreatedFanOutJobStatus.RUNNING")
+  int advance(Long id, long previousLastMemberId, long lastMemberId, LocalDateTime now);
+
+  @Transactional
+  @Modifying
+  @Query("update GroupCreatedFanOutJob j "
+      + "set j.status = com.example.wegather.notification.domain.entity.GroupCreatedFanOutJobStatus.DONE "
+      + "where j.id = :id "
+      + "and j.status = com.example.wegather.notification.domain.entity.GroupCreatedFanOutJobStatus.RUNNING")
+  int markDone(Long id);
+
+  /**
+   * 실행 실패를 기록합니다. 알림을 보낸 마지막 회원 ID 는 유지되므로, 다시 실행하면 이어서 발송합니다.
+   * @param status 다시 실행할 경우 PENDING, 더 이상 실행하지 않을 경우 DEAD
+   * @param nextAttemptAt 다시 실행할 시각
+   * @param lastError 실패 원인
+   */
+  @Transactional
+  @Modifying
+  @Query("update GroupCreatedFanOutJob j "
+      + "set j.status = :status, j.attemptCount = j.attemptCount + 1, "
+      + "j.nextAttemptAt = :nextAttemptAt, j.lastError = :lastError "
+      + "where j.id = :id "
+      + "and j.status = com.example.wegather.notification.domain.entity.GroupCreatedFanOutJobStatus.RUNNING")
+  int markFailed(Long id, GroupCreatedFanOutJobStatus status, LocalDateTime nextAttemptAt, String lastError);
+}
@@ -0,0 +1,54 @@
+package com.example.wegather.notification.domain.repository;
+
+import com.example.wegather.notification.domain.entity.Notification;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 알림을 JDBC batch insert 로 저장합니다.
+ * IDENTITY 전략에서는 JPA 가 insert 를 한 건씩 실행하므로, 많은 알림을 저장할 때는 JdbcTemplate 을 사용합니다.
+ * (MySQL 에서 한 번에 전송하려면 JDBC URL 에 rewriteBatchedStatements=true 가 필요합니다.)
+ */
+@RequiredArgsConstructor
+@Repository
+public class NotificationJdbcRepository {
+  private static final int BATCH_SIZE = 500;
+  private static final String INSERT_SQL =
+      "insert into notification (member_id, type, message, link, created_at) values (?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 회원 row 를 회원 ID 순으로 잠급니다. (트랜잭션이 끝날 때까지 유지)
+   * 알림을 저장하기 전에 호출하면, 같은 회원의 알림 저장 트랜잭션은 알림 ID 순서대로 커밋됩니다.
+   * 회원 ID 순으로 잠그므로 여러 회원의 알림을 동시에 저장해도 교착 상태가 생기지 않습니다.
+   */
+  public void lockMembers(Collection<Long> memberIds) {
+    if (memberIds.isEmpty()) {
+      return;
+    }
+    List<Long> sortedIds = memberIds.stream().sorted().distinct().collect(Collectors.toList());
+    String placeholders = String.join(", ", Collections.nCopies(sortedIds.size(), "?"));
+    jdbcTemplate.queryForList("select id from member where id in (" + placeholders + ") order by id for update",
+        Long.class, sortedIds.toArray());
+  }
+
+  public void saveAll(List<Notification> notifications) {
+    if (notifications.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(INSERT_SQL, notifications, BATCH_SIZE, (ps, notification) -> {
+      ps.setLong(1, notification.getMemberId());
+      ps.setString(2, notification.getType().name());
+      ps.setString(3, notification.getMessage());
+      ps.setString(4, notification.getLink());
+      ps.setTimestamp(5, Timestamp.valueOf(notification.getCreatedAt()));
+    });
+  }
+}
@@ -0,0 +1,26 @@
+package com.example.wegather.notification.domain.repository;
+
+import com.example.wegather.notification.domain.entity.NotificationReadCursor;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface NotificationReadCursorRepository extends JpaRepository<NotificationReadCursor, Long> {
+
+  @Query("select c.lastReadNotificationId from NotificationReadCursor c where c.memberId = :memberId")
+  Optional<Long> findLastReadNotificationId(Long memberId);
+
+  /**
+   * 마지막으로 확인한 알림 ID 를 변경합니다. 처음 확인하는 경우에는 추가합니다.
+   * 동시에 요청하더라도 더 작은 ID 로 되돌아가지 않습니다.
+   * @return 변경된 row 수
+   */
+  @Modifying
+  @Query(value = "insert into notification_read_cursor (member_id, last_read_notification_id, updated_at) "
+      + "values (:memberId, :notificationId, now()) "
+      + "on duplicate key update "
+      + "last_read_notification_id = greatest(last_read_notification_id, values(last_read_notification_id)), "
+      + "updated_at = now()", nativeQuery = true)
+  int moveReadCursor(Long memberId, Long notificationId);
+}
@@ -0,0 +1,28 @@
+package com.example.wegather.notification.domain.repository;
+
+import com.example.wegather.notification.domain.entity.Notification;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+  /**
+   * 알림 ID 이전의 회원 알림을 최신순으로 조회합니다. (member_id, id) 인덱스를 사용합니다.
+   * @param beforeId 이전에 조회한 마지막 알림 ID
+   */
+  @Query("select n from Notification n where n.memberId = :memberId and n.id < :beforeId order by n.id desc")
+  List<Notification> findByMemberIdBefore(Long memberId, Long beforeId, Pageable pageable);
+
+  @Query("select count(n) from Notification n where n.memberId = :memberId and n.id > :lastReadId")
+  long countUnread(Long memberId, Long lastReadId);
+
+  /**
+   * 알림 ID 이하의 회원 알림 중 가장 최신 알림 ID 를 조회합니다.
+   * @param maxId 회원에게 보여준 가장 최신 알림 ID
+   */
+  @Query("select max(n.id) from Notification n where n.memberId = :memberId and n.id <= :maxId")
+  Optional<Long> findLastIdNotAfter(Long memberId, Long maxId);
+}
@@ -0,0 +1,256 @@
+package com.example.wegather.notification.domain.service;
+
+import com.example.wegather.global.mail.EmailMessage;
+import com.example.wegather.global.mail.EmailOutboxService;
+import com.example.wegather.group.domain.event.SmallGroupPublishedEvent;
+import com.example.wegather.group.domain.repotitory.SmallGroupRepository;
+import com.example.wegather.member.domain.MemberRepository;
+import com.example.wegather.member.dto.GroupCreatedAlarmTargetDto;
+import com.example.wegather.notification.domain.entity.GroupCreatedFanOutJob;
+import com.example.wegather.notification.domain.entity.GroupCreatedFanOutJobStatus;
+import com.example.wegather.notification.domain.entity.Notification;
+import com.example.wegather.notification.domain.entity.NotificationType;
+import com.example.wegather.notification.domain.repository.GroupCreatedFanOutJobRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 소모임이 공개되면, 소모임과 같은 관심사를 가진 회원에게 소모임 생성 알림을 보냅니다.
+ * 1. 소모임을 공개한 트랜잭션에서 발송 작업(group_created_fan_out_job)을 함께 저장하고,
+ *    실행할 시각이 된 작업을 조건부 update 로 선점한 뒤 groupCreatedFanOutExecutor 에서 실행합니다.
+ * 2. 관심사마다 member_interest 의 (interest_id, member_id) 인덱스로 마지막 회원 ID 이후의 회원 ID 를 page-size 씩 조회하고,
+ *    메모리에서 합치고 중복을 제거하여 회원 ID 순으로 page 를 만듭니다. (정렬, distinct 없이 인덱스 순서대로 조회)
+ * 3. 알림 설정에 따라 웹 알림은 notification 에, 이메일은 발송 대기열(email_outbox)에 page 단위로 batch insert 하며,
+ *    같은 트랜잭션에서 작업에 마지막 회원 ID 를 기록합니다.
+ * 4. 실패하거나 서버가 종료되면 attempt 마다 대기 시간을 2배로 늘려, 기록된 마지막 회원 ID 이후부터 다시 발송합니다.
+ *    최대 시도 횟수를 넘으면 DEAD 상태로 남겨 더 이상 실행하지 않습니다.
+ */
+@Slf4j
+@Component
+public class GroupCreatedNotificationFanOut {
+  static final String EMAIL_TEMPLATE_NAME = "group-created-notification-email-template";
+  private static final int MAX_ERROR_LENGTH = 1000;
+  private static final String CLAIM_EXPIRED_ERROR = "claim expired";
+  private static final int DISPATCH_BATCH_SIZE = 10;
+
+  private final SmallGroupRepository smallGroupRepository;
+  private final MemberRepository memberRepository;
+  private final NotificationService notificationService;
+  private final EmailOutboxService emailOutboxService;
+  private final GroupCreatedFanOutJobRepository jobRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ThreadPoolTaskExecutor executor;
+  private final String domainUrl;
+  private final int pageSize;
+  private final int maxAttempts;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+  private final Duration claimTimeout;
+
+  public GroupCreatedNotificationFanOut(SmallGroupRepository smallGroupRepository,
+      MemberRepository memberRepository,
+      NotificationService notificationService,
+      EmailOutboxService emailOutboxService,
+      GroupCreatedFanOutJobRepository jobRepository,
+      TransactionTemplate transactionTemplate,
+      @Qualifier("groupCreatedFanOutExecutor") ThreadPoolTaskExecutor executor,
+      @Value("${app.domain}") String domainUrl,
+      @Value("${app.notification.fan-out.page-size:1000}") int pageSize,
+      @Value("${app.notification.fan-out.max-attempts:5}") int maxAttempts,
+      @Value("${app.notification.fan-out.initial-backoff:10s}") Duration initialBackoff,
+      @Value("${app.notification.fan-out.max-backoff:1h}") Duration maxBackoff,
+      @Value("${app.notification.fan-out.claim-timeout:5m}") Duration claimTimeout) {
+    this.smallGroupRepository = smallGroupRepository;
+    this.memberRepository = memberRepository;
+    this.notificationService = notificationService;
+    this.emailOutboxService = emailOutboxService;
+    this.jobRepository = jobRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.executor = executor;
+    this.domainUrl = domainUrl;
+    this.pageSize = pageSize;
+    this.maxAttempts = maxAttempts;
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+    this.claimTimeout = claimTimeout;
+  }
+
+  /**
+   * 소모임을 공개한 트랜잭션에서 발송 작업을 저장합니다.
+   * 공개가 rollback 되면 작업도 저장되지 않고, 커밋되면 서버가 종료되더라도 작업이 남습니다.
+   */
+  @EventListener
+  public void handleSmallGroupPublished(SmallGroupPublishedEvent event) {
+    jobRepository.save(GroupCreatedFanOutJob.from(event));
+  }
+
+  @Scheduled(fixedDelayString = "${app.notification.fan-out.poll-interval:1000}")
+  public void dispatch() {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime claimedBefore = now.minus(claimTimeout);
+    int dead = jobRepository.markExpiredClaimsDead(claimedBefore, maxAttempts, CLAIM_EXPIRED_ERROR);
+    if (dead > 0) {
+      log.error("## 실행 중 상태로 남아있던 소모임 생성 알림 작업이 최대 시도 횟수를 넘어 더 이상 실행하지 않습니다. count: {}", dead);
+    }
+    int released = jobRepository.releaseExpiredClaims(claimedBefore, CLAIM_EXPIRED_ERROR);
+    if (released > 0) {
+      log.warn("## 실행 중 상태로 남아있던 소모임 생성 알림 작업을 다시 실행합니다. count: {}", released);
+    }
+
+    List<Long> dueIds = jobRepository.findDueIds(now, PageRequest.of(0, DISPATCH_BATCH_SIZE));
+    for (Long id : dueIds) {
+      if (jobRepository.claim(id, now) == 0) {
+        continue;
+      }
+      try {
+        executor.execute(() -> run(id));
+      } catch (TaskRejectedException e) {
+        // 실행 대기열이 가득 찬 경우 다음 실행 때 처리합니다.
+        jobRepository.release(id);
+        break;
+      }
+    }
+  }
+
+  void run(Long id) {
+    GroupCreatedFanOutJob job = jobRepository.findById(id).orElse(null);
+    if (job == null || job.getStatus() != GroupCreatedFanOutJobStatus.RUNNING) {
+      return;
+    }
+    try {
+      if (fanOut(job)) {
+        jobRepository.markDone(id);
+      }
+    } catch (RuntimeException e) {
+      handleFailure(job, e);
+    }
+  }
+
+  /**
+   * 작업에 기록된 마지막 회원 ID 이후의 회원에게 알림을 보냅니다.
+   * @return 모두 보냈으면 true, 다른 곳에서 작업을 다시 선점하여 중단했으면 false
+   */
+  private boolean fanOut(GroupCreatedFanOutJob job) {
+    List<Long> interestIds = smallGroupRepository.findInterestIds(job.getSmallGroupId());
+    long lastMemberId = job.getLastMemberId();
+    int notifiedCount = 0;
+    List<Long> memberIds;
+    while (!(memberIds = findNextMemberIds(interestIds, lastMemberId)).isEmpty()) {
+      long previousLastMemberId = lastMemberId;
+      long nextLastMemberId = memberIds.get(memberIds.size() - 1);
+      List<Long> page = memberIds;
+      // page 단위로 커밋하여, 웹 알림과 이메일, 마지막 회원 ID 가 함께 저장되도록 합니다.
+      Integer notified = transactionTemplate.execute(status -> {
+        List<GroupCreatedAlarmTargetDto> targets =
+            memberRepository.findGroupCreatedAlarmTargets(page, job.getLeaderId());
+        notifyPage(job, targets);
+        if (jobRepository.advance(job.getId(), previousLastMemberId, nextLastMemberId, LocalDateTime.now()) == 0) {
+          status.setRollbackOnly();
+          return null;
+        }
+        return targets.size();
+      });
+      if (notified == null) {
+        log.warn("## 소모임 생성 알림 작업을 다른 곳에서 실행 중이므로 중단합니다. jobId: {}", job.getId());
+        return false;
+      }
+      lastMemberId = nextLastMemberId;
+      notifiedCount += notified;
+    }
+
+    log.info("## 소모임 생성 알림 발송, smallGroupId: {}, members: {}", job.getSmallGroupId(), notifiedCount);
+    return true;
+  }
+
+  /**
+   * 관심사마다 lastMemberId 이후의 회원 ID 를 page-size 씩 조회하여 합칩니다.
+   * page-size 만큼 조회된 관심사는 마지막 ID 이후의 회원을 아직 조회하지 않았으므로,
+   * 그 중 가장 작은 마지막 ID 까지만 page 에 포함해야 빠지는 회원이 없습니다.
+   * @return lastMemberId 이후의 중복 없는 회원 ID 목록 (오름차순, 최대 page-size 개), 더 이상 없으면 빈 목록
+   */
+  List<Long> findNextMemberIds(List<Long> interestIds, long lastMemberId) {
+    TreeSet<Long> merged = new TreeSet<>();
+    long upperBound = Long.MAX_VALUE;
+    for (Long interestId : interestIds) {
+      List<Long> memberIds = memberRepository.findMemberIdsByInterestId(
+          interestId, lastMemberId, PageRequest.of(0, pageSize));
+      merged.addAll(memberIds);
+      if (memberIds.size() == pageSize) {
+        upperBound = Math.min(upperBound, memberIds.get(memberIds.size() - 1));
+      }
+    }
+    return merged.headSet(upperBound, true).stream()
+        .limit(pageSize)
+        .collect(Collectors.toList());
+  }
+
+  private void notifyPage(GroupCreatedFanOutJob job, List<GroupCreatedAlarmTargetDto> targets) {
+    String message = "관심 주제의 새 소모임 '" + job.getSmallGroupName() + "' 이(가) 공개되었습니다.";
+    String link = "/smallgroup/" + job.getSmallGroupPath();
+
+    notificationService.saveAll(targets.stream()
+        .filter(GroupCreatedAlarmTargetDto::isByWeb)
+        .map(target -> Notification.of(target.getMemberId(), NotificationType.GROUP_CREATED, message, link))
+        .collect(Collectors.toList()));
+
+    emailOutboxService.enqueueAll(EMAIL_TEMPLATE_NAME, targets.stream()
+        .filter(GroupCreatedAlarmTargetDto::isByEmail)
+        .map(target -> toEmailMessage(job, target, link))
+        .collect(Collectors.toList()));
+  }
+
+  private EmailMessage toEmailMessage(GroupCreatedFanOutJob job, GroupCreatedAlarmTargetDto target, String link) {
+    EmailMessage emailMessage = EmailMessage.builder()
+        .to(target.getEmail())
+        .subject("[WeGather] 관심 주제의 새 소모임 '" + job.getSmallGroupName() + "'")
+        .build();
+    // 템플릿 변수는 그대로 치환되므로, 회원이 입력한 소모임 이름은 escape 합니다.
+    emailMessage.addBindingVariable("smallGroupName", HtmlUtils.htmlEscape(job.getSmallGroupName()));
+    emailMessage.addBindingVariable("smallGroupUrl", domainUrl + link);
+    return emailMessage;
+  }
+
+  private void handleFailure(GroupCreatedFanOutJob job, RuntimeException e) {
+    int attempt = job.getAttemptCount() + 1;
+    String error = errorMessage(e);
+    if (attempt >= maxAttempts) {
+      log.error("## 소모임 생성 알림 발송 실패, 더 이상 실행하지 않습니다. jobId: {}, attempt: {}", job.getId(), attempt, e);
+      jobRepository.markFailed(job.getId(), GroupCreatedFanOutJobStatus.DEAD, null, error);
+      return;
+    }
+    LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempt));
+    log.warn("## 소모임 생성 알림 발송 실패, {} 에 이어서 발송합니다. jobId: {}, attempt: {}",
+        nextAttemptAt, job.getId(), attempt, e);
+    jobRepository.markFailed(job.getId(), GroupCreatedFanOutJobStatus.PENDING, nextAttemptAt, error);
+  }
+
+  /**
+   * attempt 번째 실패 후의 대기 시간 : initialBackoff * 2^(attempt - 1), 최대 maxBackoff
+   */
+  Duration backoff(int attempt) {
+    Duration backoff = initialBackoff;
+    for (int i = 1; i < attempt && backoff.compareTo(maxBackoff) < 0; i++) {
+      backoff = backoff.multipliedBy(2);
+    }
+    return backoff.compareTo(maxBackoff) < 0 ? backoff : maxBackoff;
+  }
+
+  private String errorMessage(RuntimeException e) {
+    String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+    return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+  }
+}
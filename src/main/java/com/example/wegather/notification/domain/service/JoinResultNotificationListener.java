@@ -0,0 +1,45 @@
+package com.example.wegather.notification.domain.service;
+
+import com.example.wegather.group.domain.event.SmallGroupJoinResultEvent;
+import com.example.wegather.member.domain.MemberRepository;
+import com.example.wegather.notification.domain.entity.Notification;
+import com.example.wegather.notification.domain.entity.NotificationType;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 소모임 가입 요청이 승인, 거절되면 요청한 회원의 알림함에 결과 알림을 추가합니다.
+ * 승인, 거절 트랜잭션 커밋 이후 notificationExecutor 에서 비동기로 처리되며, 웹 알림을 받는 회원에게만 보냅니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class JoinResultNotificationListener {
+  private final MemberRepository memberRepository;
+  private final NotificationService notificationService;
+
+  @Async("notificationExecutor")
+  @TransactionalEventListener
+  public void handleJoinResult(SmallGroupJoinResultEvent event) {
+    try {
+      saveJoinResult(event);
+    } catch (RuntimeException e) {
+      log.error("## 가입 결과 알림 저장 실패, smallGroupId: {}, memberId: {}",
+          event.getSmallGroupId(), event.getMemberId(), e);
+    }
+  }
+
+  private void saveJoinResult(SmallGroupJoinResultEvent event) {
+    if (!memberRepository.findJoinResultByWeb(event.getMemberId()).orElse(false)) {
+      return;
+    }
+    NotificationType type = event.isApproved() ? NotificationType.JOIN_APPROVED : NotificationType.JOIN_REJECTED;
+    String message = "'" + event.getName() + "' 소모임 가입 요청이 " + (event.isApproved() ? "승인" : "거절") + "되었습니다.";
+    notificationService.saveAll(List.of(
+        Notification.of(event.getMemberId(), type, message, "/smallgroup/" + event.getPath())));
+  }
+}
@@ -0,0 +1,142 @@
+package com.example.wegather.notification.domain.service;
+
+import com.example.wegather.notification.domain.entity.Notification;
+import com.example.wegather.notification.domain.event.UnreadNotificationChangedEvent;
+import com.example.wegather.notification.domain.repository.NotificationJdbcRepository;
+import com.example.wegather.notification.domain.repository.NotificationReadCursorRepository;
+import com.example.wegather.notification.domain.repository.NotificationRepository;
+import com.example.wegather.notification.dto.NotificationCursorPageDto;
+import com.example.wegather.notification.dto.NotificationDto;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 회원의 웹 알림함
+ * - 알림은 추가만 하며, 확인 여부는 회원이 마지막으로 확인한 알림 ID(notification_read_cursor)로 판단합니다.
+ *   같은 회원의 알림은 알림 ID 순서대로 커밋되므로, 회원에게 보여준 알림보다 ID 가 작은 알림이 나중에 추가되지 않습니다.
+ * - 확인하지 않은 알림 수는 회원별로 캐시하고(unreadNotificationCount), 알림이 추가되거나 확인하면
+ *   트랜잭션 커밋 이후에 캐시를 제거합니다. 조회하는 동안 캐시가 제거되면 조회한 값을 캐시에 남기지 않습니다.
+ */
+@Service
+public class NotificationService {
+  public static final String UNREAD_COUNT_CACHE_NAME = "unreadNotificationCount";
+  private static final int MAX_CURSOR_PAGE_SIZE = 100;
+  private static final int GENERATION_STRIPES = 1024;
+
+  private final NotificationRepository notificationRepository;
+  private final NotificationJdbcRepository notificationJdbcRepository;
+  private final NotificationReadCursorRepository notificationReadCursorRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final Cache unreadCountCache;
+  // 미확인 알림 수 캐시를 제거할 때마다 증가하는 세대, 회원 수만큼 늘어나지 않도록 회원 ID 로 나누어 공유합니다.
+  private final AtomicLongArray unreadCountGenerations = new AtomicLongArray(GENERATION_STRIPES);
+
+  public NotificationService(NotificationRepository notificationRepository,
+      NotificationJdbcRepository notificationJdbcRepository,
+      NotificationReadCursorRepository notificationReadCursorRepository,
+      ApplicationEventPublisher eventPublisher,
+      CacheManager cacheManager) {
+    this.notificationRepository = notificationRepository;
+    this.notificationJdbcRepository = notificationJdbcRepository;
+    this.notificationReadCursorRepository = notificationReadCursorRepository;
+    this.eventPublisher = eventPublisher;
+    this.unreadCountCache = cacheManager.getCache(UNREAD_COUNT_CACHE_NAME);
+  }
+
+  /**
+   * 알림을 batch insert 로 저장합니다.
+   * @param notifications 저장할 알림, 여러 회원의 알림을 함께 저장할 수 있습니다.
+   */
+  @Transactional
+  public void saveAll(List<Notification> notifications) {
+    if (notifications.isEmpty()) {
+      return;
+    }
+    Set<Long> memberIds = notifications.stream()
+        .map(Notification::getMemberId)
+        .collect(Collectors.toSet());
+    notificationJdbcRepository.lockMembers(memberIds);
+    notificationJdbcRepository.saveAll(notifications);
+    eventPublisher.publishEvent(new UnreadNotificationChangedEvent(memberIds));
+  }
+
+  /**
+   * 회원의 알림을 최신순으로 조회합니다.
+   * 다음 페이지 존재 여부를 알기 위해 요청한 개수보다 1개 더 조회합니다.
+   * @param memberId 회원 ID
+   * @param cursor 이전 조회 결과의 nextCursor, null 이면 첫 페이지
+   * @param size 페이지 크기
+   */
+  public NotificationCursorPageDto getNotifications(Long memberId, Long cursor, int size) {
+    size = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    List<Notification> notifications = notificationRepository.findByMemberIdBefore(
+        memberId, cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, size + 1));
+
+    boolean hasNext = notifications.size() > size;
+    List<Notification> content = hasNext ? notifications.subList(0, size) : notifications;
+    Long nextCursor = hasNext ? content.get(content.size() - 1).getId() : null;
+
+    long lastReadNotificationId = findLastReadNotificationId(memberId);
+    return new NotificationCursorPageDto(content.stream()
+        .map(notification -> NotificationDto.from(notification, lastReadNotificationId))
+        .collect(Collectors.toList()), nextCursor, hasNext);
+  }
+
+  /**
+   * 회원이 확인하지 않은 알림 수를 반환합니다. (캐시 사용)
+   */
+  public long getUnreadCount(Long memberId) {
+    Long cachedCount = unreadCountCache.get(memberId, Long.class);
+    if (cachedCount != null) {
+      return cachedCount;
+    }
+    int stripe = generationStripe(memberId);
+    long generation = unreadCountGenerations.get(stripe);
+    long unreadCount = notificationRepository.countUnread(memberId, findLastReadNotificationId(memberId));
+    unreadCountCache.put(memberId, unreadCount);
+    // 조회하는 동안 캐시가 제거되었으면 조회한 값이 오래된 값일 수 있으므로 다시 제거합니다.
+    // 세대를 증가시킨 뒤 캐시를 제거하므로, 세대가 같다면 이후의 제거가 이 값을 지웁니다.
+    if (unreadCountGenerations.get(stripe) != generation) {
+      unreadCountCache.evict(memberId);
+    }
+    return unreadCount;
+  }
+
+  /**
+   * 회원에게 보여준 가장 최신 알림까지, 회원의 알림을 모두 확인한 것으로 표시합니다.
+   * 알림 목록을 조회한 이후에 추가된 알림은 확인하지 않은 알림으로 남습니다.
+   * @param lastNotificationId 회원에게 보여준 가장 최신 알림 ID
+   */
+  @Transactional
+  public void markAllRead(Long memberId, Long lastNotificationId) {
+    notificationRepository.findLastIdNotAfter(memberId, lastNotificationId).ifPresent(lastId -> {
+      notificationReadCursorRepository.moveReadCursor(memberId, lastId);
+      eventPublisher.publishEvent(new UnreadNotificationChangedEvent(Set.of(memberId)));
+    });
+  }
+
+  private long findLastReadNotificationId(Long memberId) {
+    return notificationReadCursorRepository.findLastReadNotificationId(memberId).orElse(0L);
+  }
+
+  @TransactionalEventListener
+  public void evictUnreadCount(UnreadNotificationChangedEvent event) {
+    event.getMemberIds().forEach(memberId -> {
+      unreadCountGenerations.incrementAndGet(generationStripe(memberId));
+      unreadCountCache.evict(memberId);
+    });
+  }
+
+  private int generationStripe(Long memberId) {
+    return (int) (memberId & (GENERATION_STRIPES - 1));
+  }
+}
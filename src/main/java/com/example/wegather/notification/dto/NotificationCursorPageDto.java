@@ -0,0 +1,17 @@
+package com.example.wegather.notification.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 커서 기반 알림 목록
+ * 다음 페이지는 nextCursor 로 조회합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationCursorPageDto {
+  private List<NotificationDto> content;
+  private Long nextCursor;
+  private boolean hasNext;
+}
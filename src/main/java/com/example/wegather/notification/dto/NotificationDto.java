@@ -0,0 +1,34 @@
+package com.example.wegather.notification.dto;
+
+import com.example.wegather.notification.domain.entity.Notification;
+import com.example.wegather.notification.domain.entity.NotificationType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class NotificationDto {
+  private Long id;
+  private NotificationType type;
+  private String message;
+  private String link;
+  private boolean read;
+  private LocalDateTime createdAt;
+
+  /**
+   * @param lastReadNotificationId 회원이 마지막으로 확인한 알림 ID
+   */
+  public static NotificationDto from(Notification notification, long lastReadNotificationId) {
+    return NotificationDto.builder()
+        .id(notification.getId())
+        .type(notification.getType())
+        .message(notification.getMessage())
+        .link(notification.getLink())
+        .read(notification.getId() <= lastReadNotificationId)
+        .createdAt(notification.getCreatedAt())
+        .build();
+  }
+}
@@ -0,0 +1,54 @@
+package com.example.wegather.notification.web;
+
+import com.example.wegather.auth.MemberDetails;
+import com.example.wegather.notification.domain.service.NotificationService;
+import com.example.wegather.notification.dto.NotificationCursorPageDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/members/profile/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+  private final NotificationService notificationService;
+
+  /**
+   * 로그인한 회원의 알림을 최신순으로 조회합니다. (무한 스크롤)
+   * @param cursor 이전 조회 결과의 nextCursor, 첫 페이지는 생략
+   * @param size 페이지 크기 (1 ~ 100)
+   * @return 알림 목록과 다음 페이지 커서
+   */
+  @GetMapping
+  public ResponseEntity<NotificationCursorPageDto> getNotifications(
+      @AuthenticationPrincipal MemberDetails memberDetails,
+      @RequestParam @Nullable Long cursor,
+      @RequestParam(defaultValue = "20") int size) {
+    return ResponseEntity.ok(notificationService.getNotifications(memberDetails.getId(), cursor, size));
+  }
+
+  /**
+   * 로그인한 회원이 확인하지 않은 알림 수를 반환합니다.
+   */
+  @GetMapping("/unread-count")
+  public ResponseEntity<Long> getUnreadCount(@AuthenticationPrincipal MemberDetails memberDetails) {
+    return ResponseEntity.ok(notificationService.getUnreadCount(memberDetails.getId()));
+  }
+
+  /**
+   * 로그인한 회원의 알림을 모두 확인한 것으로 표시합니다.
+   * @param lastNotificationId 화면에 보여준 가장 최신 알림 ID, 이후에 추가된 알림은 확인하지 않은 알림으로 남습니다.
+   */
+  @PostMapping("/read")
+  public ResponseEntity<Void> markAllRead(@AuthenticationPrincipal MemberDetails memberDetails,
+      @RequestParam Long lastNotificationId) {
+    notificationService.markAllRead(memberDetails.getId(), lastNotificationId);
+    return ResponseEntity.ok().build();
+  }
+}
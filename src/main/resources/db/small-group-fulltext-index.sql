@@ -0,0 +1,4 @@
+-- 소모임 FULLTEXT 검색(app.search.engine=FULLTEXT) 용 인덱스
+-- ddl-auto=create 인 환경(local, test)은 import.sql 로 생성됩니다.
+-- 그 외 DB 는 FULLTEXT 검색을 사용하기 전에 직접 실행해야 합니다. (처음 추가 시 테이블이 재구성됩니다.)
+ALTER TABLE small_group ADD FULLTEXT INDEX ft_small_group_search (name, short_description, full_description) WITH PARSER ngram;
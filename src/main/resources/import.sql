@@ -0,0 +1 @@
+ALTER TABLE small_group ADD FULLTEXT INDEX ft_small_group_search (name, short_description, full_description) WITH PARSER ngram;
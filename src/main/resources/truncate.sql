@@ -9,6 +9,11 @@ TRUNCATE TABLE small_group_interest;
 TRUNCATE TABLE small_group_join;
 TRUNCATE TABLE small_group_member;
 TRUNCATE TABLE file_upload_history;
+TRUNCATE TABLE file_upload_variant;
+TRUNCATE TABLE email_outbox;
+TRUNCATE TABLE notification;
+TRUNCATE TABLE notification_read_cursor;
+TRUNCATE TABLE group_created_fan_out_job;
 
 
 
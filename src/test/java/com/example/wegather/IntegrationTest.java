@@ -3,8 +3,10 @@ package com.example.wegather;
 import com.example.wegather.testContainer.MysqlTestContainer;
 import io.restassured.RestAssured;
 import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
@@ -19,8 +21,13 @@ public abstract class IntegrationTest extends MysqlTestContainer {
   @LocalServerPort
   int port;
 
+  @Autowired
+  CacheManager cacheManager;
+
   @BeforeEach
   public void setUp() {
     RestAssured.port = port;
+    // 테이블 truncate 후 ID 가 재사용되므로, 이전 테스트의 캐시를 비웁니다.
+    cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
   }
 }
@@ -3,6 +3,7 @@ package com.example.wegather.auth;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
 
 import com.example.wegather.auth.dto.SignInRequest;
 import com.example.wegather.auth.dto.SignUpRequest;
@@ -50,7 +51,8 @@ public class AuthControllerTest extends IntegrationTest {
     assertThat(member.getEmail()).isEqualTo(signUpRequest.getEmail());
     assertThat(member.getEmailCheckToken()).isNotEmpty();
     assertThat(member.getEmailCheckTokenGeneratedAt()).isNotNull();
-    BDDMockito.then(emailService).should().sendEmail(any(String.class), any(EmailMessage.class));
+    // 이메일은 트랜잭션 커밋 후 발송 대기열에서 발송됩니다.
+    BDDMockito.then(emailService).should(timeout(5000)).sendEmail(any(String.class), any(EmailMessage.class));
   }
 
   @Test
@@ -0,0 +1,192 @@
+package com.example.wegather.global.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+
+import com.example.wegather.IntegrationTest;
+import com.example.wegather.global.mail.entity.EmailOutbox;
+import com.example.wegather.global.mail.entity.EmailOutboxStatus;
+import com.example.wegather.global.mail.repository.EmailOutboxRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+@DisplayName("이메일 발송 대기열 통합테스트")
+class EmailOutboxIntegrationTest extends IntegrationTest {
+  private static final String TEMPLATE_NAME = "test-template";
+
+  @Autowired
+  EmailOutboxWorker emailOutboxWorker;
+  @Autowired
+  EmailOutboxRepository emailOutboxRepository;
+  @MockBean
+  BulkEmailService bulkEmailService;
+  @Value("${app.mail.outbox.max-attempts:5}")
+  int maxAttempts;
+  @Value("${app.mail.outbox.claim-timeout:5m}")
+  Duration claimTimeout;
+
+  @BeforeEach
+  void init() {
+    willAnswer(invocation -> new BulkEmailResult(invocation.<List<EmailMessage>>getArgument(1).size(), List.of()))
+        .given(bulkEmailService).sendAll(any(), anyList());
+  }
+
+  @Test
+  @DisplayName("발송 시각이 된 이메일을 선점하여 발송하고, 발송 완료 상태로 변경합니다.")
+  void dispatchAndMarkSent() throws InterruptedException {
+    // given
+    Long id = save(LocalDateTime.now());
+
+    // when
+    emailOutboxWorker.dispatch();
+
+    // then
+    EmailOutbox sent = waitUntilStatus(id, EmailOutboxStatus.SENT);
+    assertThat(sent.getAttemptCount()).isEqualTo(1);
+    assertThat(sent.getSentAt()).isNotNull();
+    then(bulkEmailService).should().sendAll(eq(TEMPLATE_NAME), anyList());
+  }
+
+  @Test
+  @DisplayName("발송에 실패하면 다시 발송할 시각을 미루고, 최대 시도 횟수에 도달하면 DEAD 상태가 됩니다.")
+  void retryAndMarkDead() {
+    // given
+    // 스케줄러가 먼저 발송하지 않도록 발송 시각을 미래로 지정합니다.
+    Long id = save(LocalDateTime.now().plusDays(1));
+    willThrow(new IllegalStateException("smtp unavailable"))
+        .given(bulkEmailService).sendAll(any(), anyList());
+
+    // when, then
+    for (int attempt = 1; attempt < maxAttempts; attempt++) {
+      claimAndSend(id);
+      EmailOutbox failed = emailOutboxRepository.findById(id).orElseThrow();
+      assertThat(failed.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+      assertThat(failed.getAttemptCount()).isEqualTo(attempt);
+      assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+      assertThat(failed.getLastError()).contains("smtp unavailable");
+    }
+    claimAndSend(id);
+    EmailOutbox dead = emailOutboxRepository.findById(id).orElseThrow();
+    assertThat(dead.getStatus()).isEqualTo(EmailOutboxStatus.DEAD);
+    assertThat(dead.getAttemptCount()).isEqualTo(maxAttempts);
+  }
+
+  @Test
+  @DisplayName("발송 중 상태로 오래 남아있는 이메일은 시도 횟수를 증가시켜 다시 대기 상태로 변경하며, 최대 시도 횟수에 도달하면 DEAD 상태가 됩니다.")
+  void releaseExpiredClaims() {
+    // given
+    Long id = save(LocalDateTime.now().plusDays(1));
+    LocalDateTime expiredClaimedAt = LocalDateTime.now().minus(claimTimeout).minusMinutes(1);
+
+    // when, then
+    for (int attempt = 1; attempt < maxAttempts; attempt++) {
+      assertThat(emailOutboxRepository.claim(id, expiredClaimedAt)).isEqualTo(1);
+      emailOutboxWorker.dispatch();
+      EmailOutbox released = emailOutboxRepository.findById(id).orElseThrow();
+      assertThat(released.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+      assertThat(released.getAttemptCount()).isEqualTo(attempt);
+    }
+    assertThat(emailOutboxRepository.claim(id, expiredClaimedAt)).isEqualTo(1);
+    emailOutboxWorker.dispatch();
+    EmailOutbox dead = emailOutboxRepository.findById(id).orElseThrow();
+    assertThat(dead.getStatus()).isEqualTo(EmailOutboxStatus.DEAD);
+    assertThat(dead.getAttemptCount()).isEqualTo(maxAttempts);
+    then(bulkEmailService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("선점이 만료되어 다시 선점된 이메일은 이전 선점의 발송 작업이 발송하지 않습니다.")
+  void ignoreStaleClaim() {
+    // given
+    Long id = save(LocalDateTime.now().plusDays(1));
+    LocalDateTime expiredClaimedAt = LocalDateTime.now().minus(claimTimeout).minusMinutes(1)
+        .truncatedTo(ChronoUnit.SECONDS);
+    assertThat(emailOutboxRepository.claim(id, expiredClaimedAt)).isEqualTo(1);
+    emailOutboxWorker.dispatch();
+    LocalDateTime claimedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    assertThat(emailOutboxRepository.claim(id, claimedAt)).isEqualTo(1);
+
+    // when
+    emailOutboxWorker.sendAll(List.of(id), expiredClaimedAt);
+
+    // then
+    EmailOutbox reclaimed = emailOutboxRepository.findById(id).orElseThrow();
+    assertThat(reclaimed.getStatus()).isEqualTo(EmailOutboxStatus.SENDING);
+    assertThat(reclaimed.getAttemptCount()).isEqualTo(1);
+    then(bulkEmailService).shouldHaveNoInteractions();
+    assertThat(emailOutboxRepository.markSent(id, expiredClaimedAt, LocalDateTime.now())).isZero();
+  }
+
+  @Test
+  @DisplayName("같은 템플릿의 이메일은 한 번에 발송하며, 발송에 실패한 이메일만 다시 발송합니다.")
+  void sendAllAndRetryFailedOnly() {
+    // given
+    Long sentId = save(LocalDateTime.now().plusDays(1));
+    Long failedId = save(LocalDateTime.now().plusDays(1), "invalid@wegather.me");
+    willAnswer(invocation -> {
+      List<EmailMessage> failedMessages = invocation.<List<EmailMessage>>getArgument(1).stream()
+          .filter(emailMessage -> emailMessage.getTo().equals("invalid@wegather.me"))
+          .collect(Collectors.toList());
+      return new BulkEmailResult(invocation.<List<EmailMessage>>getArgument(1).size() - failedMessages.size(),
+          failedMessages);
+    }).given(bulkEmailService).sendAll(any(), anyList());
+    LocalDateTime claimedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    assertThat(emailOutboxRepository.claim(sentId, claimedAt)).isEqualTo(1);
+    assertThat(emailOutboxRepository.claim(failedId, claimedAt)).isEqualTo(1);
+
+    // when
+    emailOutboxWorker.sendAll(List.of(sentId, failedId), claimedAt);
+
+    // then
+    then(bulkEmailService).should().sendAll(eq(TEMPLATE_NAME), anyList());
+    assertThat(emailOutboxRepository.findById(sentId).orElseThrow().getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+    EmailOutbox failed = emailOutboxRepository.findById(failedId).orElseThrow();
+    assertThat(failed.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+    assertThat(failed.getAttemptCount()).isEqualTo(1);
+  }
+
+  private Long save(LocalDateTime nextAttemptAt) {
+    return save(nextAttemptAt, "test@wegather.me");
+  }
+
+  private Long save(LocalDateTime nextAttemptAt, String recipient) {
+    return emailOutboxRepository.save(EmailOutbox.builder()
+        .templateName(TEMPLATE_NAME)
+        .recipient(recipient)
+        .subject("test")
+        .bindingVariables("{}")
+        .nextAttemptAt(nextAttemptAt)
+        .build()).getId();
+  }
+
+  private void claimAndSend(Long id) {
+    LocalDateTime claimedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    assertThat(emailOutboxRepository.claim(id, claimedAt)).isEqualTo(1);
+    emailOutboxWorker.sendAll(List.of(id), claimedAt);
+  }
+
+  private EmailOutbox waitUntilStatus(Long id, EmailOutboxStatus status) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    EmailOutbox emailOutbox = emailOutboxRepository.findById(id).orElseThrow();
+    while (emailOutbox.getStatus() != status && System.currentTimeMillis() < deadline) {
+      Thread.sleep(100);
+      emailOutbox = emailOutboxRepository.findById(id).orElseThrow();
+    }
+    assertThat(emailOutbox.getStatus()).isEqualTo(status);
+    return emailOutbox;
+  }
+}
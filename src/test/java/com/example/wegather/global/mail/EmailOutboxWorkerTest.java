@@ -0,0 +1,28 @@
+package com.example.wegather.global.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("이메일 발송 대기열 재시도 간격 테스트")
+class EmailOutboxWorkerTest {
+  EmailOutboxWorker worker = new EmailOutboxWorker(null, null, null, null,
+      50, 5, Duration.ofSeconds(10), Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+  @Test
+  @DisplayName("실패할 때마다 재시도 간격이 2배로 늘어납니다.")
+  void backoffDoubles() {
+    assertThat(worker.backoff(1)).isEqualTo(Duration.ofSeconds(10));
+    assertThat(worker.backoff(2)).isEqualTo(Duration.ofSeconds(20));
+    assertThat(worker.backoff(3)).isEqualTo(Duration.ofSeconds(40));
+  }
+
+  @Test
+  @DisplayName("재시도 간격은 최대 간격을 넘지 않습니다.")
+  void backoffIsCapped() {
+    assertThat(worker.backoff(4)).isEqualTo(Duration.ofMinutes(1));
+    assertThat(worker.backoff(30)).isEqualTo(Duration.ofMinutes(1));
+  }
+}
@@ -0,0 +1,31 @@
+package com.example.wegather.global.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("이메일 템플릿 변수 바인딩 테스트")
+class EmailTemplateTest {
+
+  @Test
+  @DisplayName("템플릿의 모든 변수를 값으로 바꿉니다.")
+  void bindVariables() {
+    EmailTemplate template = EmailTemplate.compile("test", "<a href=\"${url}\">${name}</a> ${name}");
+
+    String result = template.bindVariableToTemplate(Map.of("url", "http://wegather.me", "name", "회원"));
+
+    assertThat(result).isEqualTo("<a href=\"http://wegather.me\">회원</a> 회원");
+  }
+
+  @Test
+  @DisplayName("값이 없는 변수와 닫히지 않은 변수는 그대로 남겨둡니다.")
+  void keepUnboundVariables() {
+    EmailTemplate template = EmailTemplate.compile("test", "${greeting} ${name}, ${unclosed");
+
+    String result = template.bindVariableToTemplate(Map.of("name", "회원"));
+
+    assertThat(result).isEqualTo("${greeting} 회원, ${unclosed");
+  }
+}
@@ -0,0 +1,156 @@
+package com.example.wegather.global.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+@DisplayName("SMTP 대량 발송 테스트")
+class SmtpBulkEmailServiceTest {
+  private static final String TEMPLATE_NAME = "account-verification-email-template";
+
+  @RegisterExtension
+  static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+  JavaMailSenderImpl javaMailSender;
+  EmailTemplateRegistry emailTemplateRegistry;
+  SmtpBulkEmailService smtpBulkEmailService;
+
+  @BeforeEach
+  void init() throws Exception {
+    javaMailSender = new JavaMailSenderImpl();
+    javaMailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+    javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+    emailTemplateRegistry = new EmailTemplateRegistry(new DefaultResourceLoader());
+  }
+
+  @AfterEach
+  void close() {
+    if (smtpBulkEmailService != null) {
+      smtpBulkEmailService.destroy();
+    }
+  }
+
+  @Test
+  @DisplayName("batch 로 나누어 모든 이메일을 발송하고, 템플릿 변수를 바인딩합니다.")
+  void sendAll() throws Exception {
+    // given
+    smtpBulkEmailService = new SmtpBulkEmailService(javaMailSender, emailTemplateRegistry, 2, 3, 1000, 100);
+    List<EmailMessage> emailMessages = emailMessages(7);
+
+    // when
+    BulkEmailResult result = smtpBulkEmailService.sendAll(TEMPLATE_NAME, emailMessages);
+
+    // then
+    assertThat(result.getSentCount()).isEqualTo(7);
+    assertThat(result.getFailedRecipients()).isEmpty();
+    MimeMessage[] receivedMessages = greenMail.getReceivedMessages();
+    assertThat(receivedMessages).hasSize(7);
+    assertThat((String) receivedMessages[0].getContent()).contains("http://wegather.me/verify/");
+  }
+
+  @Test
+  @DisplayName("초당 발송 수를 넘지 않도록 대기합니다.")
+  void rateLimit() {
+    // given
+    smtpBulkEmailService = new SmtpBulkEmailService(javaMailSender, emailTemplateRegistry, 1, 50, 5, 1);
+
+    // when
+    long startedAt = System.nanoTime();
+    BulkEmailResult result = smtpBulkEmailService.sendAll(TEMPLATE_NAME, emailMessages(4));
+    long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+    // then : 첫 번째 이후 3건은 200ms 간격으로 발송됩니다.
+    assertThat(result.getSentCount()).isEqualTo(4);
+    assertThat(elapsedMillis).isGreaterThanOrEqualTo(550);
+  }
+
+  @Test
+  @DisplayName("메일 서버가 재시작되어 연결이 끊기면 새로 연결하여 발송합니다.")
+  void reconnectAfterServerRestart() {
+    // given
+    smtpBulkEmailService = new SmtpBulkEmailService(javaMailSender, emailTemplateRegistry, 1, 50, 1000, 100);
+    smtpBulkEmailService.sendAll(TEMPLATE_NAME, emailMessages(1));
+    greenMail.reset();
+
+    // when
+    BulkEmailResult result = smtpBulkEmailService.sendAll(TEMPLATE_NAME, emailMessages(2));
+
+    // then
+    assertThat(result.getFailedRecipients()).isEmpty();
+    assertThat(greenMail.getReceivedMessages()).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("발송 중에 메일 서버가 연결을 끊으면, 끊긴 이메일부터 새 연결로 이어서 발송합니다.")
+  void reconnectWhenConnectionDroppedMidBatch() {
+    // given
+    AtomicInteger createdCount = new AtomicInteger();
+    JavaMailSenderImpl droppingMailSender = new JavaMailSenderImpl() {
+      @Override
+      public MimeMessage createMimeMessage() {
+        // 세 번째 이메일을 만들 때 메일 서버를 재시작하여, 사용 중인 연결을 끊습니다.
+        if (createdCount.incrementAndGet() == 3) {
+          greenMail.reset();
+        }
+        return super.createMimeMessage();
+      }
+    };
+    droppingMailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+    droppingMailSender.setPort(ServerSetupTest.SMTP.getPort());
+    smtpBulkEmailService = new SmtpBulkEmailService(droppingMailSender, emailTemplateRegistry, 1, 50, 1000, 100);
+
+    // when
+    BulkEmailResult result = smtpBulkEmailService.sendAll(TEMPLATE_NAME, emailMessages(5));
+
+    // then : 재시작 이후 세 번째부터 다섯 번째 이메일까지 한 번씩 도착합니다.
+    assertThat(result.getSentCount()).isEqualTo(5);
+    assertThat(result.getFailedRecipients()).isEmpty();
+    assertThat(greenMail.getReceivedMessages()).hasSize(3);
+  }
+
+  @Test
+  @DisplayName("수신자 주소가 올바르지 않은 이메일만 실패로 반환합니다.")
+  void invalidRecipient() {
+    // given
+    smtpBulkEmailService = new SmtpBulkEmailService(javaMailSender, emailTemplateRegistry, 1, 50, 1000, 100);
+    List<EmailMessage> emailMessages = emailMessages(2);
+    // 수신자가 하나가 아닌 주소는 MimeMessage 를 만들 수 없습니다.
+    String invalidRecipient = "a@wegather.me, b@wegather.me";
+    emailMessages.add(1, EmailMessage.builder().to(invalidRecipient).subject("test").build());
+
+    // when
+    BulkEmailResult result = smtpBulkEmailService.sendAll(TEMPLATE_NAME, emailMessages);
+
+    // then
+    assertThat(result.getSentCount()).isEqualTo(2);
+    assertThat(result.getFailedRecipients()).containsExactly(invalidRecipient);
+    assertThat(greenMail.getReceivedMessages()).hasSize(2);
+  }
+
+  private List<EmailMessage> emailMessages(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> {
+          EmailMessage emailMessage = EmailMessage.builder()
+              .to("member" + i + "@wegather.me")
+              .subject("[Wegather] 회원 가입 인증")
+              .build();
+          emailMessage.addBindingVariable("verifyMemberUrl", "http://wegather.me/verify/" + i);
+          return emailMessage;
+        })
+        .collect(Collectors.toCollection(ArrayList::new));
+  }
+}
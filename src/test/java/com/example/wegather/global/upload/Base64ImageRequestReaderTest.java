@@ -0,0 +1,91 @@
+package com.example.wegather.global.upload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+@DisplayName("base64 이미지 요청 본문 스트리밍 디코딩 테스트")
+class Base64ImageRequestReaderTest {
+  Base64ImageRequestReader reader;
+
+  @BeforeEach
+  void init() {
+    reader = new Base64ImageRequestReader();
+    ReflectionTestUtils.setField(reader, "maxFileSize", DataSize.ofKilobytes(1));
+  }
+
+  @Test
+  @DisplayName("data URI 의 이미지를 디코딩하여 임시 파일에 저장합니다.")
+  void readDataUri() throws Exception {
+    byte[] image = {1, 2, 3, 4, 5};
+    String body = "{ \"originalImageName\": \"프로필.png\", \"unknown\": null, "
+        + "\"image\": \"data:image/png;base64," + Base64.getEncoder().encodeToString(image).replace("/", "\\/") + "\" }";
+
+    Path file;
+    try (DecodedImageFile decoded = read(body)) {
+      file = decoded.getFile();
+      assertThat(decoded.getOriginalFileName()).isEqualTo("프로필.png");
+      assertThat(decoded.getSize()).isEqualTo(image.length);
+      assertThat(Files.readAllBytes(file)).isEqualTo(image);
+      assertThat(decoded.getContentHash()).isEqualTo(DigestUtils.sha256Hex(image));
+    }
+    assertThat(Files.exists(file)).isFalse();
+  }
+
+  @Test
+  @DisplayName("data URI 형식이 아닌 base64 문자열도 디코딩합니다.")
+  void readPlainBase64() {
+    String body = "{\"image\":\"" + Base64.getEncoder().encodeToString(new byte[]{9, 9}) + "\",\"originalImageName\":\"a.png\"}";
+
+    try (DecodedImageFile decoded = read(body)) {
+      assertThat(decoded.getSize()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  @DisplayName("base64 외 문자가 섞여 있으면 무시하지 않고 실패합니다.")
+  void readIllegalBase64() {
+    String body = "{\"image\":\"data:image/png;base64,AQ*ID\",\"originalImageName\":\"a.png\"}";
+    String lineBreak = "{\"image\":\"AQID\\nAQID\",\"originalImageName\":\"a.png\"}";
+
+    assertThatThrownBy(() -> read(body)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> read(lineBreak)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("필수 값이 없으면 실패합니다.")
+  void readWithoutOriginalImageName() {
+    String body = "{\"image\":\"data:image/png;base64,AQID\"}";
+
+    assertThatThrownBy(() -> read(body)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("최대 파일 크기를 넘으면 실패합니다.")
+  void readExceedMaxFileSize() {
+    String body = "{\"image\":\"" + Base64.getEncoder().encodeToString(new byte[2048]) + "\",\"originalImageName\":\"a.png\"}";
+
+    assertThatThrownBy(() -> read(body)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("JSON 형식이 아니면 실패합니다.")
+  void readInvalidJson() {
+    assertThatThrownBy(() -> read("{\"image\": ")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private DecodedImageFile read(String body) {
+    return reader.read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+  }
+}
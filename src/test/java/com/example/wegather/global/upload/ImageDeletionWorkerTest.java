@@ -0,0 +1,72 @@
+package com.example.wegather.global.upload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.example.wegather.global.upload.entity.FileUploadHistory;
+import com.example.wegather.global.upload.entity.FileUploadStatus;
+import com.example.wegather.global.upload.repository.AbstractFileManager;
+import com.example.wegather.global.upload.repository.FileUploadHistoryRepository;
+import com.example.wegather.global.upload.repository.FileUploadVariantRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+@DisplayName("삭제 대기 이미지 삭제 작업 테스트")
+class ImageDeletionWorkerTest {
+  AbstractFileManager fileManager;
+  FileUploadHistoryRepository fileUploadHistoryRepository;
+  FileUploadVariantRepository fileUploadVariantRepository;
+  ImageDeletionWorker worker;
+
+  @BeforeEach
+  void init() {
+    fileManager = mock(AbstractFileManager.class);
+    fileUploadHistoryRepository = mock(FileUploadHistoryRepository.class);
+    fileUploadVariantRepository = mock(FileUploadVariantRepository.class);
+    worker = new ImageDeletionWorker(fileManager, fileUploadHistoryRepository, fileUploadVariantRepository,
+        mock(ImageDownloadUrlProvider.class));
+  }
+
+  @Test
+  @DisplayName("삭제에 실패한 이미지는 기다리지 않고, 다시 삭제할 시각을 기록합니다.")
+  void postponeFailedDeletion() {
+    // given
+    FileUploadHistory history = FileUploadHistory.builder()
+        .id(1L)
+        .storedFileName("images/a.png")
+        .fileUploadStatus(FileUploadStatus.PENDING_DELETE)
+        .referenceCount(0)
+        .build();
+    given(fileUploadHistoryRepository.findPendingDeleteAfter(eq(0L), any(), any())).willReturn(List.of(history));
+    given(fileManager.deleteFiles(anyCollection())).willThrow(new IllegalStateException("storage unavailable"));
+    LocalDateTime before = LocalDateTime.now();
+
+    // when
+    worker.deletePendingImages();
+
+    // then
+    ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+    then(fileUploadHistoryRepository).should().postponeDelete(eq(List.of(1L)), nextAttemptAt.capture());
+    assertThat(nextAttemptAt.getValue()).isAfterOrEqualTo(before.plus(ImageDeletionWorker.backoff(1)));
+    then(fileUploadHistoryRepository).should(never()).markDeleted(anyCollection());
+    then(fileManager).should().deleteFiles(anyCollection());
+  }
+
+  @Test
+  @DisplayName("실패할 때마다 다시 삭제할 간격이 2배로 늘어나며, 최대 간격을 넘지 않습니다.")
+  void backoff() {
+    assertThat(ImageDeletionWorker.backoff(2)).isEqualTo(ImageDeletionWorker.backoff(1).multipliedBy(2));
+    assertThat(ImageDeletionWorker.backoff(100)).isEqualTo(Duration.ofHours(1));
+  }
+}
@@ -0,0 +1,63 @@
+package com.example.wegather.global.upload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.wegather.global.upload.entity.ImageVariant;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Optional;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("이미지 축소 테스트")
+class ImageResizerTest {
+
+  @Test
+  @DisplayName("긴 변을 기준으로 비율을 유지하여 줄입니다.")
+  void resizeKeepingAspectRatio() {
+    BufferedImage source = new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB);
+
+    Optional<BufferedImage> resized = ImageResizer.resize(source, 256);
+
+    assertThat(resized).isPresent();
+    assertThat(resized.get().getWidth()).isEqualTo(256);
+    assertThat(resized.get().getHeight()).isEqualTo(128);
+  }
+
+  @Test
+  @DisplayName("이미 작은 이미지는 줄이지 않습니다.")
+  void doNotResizeSmallImage() {
+    BufferedImage source = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+
+    assertThat(ImageResizer.resize(source, 256)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("큰 이미지는 필요한 크기의 2배 이상을 유지하며 줄여서 읽습니다.")
+  void readWithSubsampling() throws Exception {
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(4800, 2400, BufferedImage.TYPE_INT_RGB), "png", png);
+
+    BufferedImage read = ImageResizer.read(new ByteArrayInputStream(png.toByteArray()), 1024).orElseThrow();
+
+    assertThat(read.getWidth()).isEqualTo(2400);
+    assertThat(read.getHeight()).isEqualTo(1200);
+  }
+
+  @Test
+  @DisplayName("이미지가 아닌 파일은 읽지 않습니다.")
+  void readNonImage() throws Exception {
+    assertThat(ImageResizer.read(new ByteArrayInputStream("text".getBytes()), 1024)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("축소 이미지 파일명은 원본 파일명에 크기를 붙인 jpg 입니다.")
+  void variantFileName() {
+    assertThat(ImageVariant.MEDIUM.storedFileNameOf("images/2024/2024-01-29/uuid.png"))
+        .isEqualTo("images/2024/2024-01-29/uuid_256.jpg");
+    assertThat(ImageVariant.SMALL.storedFileNameOf("images/2024/2024-01-29/uuid"))
+        .isEqualTo("images/2024/2024-01-29/uuid_64.jpg");
+  }
+}
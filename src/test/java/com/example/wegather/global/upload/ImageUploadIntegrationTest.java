@@ -0,0 +1,402 @@
+package com.example.wegather.global.upload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.testcontainers.containers.localstack.LocalStackContainer.Service.S3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
+import com.example.wegather.IntegrationTest;
+import com.example.wegather.auth.AuthControllerTest;
+import com.example.wegather.auth.dto.SignUpRequest;
+import com.example.wegather.global.exception.customException.FileUploadException;
+import com.example.wegather.global.upload.dto.PresignedUploadDto;
+import com.example.wegather.global.upload.dto.PresignedUploadRequest;
+import com.example.wegather.global.upload.dto.UploadedImageRequest;
+import com.example.wegather.global.upload.entity.FileUploadHistory;
+import com.example.wegather.global.upload.entity.FileUploadStatus;
+import com.example.wegather.global.upload.entity.FileUploadVariant;
+import com.example.wegather.global.upload.entity.ImageVariant;
+import com.example.wegather.global.upload.repository.AWSFileManager;
+import com.example.wegather.global.upload.repository.FileUploadHistoryRepository;
+import com.example.wegather.global.upload.repository.FileUploadVariantRepository;
+import com.example.wegather.group.domain.entity.SmallGroup;
+import com.example.wegather.group.domain.repotitory.SmallGroupRepository;
+import com.example.wegather.member.domain.MemberRepository;
+import com.example.wegather.member.domain.entity.Member;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.utility.DockerImageName;
+
+@DisplayName("이미지 업로드 통합테스트")
+class ImageUploadIntegrationTest extends IntegrationTest {
+  private static final LocalStackContainer localStackContainer;
+  private static final String memberPassword = "1234";
+
+  static {
+    localStackContainer = new LocalStackContainer(DockerImageName.parse("localstack/localstack:3.0"))
+        .withServices(S3);
+    localStackContainer.start();
+  }
+
+  @DynamicPropertySource
+  private static void overrideS3Props(DynamicPropertyRegistry registry) {
+    registry.add("cloud.aws.s3.endpoint", () -> localStackContainer.getEndpointOverride(S3).toString());
+    registry.add("cloud.aws.credentials.access-key", localStackContainer::getAccessKey);
+    registry.add("cloud.aws.credentials.secret-key", localStackContainer::getSecretKey);
+    registry.add("cloud.aws.region.static", localStackContainer::getRegion);
+    registry.add("application.image.download-mode", () -> "REDIRECT");
+    registry.add("application.image.multipart.threshold", () -> "6MB");
+    registry.add("application.image.multipart.part-size", () -> "5MB");
+  }
+
+  @Autowired
+  AmazonS3 s3Client;
+  @Autowired
+  FileUploadHistoryRepository fileUploadHistoryRepository;
+  @Autowired
+  FileUploadVariantRepository fileUploadVariantRepository;
+  @Autowired
+  ImageUploadService imageUploadService;
+  @Autowired
+  MemberRepository memberRepository;
+  @Autowired
+  ImageDeletionWorker imageDeletionWorker;
+  @Autowired
+  OrphanImageCollector orphanImageCollector;
+  @Autowired
+  AWSFileManager awsFileManager;
+  @Autowired
+  SmallGroupRepository smallGroupRepository;
+  @Value("${application.bucket.name}")
+  String bucketName;
+
+  RequestSpecification spec;
+
+  @BeforeEach
+  void init() {
+    if (!s3Client.doesBucketExistV2(bucketName)) {
+      s3Client.createBucket(bucketName);
+    }
+    AuthControllerTest.signUp(SignUpRequest.builder()
+        .username("test01")
+        .password(memberPassword)
+        .email("testUser1@gmail.com")
+        .build());
+    spec = AuthControllerTest.signIn("test01", memberPassword);
+  }
+
+  @Test
+  @DisplayName("서명된 URL 로 직접 업로드한 뒤 완료 처리하면 업로드 완료 상태가 됩니다.")
+  void uploadWithPresignedUrlSuccessfully() throws Exception {
+    // given
+    PresignedUploadDto presignedUpload = requestPresignedUpload(spec, "profile.png", "image/png")
+        .as(PresignedUploadDto.class);
+    assertThat(fileUploadStatusOf(presignedUpload.getStoredFileName())).isEqualTo(FileUploadStatus.PENDING);
+
+    // when
+    int uploadStatus = putToPresignedUrl(presignedUpload.getUploadUrl(), "image/png", new byte[]{1, 2, 3, 4});
+    ExtractableResponse<Response> response = requestConfirmUpload(spec, presignedUpload.getStoredFileName());
+
+    // then
+    assertThat(uploadStatus).isEqualTo(HttpStatus.SC_OK);
+    assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_CREATED);
+    assertThat(s3Client.doesObjectExist(bucketName, presignedUpload.getStoredFileName())).isTrue();
+    assertThat(fileUploadStatusOf(presignedUpload.getStoredFileName())).isEqualTo(FileUploadStatus.UPLOADED);
+  }
+
+  @Test
+  @DisplayName("서명된 URL 로 업로드한 이미지를 같은 프로필 이미지로 다시 적용해도 삭제되지 않습니다.")
+  void reapplyUploadedProfileImage() throws Exception {
+    // given
+    PresignedUploadDto presignedUpload = requestPresignedUpload(spec, "profile.png", "image/png")
+        .as(PresignedUploadDto.class);
+    putToPresignedUrl(presignedUpload.getUploadUrl(), "image/png", new byte[]{1, 2, 3, 4});
+    requestConfirmUpload(spec, presignedUpload.getStoredFileName());
+    String storedFileName = presignedUpload.getStoredFileName();
+
+    // when
+    ExtractableResponse<Response> first = requestUpdateProfileImage(spec, storedFileName);
+    ExtractableResponse<Response> second = requestUpdateProfileImage(spec, storedFileName);
+    imageDeletionWorker.deletePendingImages();
+
+    // then
+    assertThat(first.statusCode()).isEqualTo(HttpStatus.SC_OK);
+    assertThat(second.statusCode()).isEqualTo(HttpStatus.SC_OK);
+    assertThat(fileUploadStatusOf(storedFileName)).isEqualTo(FileUploadStatus.UPLOADED);
+    assertThat(fileUploadHistoryRepository.findByStoredFileName(storedFileName).orElseThrow().getReferenceCount())
+        .isEqualTo(1);
+    assertThat(s3Client.doesObjectExist(bucketName, storedFileName)).isTrue();
+    assertThat(memberRepository.findByUsername("test01").orElseThrow().getProfileImage()).isEqualTo(storedFileName);
+  }
+
+  @Test
+  @DisplayName("업로드하지 않은 파일은 완료 처리할 수 없습니다.")
+  void confirmWithoutUploadFail() {
+    // given
+    PresignedUploadDto presignedUpload = requestPresignedUpload(spec, "profile.png", "image/png")
+        .as(PresignedUploadDto.class);
+
+    // when
+    ExtractableResponse<Response> response = requestConfirmUpload(spec, presignedUpload.getStoredFileName());
+
+    // then
+    assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_BAD_REQUEST);
+    assertThat(fileUploadStatusOf(presignedUpload.getStoredFileName())).isEqualTo(FileUploadStatus.PENDING);
+  }
+
+  @Test
+  @DisplayName("이미지가 아닌 파일은 업로드 URL 을 발급받을 수 없습니다.")
+  void createPresignedUploadWithNonImageFail() {
+    // when
+    ExtractableResponse<Response> response = requestPresignedUpload(spec, "script.sh", "text/plain");
+
+    // then
+    assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_BAD_REQUEST);
+  }
+
+  @Test
+  @DisplayName("REDIRECT 모드에서는 서명된 다운로드 URL 로 redirect 하며, 같은 파일은 캐시된 URL 을 사용합니다.")
+  void downloadImageWithRedirectSuccessfully() throws Exception {
+    // given
+    String filename = "redirect-test.png";
+    s3Client.putObject(bucketName, filename, "image");
+
+    // when
+    ExtractableResponse<Response> first = requestDownloadImage(spec, filename);
+    ExtractableResponse<Response> second = requestDownloadImage(spec, filename);
+
+    // then
+    assertThat(first.statusCode()).isEqualTo(HttpStatus.SC_MOVED_TEMPORARILY);
+    assertThat(first.header("Location")).contains(filename);
+    assertThat(first.header("Cache-Control")).contains("max-age", "private");
+    assertThat(second.header("Location")).isEqualTo(first.header("Location"));
+
+    HttpRequest request = HttpRequest.newBuilder(URI.create(first.header("Location"))).GET().build();
+    assertThat(HttpClient.newHttpClient().send(request, BodyHandlers.ofString()).body()).isEqualTo("image");
+  }
+
+  @Test
+  @DisplayName("같은 내용의 이미지는 저장된 파일을 재사용하며, 마지막 참조가 삭제될 때 파일이 삭제됩니다.")
+  void uploadSameImageReusesStoredFile() {
+    // given
+    Long memberId = memberRepository.findByUsername("test01").orElseThrow().getId();
+    byte[] image = {1, 2, 3, 4};
+
+    // when
+    String first = imageUploadService.uploadImage(
+        new MockMultipartFile("image", "avatar.png", "image/png", image), memberId);
+    String second = imageUploadService.uploadImage(
+        new MockMultipartFile("image", "avatar-copy.png", "image/png", image), memberId);
+
+    // then
+    assertThat(second).isEqualTo(first);
+    assertThat(fileUploadHistoryRepository.findByStoredFileName(first).orElseThrow().getReferenceCount())
+        .isEqualTo(2);
+    assertThat(fileUploadHistoryRepository.findByStoredFileName(first).orElseThrow().getContentHash())
+        .isEqualTo(DigestUtils.sha256Hex(image));
+
+    imageUploadService.deleteImage(first);
+    assertThat(s3Client.doesObjectExist(bucketName, first)).isTrue();
+    assertThat(fileUploadStatusOf(first)).isEqualTo(FileUploadStatus.UPLOADED);
+
+    imageUploadService.deleteImage(second);
+    assertThat(s3Client.doesObjectExist(bucketName, first)).isFalse();
+    assertThat(fileUploadStatusOf(first)).isEqualTo(FileUploadStatus.DELETED);
+  }
+
+  @Test
+  @DisplayName("교체된 이미지는 삭제 대기 상태가 되며, 백그라운드 작업에서 한 번에 삭제됩니다.")
+  void deleteImageLaterSuccessfully() {
+    // given
+    Long memberId = memberRepository.findByUsername("test01").orElseThrow().getId();
+    String first = imageUploadService.uploadImage(
+        new MockMultipartFile("image", "first.png", "image/png", new byte[]{1}), memberId);
+    String second = imageUploadService.uploadImage(
+        new MockMultipartFile("image", "second.png", "image/png", new byte[]{2}), memberId);
+
+    // when
+    imageUploadService.deleteImageLater(first);
+    imageUploadService.deleteImageLater(second);
+
+    // then
+    assertThat(fileUploadStatusOf(first)).isEqualTo(FileUploadStatus.PENDING_DELETE);
+    assertThat(s3Client.doesObjectExist(bucketName, first)).isTrue();
+
+    imageDeletionWorker.deletePendingImages();
+    assertThat(fileUploadStatusOf(first)).isEqualTo(FileUploadStatus.DELETED);
+    assertThat(fileUploadStatusOf(second)).isEqualTo(FileUploadStatus.DELETED);
+    assertThat(s3Client.doesObjectExist(bucketName, first)).isFalse();
+    assertThat(s3Client.doesObjectExist(bucketName, second)).isFalse();
+  }
+
+  @Test
+  @DisplayName("삭제 대기 중인 이미지의 축소 이미지는 원본과 함께 삭제됩니다.")
+  void deleteVariantsWithOriginal() {
+    // given
+    Long memberId = memberRepository.findByUsername("test01").orElseThrow().getId();
+    String original = imageUploadService.uploadImage(
+        new MockMultipartFile("image", "original.png", "image/png", new byte[]{3}), memberId);
+    FileUploadHistory history = fileUploadHistoryRepository.findByStoredFileName(original).orElseThrow();
+    String variant = ImageVariant.SMALL.storedFileNameOf(original);
+    s3Client.putObject(bucketName, variant, "variant");
+    fileUploadVariantRepository.save(FileUploadVariant.of(history, ImageVariant.SMALL, variant));
+
+    // when
+    imageUploadService.deleteImageLater(original);
+    imageDeletionWorker.deletePendingImages();
+
+    // then
+    assertThat(fileUploadStatusOf(original)).isEqualTo(FileUploadStatus.DELETED);
+    assertThat(s3Client.doesObjectExist(bucketName, variant)).isFalse();
+    assertThat(fileUploadVariantRepository.findStoredFileNamesIn(List.of(variant))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("유예 기간이 지나도록 사용되지 않은 이미지는 삭제 대상이 됩니다.")
+  void collectOrphanImagesSuccessfully() {
+    // given
+    Member member = memberRepository.findByUsername("test01").orElseThrow();
+    String orphan = imageUploadService.uploadImage(
+        new MockMultipartFile("image", "orphan.png", "image/png", new byte[]{1}), member.getId());
+    String profile = imageUploadService.uploadImage(
+        new MockMultipartFile("image", "profile.png", "image/png", new byte[]{2}), member.getId());
+    member.changeProfileImage(profile);
+    memberRepository.save(member);
+
+    String untracked = "images/untracked.png";
+    String untrackedProfile = "images/untracked-profile.png";
+    s3Client.putObject(bucketName, untracked, "image");
+    s3Client.putObject(bucketName, untrackedProfile, "image");
+    SmallGroup smallGroup = SmallGroup.builder()
+        .path("orphan-test")
+        .name("orphan-test")
+        .leader(member)
+        .maxMemberCount(10L)
+        .build();
+    smallGroup.updateImage(untrackedProfile);
+    smallGroupRepository.save(smallGroup);
+
+    // when
+    Instant afterGracePeriod = Instant.now().plusSeconds(60);
+    orphanImageCollector.collectUploadHistories(afterGracePeriod);
+    orphanImageCollector.collectUntrackedFiles(afterGracePeriod);
+
+    // then
+    assertThat(fileUploadStatusOf(orphan)).isEqualTo(FileUploadStatus.PENDING_DELETE);
+    assertThat(fileUploadStatusOf(profile)).isEqualTo(FileUploadStatus.UPLOADED);
+    assertThat(s3Client.doesObjectExist(bucketName, untracked)).isFalse();
+    assertThat(s3Client.doesObjectExist(bucketName, untrackedProfile)).isTrue();
+    assertThat(s3Client.doesObjectExist(bucketName, orphan)).isTrue();
+  }
+
+  @Test
+  @DisplayName("threshold 이상인 파일은 파트로 나누어 업로드합니다.")
+  void storeLargeFileWithMultipartUpload() throws Exception {
+    // given
+    byte[] content = new byte[12 * 1024 * 1024 + 1];
+    new Random(1).nextBytes(content);
+
+    // when
+    UploadFile uploadFile = awsFileManager.storeFile(new ByteArrayInputStream(content), content.length, "large.png");
+
+    // then
+    try (InputStream stored = s3Client.getObject(bucketName, uploadFile.getStoredFileName()).getObjectContent()) {
+      assertThat(stored.readAllBytes()).isEqualTo(content);
+    }
+    assertThat(s3Client.listMultipartUploads(new ListMultipartUploadsRequest(bucketName))
+        .getMultipartUploads()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("파트 업로드 중 실패하면 multipart upload 를 중단합니다.")
+  void abortMultipartUploadWhenFail() {
+    // given
+    byte[] content = new byte[7 * 1024 * 1024];
+    long declaredLength = 12 * 1024 * 1024;
+
+    // when, then
+    assertThatThrownBy(() -> awsFileManager.storeFile(new ByteArrayInputStream(content), declaredLength, "broken.png"))
+        .isInstanceOf(FileUploadException.class);
+    assertThat(s3Client.listMultipartUploads(new ListMultipartUploadsRequest(bucketName))
+        .getMultipartUploads()).isEmpty();
+  }
+
+  private ExtractableResponse<Response> requestDownloadImage(RequestSpecification spec, String filename) {
+    return RestAssured.given().log().ifValidationFails().spec(spec)
+        .redirects().follow(false)
+        .when().get("/api/images/{filename}", filename)
+        .then().log().ifValidationFails()
+        .extract();
+  }
+
+  private FileUploadStatus fileUploadStatusOf(String storedFileName) {
+    return fileUploadHistoryRepository.findByStoredFileName(storedFileName)
+        .map(FileUploadHistory::getFileUploadStatus)
+        .orElseThrow();
+  }
+
+  private int putToPresignedUrl(String uploadUrl, String contentType, byte[] body) throws Exception {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(uploadUrl))
+        .header("Content-Type", contentType)
+        .PUT(BodyPublishers.ofByteArray(body))
+        .build();
+    return HttpClient.newHttpClient().send(request, BodyHandlers.discarding()).statusCode();
+  }
+
+  public static ExtractableResponse<Response> requestPresignedUpload(RequestSpecification spec,
+      String originalFileName, String contentType) {
+    return RestAssured.given().log().ifValidationFails().spec(spec)
+        .body(PresignedUploadRequest.builder()
+            .originalFileName(originalFileName)
+            .contentType(contentType)
+            .build())
+        .contentType(ContentType.JSON)
+        .when().post("/api/images/presigned")
+        .then().log().ifValidationFails()
+        .extract();
+  }
+
+  private ExtractableResponse<Response> requestUpdateProfileImage(RequestSpecification spec,
+      String storedFileName) {
+    return RestAssured.given().log().ifValidationFails().spec(spec)
+        .body(new UploadedImageRequest(storedFileName))
+        .contentType(ContentType.JSON)
+        .when().post("/api/members/profile/image/v3")
+        .then().log().ifValidationFails()
+        .extract();
+  }
+
+  public static ExtractableResponse<Response> requestConfirmUpload(RequestSpecification spec, String storedFileName) {
+    return RestAssured.given().log().ifValidationFails().spec(spec)
+        .body(new UploadedImageRequest(storedFileName))
+        .contentType(ContentType.JSON)
+        .when().post("/api/images/confirm")
+        .then().log().ifValidationFails()
+        .extract();
+  }
+}
@@ -0,0 +1,166 @@
+package com.example.wegather.global.upload.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@DisplayName("이미지 디스크 캐시 테스트")
+class CachingFileManagerTest {
+  @TempDir
+  Path cacheDir;
+  AWSFileManager delegate;
+
+  @BeforeEach
+  void init() {
+    delegate = mock(AWSFileManager.class);
+  }
+
+  @Test
+  @DisplayName("한 번 가져온 이미지는 디스크에서 반환합니다.")
+  void getCachedFile() throws Exception {
+    // given
+    CachingFileManager fileManager = cachingFileManager(DataSize.ofKilobytes(1));
+    String filename = "images/2024/2024-01-29/a.png";
+    given(delegate.getFile(filename)).willAnswer(invocation -> new ByteArrayResource(new byte[]{1, 2, 3}));
+
+    // when
+    Resource first = fileManager.getFile(filename);
+    Resource second = fileManager.getFile(filename);
+
+    // then
+    then(delegate).should(times(1)).getFile(filename);
+    assertThat(second.isFile()).isTrue();
+    assertThat(second.contentLength()).isEqualTo(3);
+    assertThat(first.getFile()).isEqualTo(second.getFile());
+  }
+
+  @Test
+  @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 이미지부터 삭제합니다.")
+  void evictLeastRecentlyUsed() throws Exception {
+    // given
+    CachingFileManager fileManager = cachingFileManager(DataSize.ofBytes(20));
+    given(delegate.getFile("a.png")).willAnswer(invocation -> new ByteArrayResource(new byte[10]));
+    given(delegate.getFile("b.png")).willAnswer(invocation -> new ByteArrayResource(new byte[10]));
+    given(delegate.getFile("c.png")).willAnswer(invocation -> new ByteArrayResource(new byte[10]));
+    read(fileManager.getFile("a.png"));
+    read(fileManager.getFile("b.png"));
+    read(fileManager.getFile("a.png"));
+
+    // when
+    read(fileManager.getFile("c.png"));
+
+    // then
+    assertThat(Files.exists(cacheDir.resolve("a.png"))).isTrue();
+    assertThat(Files.exists(cacheDir.resolve("b.png"))).isFalse();
+    assertThat(Files.exists(cacheDir.resolve("c.png"))).isTrue();
+  }
+
+  @Test
+  @DisplayName("읽는 중인 이미지는 최대 크기를 넘어도 읽기가 끝난 뒤에 삭제합니다.")
+  void keepPinnedFileUntilRead() throws Exception {
+    // given
+    CachingFileManager fileManager = cachingFileManager(DataSize.ofBytes(10));
+    given(delegate.getFile("a.png")).willAnswer(invocation -> new ByteArrayResource(new byte[10]));
+    given(delegate.getFile("b.png")).willAnswer(invocation -> new ByteArrayResource(new byte[10]));
+    Resource pinned = fileManager.getFile("a.png");
+
+    // when
+    read(fileManager.getFile("b.png"));
+
+    // then
+    assertThat(Files.exists(cacheDir.resolve("a.png"))).isTrue();
+    assertThat(read(pinned)).hasSize(10);
+    assertThat(Files.exists(cacheDir.resolve("a.png"))).isFalse();
+    assertThat(Files.exists(cacheDir.resolve("b.png"))).isTrue();
+  }
+
+  @Test
+  @DisplayName("웹 요청이 끝난 직후의 이미지는 sendfile 전송을 위해 최대 크기를 넘어도 바로 삭제하지 않습니다.")
+  void keepFileDuringSendfileGrace() throws Exception {
+    // given
+    CachingFileManager fileManager = cachingFileManager(DataSize.ofBytes(10));
+    given(delegate.getFile("a.png")).willAnswer(invocation -> new ByteArrayResource(new byte[10]));
+    given(delegate.getFile("b.png")).willAnswer(invocation -> new ByteArrayResource(new byte[10]));
+    ServletRequestAttributes requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+    RequestContextHolder.setRequestAttributes(requestAttributes);
+    try {
+      fileManager.getFile("a.png");
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
+    requestAttributes.requestCompleted();
+
+    // when
+    read(fileManager.getFile("b.png"));
+
+    // then
+    assertThat(Files.exists(cacheDir.resolve("a.png"))).isTrue();
+    assertThat(Files.exists(cacheDir.resolve("b.png"))).isTrue();
+  }
+
+  @Test
+  @DisplayName("읽는 중에 스토리지에서 삭제된 이미지는 읽기가 끝난 뒤에 캐시에서 삭제합니다.")
+  void deletePinnedFileAfterRead() throws Exception {
+    // given
+    CachingFileManager fileManager = cachingFileManager(DataSize.ofKilobytes(1));
+    given(delegate.getFile("a.png")).willAnswer(invocation -> new ByteArrayResource(new byte[]{1, 2, 3}));
+    Resource pinned = fileManager.getFile("a.png");
+
+    // when
+    fileManager.deleteFile("a.png");
+
+    // then
+    assertThat(read(pinned)).containsExactly(1, 2, 3);
+    assertThat(Files.exists(cacheDir.resolve("a.png"))).isFalse();
+  }
+
+  @Test
+  @DisplayName("서버 재시작 후에도 디스크에 남은 이미지를 사용합니다.")
+  void reloadCachedFiles() throws Exception {
+    // given
+    given(delegate.getFile("a.png")).willAnswer(invocation -> new ByteArrayResource(new byte[]{1}));
+    cachingFileManager(DataSize.ofKilobytes(1)).getFile("a.png");
+
+    // when
+    cachingFileManager(DataSize.ofKilobytes(1)).getFile("a.png");
+
+    // then
+    then(delegate).should(times(1)).getFile("a.png");
+  }
+
+  @Test
+  @DisplayName("캐시 디렉토리 밖의 경로는 조회할 수 없습니다.")
+  void rejectPathTraversal() throws Exception {
+    CachingFileManager fileManager = cachingFileManager(DataSize.ofKilobytes(1));
+
+    assertThatThrownBy(() -> fileManager.getFile("../secret.png"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private byte[] read(Resource resource) throws Exception {
+    try (InputStream inputStream = resource.getInputStream()) {
+      return inputStream.readAllBytes();
+    }
+  }
+
+  private CachingFileManager cachingFileManager(DataSize maxSize) throws Exception {
+    return new CachingFileManager(delegate, cacheDir.toString(), maxSize);
+  }
+}
@@ -0,0 +1,103 @@
+package com.example.wegather.global.upload.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.wegather.global.upload.StoredFile;
+import com.example.wegather.global.upload.UploadFile;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.web.MockMultipartFile;
+
+@DisplayName("로컬 디스크 FileManager 테스트")
+class LocalFileManagerTest {
+  @TempDir
+  Path rootDir;
+  LocalFileManager fileManager;
+
+  @BeforeEach
+  void init() throws Exception {
+    fileManager = new LocalFileManager(rootDir.toString());
+  }
+
+  @Test
+  @DisplayName("날짜 폴더에 파일을 저장하고, 임시 파일은 남기지 않습니다.")
+  void storeFile() throws Exception {
+    // given
+    byte[] image = {1, 2, 3, 4, 5};
+
+    // when
+    UploadFile uploadFile = fileManager.storeFile(new ByteArrayInputStream(image), image.length, "profile.png");
+
+    // then
+    Path stored = rootDir.resolve(uploadFile.getStoredFileName());
+    assertThat(uploadFile.getStoredFileName()).matches("images/\\d{4}/\\d{4}-\\d{2}-\\d{2}/.+\\.png");
+    assertThat(Files.readAllBytes(stored)).isEqualTo(image);
+    try (Stream<Path> files = Files.list(stored.getParent())) {
+      assertThat(files.collect(Collectors.toList())).containsExactly(stored);
+    }
+
+    Resource resource = fileManager.getFile(uploadFile.getStoredFileName());
+    assertThat(resource.isFile()).isTrue();
+    assertThat(resource.contentLength()).isEqualTo(image.length);
+  }
+
+  @Test
+  @DisplayName("MultipartFile 을 저장합니다.")
+  void storeMultipartFile() throws Exception {
+    // when
+    UploadFile uploadFile = fileManager.storeFile(
+        new MockMultipartFile("image", "banner.jpg", "image/jpeg", new byte[]{7, 8}));
+
+    // then
+    assertThat(fileManager.getFileSize(uploadFile.getStoredFileName())).contains(2L);
+  }
+
+  @Test
+  @DisplayName("내용이 크기보다 짧으면 저장에 실패하며 파일을 남기지 않습니다.")
+  void storeTruncatedFileFail() throws Exception {
+    // when, then
+    assertThatThrownBy(() -> fileManager.storeFile(new ByteArrayInputStream(new byte[3]), 10, "a.png"))
+        .isInstanceOf(RuntimeException.class);
+    try (Stream<Path> files = Files.walk(rootDir)) {
+      assertThat(files.filter(Files::isRegularFile).count()).isZero();
+    }
+  }
+
+  @Test
+  @DisplayName("저장 디렉토리 밖의 파일은 접근할 수 없습니다.")
+  void resolveOutsideRootFail() {
+    assertThatThrownBy(() -> fileManager.getFile("../secret.txt"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("파일 목록을 조회하고, 여러 파일을 한 번에 삭제합니다.")
+  void listAndDeleteFiles() {
+    // given
+    fileManager.storeFile("images/2024/2024-01-29/a.png", new byte[]{1}, "image/png");
+    fileManager.storeFile("images/2024/2024-01-30/b.png", new byte[]{2}, "image/png");
+
+    // when
+    List<StoredFile> listed = new ArrayList<>();
+    fileManager.listFiles("images/", listed::addAll);
+    List<String> failed = fileManager.deleteFiles(List.of("images/2024/2024-01-29/a.png", "images/none.png"));
+
+    // then
+    assertThat(listed).extracting(StoredFile::getStoredFileName)
+        .containsExactlyInAnyOrder("images/2024/2024-01-29/a.png", "images/2024/2024-01-30/b.png");
+    assertThat(failed).isEmpty();
+    assertThat(fileManager.getFileSize("images/2024/2024-01-29/a.png")).isEmpty();
+    assertThat(fileManager.getFileSize("images/2024/2024-01-30/b.png")).contains(1L);
+  }
+}
@@ -17,7 +17,6 @@ import com.example.wegather.group.dto.ManagerAndMemberDto;
 import com.example.wegather.group.dto.SmallGroupDto;
 import com.example.wegather.group.dto.SmallGroupSearchCondition;
 import com.example.wegather.group.dto.SmallGroupSearchDto;
-import com.example.wegather.group.dto.UpdateBannerRequest;
 import com.example.wegather.group.dto.UpdateGroupDescriptionRequest;
 import com.example.wegather.IntegrationTest;
 import com.example.wegather.group.dto.UpdateGroupWithMultipartImageRequest;
@@ -37,8 +36,10 @@ import io.restassured.path.json.JsonPath;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.apache.http.HttpStatus;
 import org.hibernate.AssertionFailure;
@@ -148,6 +149,29 @@ public class SmallGroupIntegrationTest extends IntegrationTest {
     assertThat(result.isManagerOrMember()).isTrue();
   }
 
+  @Test
+  @DisplayName("없는 path 로 조회한 뒤 같은 path 로 소모임을 생성하면, 생성된 소모임이 조회됩니다.")
+  void getSmallGroupAfterUnknownPathCached() {
+    RequestSpecification spec = AuthControllerTest.signIn(member01.getUsername(), memberPassword);
+    String path = "new-path";
+
+    ExtractableResponse<Response> unknownResponse = requestReadGroup(path, spec);
+    createGroupForTest(path, "새모임", 10L, member01.getUsername());
+    ExtractableResponse<Response> response = requestReadGroup(path, spec);
+
+    assertThat(unknownResponse.statusCode()).isEqualTo(HttpStatus.SC_BAD_REQUEST);
+    assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_OK);
+    assertThat((String) response.path("path")).isEqualTo(path);
+  }
+
+  private ExtractableResponse<Response> requestReadGroup(String path, RequestSpecification spec) {
+    return RestAssured.given().log().ifValidationFails().spec(spec)
+        .pathParam("path", path)
+        .when().get("/api/smallGroups/{path}")
+        .then().log().ifValidationFails()
+        .extract();
+  }
+
   @Test
   @DisplayName("소모임의 관리자와 회원 목록을 조회합니다.")
   void readGroupManagersAndMembersSuccessfully() {
@@ -184,13 +208,12 @@ public class SmallGroupIntegrationTest extends IntegrationTest {
     // given
     RequestSpecification spec = AuthControllerTest.signIn(member01.getUsername(), memberPassword);
     String path = group01.getPath();
-    UpdateBannerRequest request = UpdateBannerRequest.builder()
-        .image("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAADIA")
-        .originalImageName("test.jpg")
-        .build();
+    Map<String, String> request = Map.of(
+        "image", "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAADIA",
+        "originalImageName", "test.jpg");
     // 이미지 저장 mock
     String storeFileName = "storeFileName";
-    given(fileManager.storeFile(any(), any())).willReturn(UploadFile.of("", storeFileName));
+    given(fileManager.storeFile(any(InputStream.class), anyLong(), any())).willReturn(UploadFile.of("", storeFileName));
 
     // when
     ExtractableResponse<Response> response = RestAssured.given().log().ifValidationFails().spec(spec)
@@ -204,7 +227,7 @@ public class SmallGroupIntegrationTest extends IntegrationTest {
     // then
     assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_OK);
     // 호출 검증지
-    then(fileManager).should().storeFile(any(), any());
+    then(fileManager).should().storeFile(any(InputStream.class), anyLong(), any());
 
     SmallGroup smallGroup = smallGroupRepository.findByPath(path)
         .orElseThrow(() -> new RuntimeException("test fail"));
@@ -222,7 +245,7 @@ public class SmallGroupIntegrationTest extends IntegrationTest {
     byte[] fakeFileBytes = fakeFileContent.getBytes();
     // 이미지 저장 mock
     String storeFileName = "storeFileName";
-    given(fileManager.storeFile(any())).willReturn(UploadFile.of("", storeFileName));
+    given(fileManager.storeFile(any(InputStream.class), anyLong(), any(), any())).willReturn(UploadFile.of("", storeFileName));
 
     // when
     ExtractableResponse<Response> response = RestAssured.given().log().ifValidationFails().spec(spec)
@@ -236,7 +259,7 @@ public class SmallGroupIntegrationTest extends IntegrationTest {
     // then
     assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_OK);
     // 호출 검증지
-    then(fileManager).should().storeFile(any());
+    then(fileManager).should().storeFile(any(InputStream.class), anyLong(), any(), any());
 
     SmallGroup smallGroup = smallGroupRepository.findByPath(path)
         .orElseThrow(() -> new RuntimeException("test fail"));
@@ -271,6 +294,47 @@ public class SmallGroupIntegrationTest extends IntegrationTest {
     assertThat(pageNumber).isEqualTo(page);
   }
 
+  @Test
+  @DisplayName("커서로 다음 페이지를 이어서 검색합니다.")
+  void searchSmallGroupByCursorSuccessfully() {
+    int size = 2;
+
+    ExtractableResponse<Response> firstResponse = requestSearchByCursor(null, size);
+    String nextCursor = firstResponse.path("nextCursor");
+    ExtractableResponse<Response> secondResponse = requestSearchByCursor(nextCursor, size);
+
+    assertThat(firstResponse.statusCode()).isEqualTo(HttpStatus.SC_OK);
+    assertThat(firstResponse.jsonPath().getList("content.path", String.class))
+        .containsExactly(group03.getPath(), group02.getPath());
+    assertThat((boolean) firstResponse.path("hasNext")).isTrue();
+
+    assertThat(secondResponse.statusCode()).isEqualTo(HttpStatus.SC_OK);
+    assertThat(secondResponse.jsonPath().getList("content.path", String.class))
+        .containsExactly(group01.getPath());
+    assertThat((boolean) secondResponse.path("hasNext")).isFalse();
+    assertThat((String) secondResponse.path("nextCursor")).isNull();
+  }
+
+  @Test
+  @DisplayName("올바르지 않은 커서여서 소모임 검색에 실패합니다.")
+  void searchSmallGroupByCursorFail_invalid_cursor() {
+    ExtractableResponse<Response> response = requestSearchByCursor("invalid-cursor", 2);
+
+    assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_BAD_REQUEST);
+  }
+
+  private ExtractableResponse<Response> requestSearchByCursor(String cursor, int size) {
+    RequestSpecification request = RestAssured.given().log().ifValidationFails()
+        .queryParam("size", size);
+    if (cursor != null) {
+      request.queryParam("cursor", cursor);
+    }
+    return request
+        .when().get("/api/smallGroups/search/cursor")
+        .then().log().ifValidationFails()
+        .extract();
+  }
+
   @Test
   @Disabled
   @DisplayName("관심사로 소그룹 조회를 성공합니다.")
@@ -401,7 +465,7 @@ public class SmallGroupIntegrationTest extends IntegrationTest {
     byte[] fakeFileBytes = fakeFileContent.getBytes();
     // 이미지 저장 mock
     String storeFileName = "storeFileName";
-    given(fileManager.storeFile(any())).willReturn(UploadFile.of("", storeFileName));
+    given(fileManager.storeFile(any(InputStream.class), anyLong(), any(), any())).willReturn(UploadFile.of("", storeFileName));
 
     ExtractableResponse<Response> response = RestAssured
         .given().log().ifValidationFails()
@@ -429,7 +493,7 @@ public class SmallGroupIntegrationTest extends IntegrationTest {
     assertThat(updated.getShortDescription()).isEqualTo(descriptionInfo.getShortDescription());
     assertThat(updated.getFullDescription()).isEqualTo(descriptionInfo.getFullDescription());
     // 이미지 업로드 메서드 호출 테스트
-    then(fileManager).should().storeFile(any());
+    then(fileManager).should().storeFile(any(InputStream.class), anyLong(), any(), any());
     // 이미지 DB 저장 테스트
     assertThat(updated.getImage()).isEqualTo(storeFileName);
   }
@@ -628,7 +692,7 @@ public class SmallGroupIntegrationTest extends IntegrationTest {
     assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_FORBIDDEN);
   }
 
-  private ExtractableResponse<Response> requestOpenRecruiting(String path, RequestSpecification spec) {
+  public static ExtractableResponse<Response> requestOpenRecruiting(String path, RequestSpecification spec) {
     ExtractableResponse<Response> response = RestAssured.given().log().ifValidationFails()
         .spec(spec)
         .pathParam("path", path)
@@ -3,8 +3,11 @@ package com.example.wegather.group;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.example.wegather.auth.AuthControllerTest;
+import com.example.wegather.group.domain.entity.SmallGroup;
 import com.example.wegather.group.domain.entity.SmallGroupJoin;
 import com.example.wegather.group.domain.repotitory.SmallGroupJoinRepository;
+import com.example.wegather.group.domain.repotitory.SmallGroupMemberRepository;
+import com.example.wegather.group.domain.repotitory.SmallGroupRepository;
 import com.example.wegather.group.dto.CreateSmallGroupRequest;
 import com.example.wegather.group.dto.GroupJoinRequestDto;
 import com.example.wegather.group.dto.SmallGroupDto;
@@ -15,7 +18,13 @@ import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +35,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 public class SmallGroupJoinIntegrationTest extends IntegrationTest {
   @Autowired
   private SmallGroupJoinRepository smallGroupJoinRepository;
+  @Autowired
+  private SmallGroupRepository smallGroupRepository;
+  @Autowired
+  private SmallGroupMemberRepository smallGroupMemberRepository;
 
   private static final String memberPassword = "1234";
   private MemberDto member01;
@@ -77,6 +90,62 @@ public class SmallGroupJoinIntegrationTest extends IntegrationTest {
     assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_BAD_REQUEST);
   }
 
+  @Test
+  @DisplayName("선착순 소모임에 동시에 가입 요청해도 최대 회원수를 초과하지 않습니다.")
+  void smallGroupJoinRequest_concurrently_as_FCFS() throws InterruptedException {
+    // given
+    long maxMemberCount = 5L;
+    int joinMemberCount = 20;
+    SmallGroupDto smallGroup = insertSmallGroup("group-fcfs", "groupFcfs", maxMemberCount, member01);
+    SmallGroupIntegrationTest.requestOpenRecruiting(smallGroup.getPath(),
+        AuthControllerTest.signIn(member01.getUsername(), memberPassword));
+
+    List<RequestSpecification> specs = new ArrayList<>();
+    for (int i = 0; i < joinMemberCount; i++) {
+      MemberDto joinMember = insertMember("fcfs" + i, "fcfs" + i + "@gmail.com", memberPassword);
+      specs.add(AuthControllerTest.signIn(joinMember.getUsername(), memberPassword));
+    }
+
+    ExecutorService executorService = Executors.newFixedThreadPool(joinMemberCount);
+    CountDownLatch startLatch = new CountDownLatch(1);
+    CountDownLatch doneLatch = new CountDownLatch(joinMemberCount);
+    AtomicInteger successCount = new AtomicInteger();
+    AtomicInteger failCount = new AtomicInteger();
+
+    // when
+    for (RequestSpecification spec : specs) {
+      executorService.execute(() -> {
+        try {
+          startLatch.await();
+          int statusCode = RestAssured.given().spec(spec)
+              .pathParam("id", smallGroup.getId())
+              .when().post("/api/smallGroups/{id}/join/requests")
+              .then().extract().statusCode();
+          if (statusCode == HttpStatus.SC_OK) {
+            successCount.incrementAndGet();
+          } else if (statusCode == HttpStatus.SC_BAD_REQUEST) {
+            failCount.incrementAndGet();
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          doneLatch.countDown();
+        }
+      });
+    }
+    startLatch.countDown();
+    doneLatch.await(30, TimeUnit.SECONDS);
+    executorService.shutdown();
+
+    // then
+    SmallGroup savedGroup = smallGroupRepository.findById(smallGroup.getId()).orElseThrow();
+    int expectedJoinCount = (int) maxMemberCount - 1;   // 소모임장 제외
+    assertThat(successCount.get()).isEqualTo(expectedJoinCount);
+    assertThat(failCount.get()).isEqualTo(joinMemberCount - expectedJoinCount);
+    assertThat(savedGroup.getCurrentMemberCount()).isEqualTo(expectedJoinCount + 1);
+    assertThat(smallGroupMemberRepository.countBySmallGroup(savedGroup)).isEqualTo(maxMemberCount);
+  }
+
   @Test
   @DisplayName("소모임 가입 요청 목록을 조회합니다.")
   void readAllJoinRequests_success() {
@@ -142,6 +211,23 @@ public class SmallGroupJoinIntegrationTest extends IntegrationTest {
     assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_FORBIDDEN);
   }
 
+  @Test
+  @DisplayName("이미 승인한 가입 요청은 다시 승인할 수 없고, 회원수도 증가하지 않습니다.")
+  void approveSmallGroupJoin_fail_because_already_approved() {
+    SmallGroupDto smallGroup = group01;
+    MemberDto joinMember = member02;
+    requestSmallGroupJoinRequest(smallGroup.getId(), joinMember.getUsername());
+    Long requestId = findSmallGroupJoin(smallGroup.getId(), joinMember.getId()).getId();
+    requestApproveSmallGroupJoin(smallGroup.getId(), requestId, member01.getUsername());
+
+    ExtractableResponse<Response> response = requestApproveSmallGroupJoin(
+        smallGroup.getId(), requestId, member01.getUsername());
+
+    assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_BAD_REQUEST);
+    assertThat(smallGroupRepository.findById(smallGroup.getId()).orElseThrow().getCurrentMemberCount())
+        .isEqualTo(2);
+  }
+
   private SmallGroupJoin findSmallGroupJoin(Long smallGroupId, Long memberId) {
     return smallGroupJoinRepository.findBySmallGroup_IdAndMember_Id(smallGroupId, memberId)
         .orElseThrow(() -> new RuntimeException("소모임 가입 내역을 찾을 수 없습니다."));
@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.*;
 import com.example.wegather.RepositoryTest;
 import com.example.wegather.global.vo.MemberType;
 import com.example.wegather.group.domain.entity.SmallGroup;
+import com.example.wegather.group.domain.search.SmallGroupNgramIndex;
+import com.example.wegather.group.domain.search.SmallGroupSearchEngine;
 import com.example.wegather.member.domain.entity.Member;
 import java.util.List;
 import javax.persistence.EntityManager;
@@ -13,7 +15,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 
 
 class SmallGroupRepositoryQuerydslTest extends RepositoryTest {
@@ -28,7 +33,8 @@ class SmallGroupRepositoryQuerydslTest extends RepositoryTest {
 
   @BeforeEach
   void initTest() {
-    smallGroupRepositoryQuerydsl = new SmallGroupRepositoryImpl(entityManager);
+    smallGroupRepositoryQuerydsl = new SmallGroupRepositoryImpl(entityManager, new SmallGroupNgramIndex(),
+        SmallGroupSearchEngine.LIKE);
 
     Member member01 = insertMember("member01");
     Member member02 = insertMember("member02");
@@ -59,6 +65,21 @@ class SmallGroupRepositoryQuerydslTest extends RepositoryTest {
     assertThat(smallGroups).extracting(SmallGroup::getName).contains("탁사모", "탁사모 부산");
   }
 
+  @Test
+  @DisplayName("소모임 ID 로 페이징한 후, 해당 페이지의 소모임만 조회합니다.")
+  void searchGroupWithPaging() {
+    // given
+    PageRequest pageRequest = PageRequest.of(1, 2, Sort.by(Direction.DESC, "createdAt"));
+
+    // when
+    Page<SmallGroup> result = smallGroupRepositoryQuerydsl.search(null, pageRequest);
+
+    // then
+    assertThat(result.getTotalElements()).isEqualTo(5);
+    assertThat(result.getTotalPages()).isEqualTo(3);
+    assertThat(result.getContent()).hasSize(2);
+  }
+
   Member insertMember(String username) {
     return em.persistAndFlush(Member.builder()
             .username(username)
@@ -0,0 +1,108 @@
+package com.example.wegather.group.domain.repotitory;
+
+import com.example.wegather.RepositoryTest;
+import com.example.wegather.config.HibernateConfig;
+import com.example.wegather.group.domain.search.SmallGroupNgramIndex;
+import com.example.wegather.group.domain.search.SmallGroupSearchEngine;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 검색 엔진(LIKE, FULLTEXT, NGRAM_INDEX) 별 소모임 검색 지연시간을 비교합니다.
+ * 대량의 데이터를 넣으므로 수동으로만 실행합니다.
+ * FULLTEXT 인덱스는 커밋된 데이터만 반영하므로 트랜잭션 없이 실행합니다.
+ * FULLTEXT 인덱스는 test 프로필(ddl-auto=create)에서 import.sql 로 생성됩니다.
+ * DB 가 필요하므로 JMH(src/jmh) 대신 테스트로 실행합니다.
+ */
+@Disabled
+@Import(HibernateConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SmallGroupSearchBenchmarkTest extends RepositoryTest {
+  private static final Logger log = LoggerFactory.getLogger(SmallGroupSearchBenchmarkTest.class);
+  private static final String[] WORDS = {"탁구", "클라이밍", "농구", "토익", "스터디", "독서", "러닝", "사진",
+      "부산", "서울", "대구", "사랑", "모임", "주말", "직장인", "코딩", "등산", "요리", "영화", "보드게임"};
+  private static final String[] KEYWORDS = {"탁구", "클라이밍 부산", "직장인 코딩", "보드게임", "사진 모임"};
+  private static final int INSERT_BATCH_SIZE = 5000;
+  private static final int WARM_UP = 5;
+  private static final int ITERATIONS = 20;
+
+  @Autowired
+  EntityManager entityManager;
+
+  @Autowired
+  JdbcTemplate jdbcTemplate;
+
+  @ParameterizedTest
+  @ValueSource(ints = {10_000, 100_000, 1_000_000})
+  @DisplayName("소모임 수에 따른 검색 엔진별 지연시간을 측정합니다.")
+  void compareSearchEngines(int groupCount) {
+    SmallGroupNgramIndex ngramIndex = new SmallGroupNgramIndex();
+    SmallGroupNgramIndex.BulkLoad bulkLoad = ngramIndex.startBulkLoad();
+    insertGroups(groupCount, bulkLoad);
+    bulkLoad.commit();
+    ngramIndex.markReady();
+
+    for (SmallGroupSearchEngine engine : SmallGroupSearchEngine.values()) {
+      SmallGroupRepositoryQuerydsl repository = new SmallGroupRepositoryImpl(entityManager, ngramIndex, engine);
+      PageRequest pageRequest = PageRequest.of(0, 9, Sort.by(Direction.DESC, "createdAt"));
+
+      for (int i = 0; i < WARM_UP; i++) {
+        repository.search(KEYWORDS[i % KEYWORDS.length], pageRequest);
+      }
+      long start = System.nanoTime();
+      for (int i = 0; i < ITERATIONS; i++) {
+        repository.search(KEYWORDS[i % KEYWORDS.length], pageRequest);
+        entityManager.clear();
+      }
+      double averageMillis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+      log.info("groups={}, engine={}, avg={}ms", groupCount, engine, String.format("%.2f", averageMillis));
+    }
+  }
+
+  private void insertGroups(int groupCount, SmallGroupNgramIndex.BulkLoad bulkLoad) {
+    Random random = new Random(42);
+    Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+    List<Object[]> batch = new ArrayList<>();
+
+    for (int i = 1; i <= groupCount; i++) {
+      String name = randomWords(random, 2);
+      String shortDescription = randomWords(random, 4);
+      batch.add(new Object[]{"group-" + i, name, shortDescription, randomWords(random, 10), createdAt});
+      bulkLoad.add((long) i, name, shortDescription);
+
+      if (batch.size() == INSERT_BATCH_SIZE || i == groupCount) {
+        jdbcTemplate.batchUpdate("insert into small_group "
+            + "(path, name, short_description, full_description, max_member_count, created_at, "
+            + "recruiting, published, closed, use_banner, current_member_count) "
+            + "values (?, ?, ?, ?, 100, ?, false, false, false, false, 0)", batch);
+        batch.clear();
+      }
+    }
+  }
+
+  private String randomWords(Random random, int count) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      builder.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+    }
+    return builder.toString().trim();
+  }
+}
@@ -0,0 +1,88 @@
+package com.example.wegather.group.domain.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.wegather.global.vo.SmallGroupStatus;
+import com.example.wegather.group.domain.vo.RecruitingType;
+import com.example.wegather.group.dto.SmallGroupFacetDto;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SmallGroupFacetIndexTest {
+  SmallGroupFacetIndex index;
+
+  @BeforeEach
+  void initIndex() {
+    index = new SmallGroupFacetIndex();
+    index.put(new SmallGroupFacetDto(1L, SmallGroupStatus.RECRUITING, RecruitingType.FCFS, List.of("운동", "친목")));
+    index.put(new SmallGroupFacetDto(2L, SmallGroupStatus.RECRUITING, RecruitingType.APPROVAL, List.of("운동")));
+    index.put(new SmallGroupFacetDto(3L, SmallGroupStatus.PUBLISHED, null, List.of("독서")));
+    index.put(new SmallGroupFacetDto(4L, SmallGroupStatus.CLOSED, RecruitingType.FCFS, List.of("친목")));
+    index.markReady();
+  }
+
+  @Test
+  @DisplayName("같은 패싯은 OR, 다른 패싯은 AND 로 검색하고 최신순으로 반환합니다.")
+  void search() {
+    SmallGroupFacetResult result = index.search(Set.of("운동", "친목"), Set.of(SmallGroupStatus.RECRUITING),
+        null, null, 10);
+
+    assertThat(result.getIds()).containsExactly(2L, 1L);
+    assertThat(result.getTotalCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("패싯별 개수는 해당 패싯을 제외한 조건으로 계산합니다.")
+  void facetCounts() {
+    SmallGroupFacetResult result = index.search(null, Set.of(SmallGroupStatus.RECRUITING), null, null, 10);
+
+    assertThat(result.getFacetCounts().get(SmallGroupFacetIndex.STATUS))
+        .containsEntry("RECRUITING", 2)
+        .containsEntry("PUBLISHED", 1)
+        .containsEntry("CLOSED", 1);
+    assertThat(result.getFacetCounts().get(SmallGroupFacetIndex.INTEREST))
+        .containsEntry("운동", 2)
+        .containsEntry("친목", 1)
+        .doesNotContainKey("독서");
+  }
+
+  @Test
+  @DisplayName("관심사 개수는 소모임이 많은 순으로 상위 관심사와 선택한 관심사만 반환합니다.")
+  void interestFacetLimit() {
+    for (int i = 0; i < SmallGroupFacetIndex.INTEREST_FACET_LIMIT + 5; i++) {
+      index.put(new SmallGroupFacetDto(100L + i, SmallGroupStatus.RECRUITING, RecruitingType.FCFS,
+          List.of("운동", "관심사" + i)));
+    }
+
+    SmallGroupFacetResult result = index.search(Set.of("독서"), null, null, null, 10);
+
+    assertThat(result.getFacetCounts().get(SmallGroupFacetIndex.INTEREST))
+        .hasSize(SmallGroupFacetIndex.INTEREST_FACET_LIMIT + 1)
+        .containsEntry("운동", SmallGroupFacetIndex.INTEREST_FACET_LIMIT + 7)
+        .containsEntry("친목", 2)
+        .containsEntry("독서", 1);
+    assertThat(result.getFacetCounts().get(SmallGroupFacetIndex.INTEREST).keySet().iterator().next())
+        .isEqualTo("운동");
+  }
+
+  @Test
+  @DisplayName("수정, 삭제된 소모임은 기존 색인에서 제거되고, 커서 이후부터 조회됩니다.")
+  void updateRemoveAndPaging() {
+    index.put(new SmallGroupFacetDto(1L, SmallGroupStatus.CLOSED, RecruitingType.FCFS, List.of("친목")));
+    index.remove(2L);
+
+    SmallGroupFacetResult first = index.search(null, Set.of(SmallGroupStatus.CLOSED), null, null, 1);
+    SmallGroupFacetResult second = index.search(null, Set.of(SmallGroupStatus.CLOSED), null,
+        first.getNextCursor(), 1);
+
+    assertThat(first.getTotalCount()).isEqualTo(2);
+    assertThat(first.getIds()).containsExactly(4L);
+    assertThat(first.getNextCursor()).isEqualTo(4L);
+    assertThat(second.getIds()).containsExactly(1L);
+    assertThat(second.getNextCursor()).isNull();
+    assertThat(first.getFacetCounts().get(SmallGroupFacetIndex.INTEREST)).doesNotContainKey("운동");
+  }
+}
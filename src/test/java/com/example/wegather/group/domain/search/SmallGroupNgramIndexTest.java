@@ -0,0 +1,88 @@
+package com.example.wegather.group.domain.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SmallGroupNgramIndexTest {
+  SmallGroupNgramIndex index;
+
+  @BeforeEach
+  void initIndex() {
+    index = new SmallGroupNgramIndex();
+    index.put(1L, "탁사모", "탁구를 사랑하는 모임");
+    index.put(2L, "탁사모 부산", "부산 탁구 모임");
+    index.put(3L, "서울 토익 스터디", "TOEIC 900");
+    index.markReady();
+  }
+
+  @Test
+  @DisplayName("검색어의 모든 gram 을 포함하는 소모임을 후보로 조회합니다.")
+  void findCandidates() {
+    assertThat(index.findCandidates("탁사모")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1, 2));
+    assertThat(index.findCandidates("부산")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(2));
+    assertThat(index.findCandidates("toeic")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(3));
+    assertThat(index.findCandidates("농구")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+  }
+
+  @Test
+  @DisplayName("수정, 삭제된 소모임은 기존 색인에서 제거됩니다.")
+  void updateAndRemove() {
+    index.put(1L, "농구 최고", "농구 모임");
+    index.remove(2L);
+
+    assertThat(index.findCandidates("탁사모")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    assertThat(index.findCandidates("농구")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1));
+  }
+
+  @Test
+  @DisplayName("초기 적재는 적재 중에 이벤트로 먼저 반영된 수정, 삭제를 덮어쓰지 않습니다.")
+  void bulkLoad() {
+    SmallGroupNgramIndex bulkIndex = new SmallGroupNgramIndex();
+    SmallGroupNgramIndex.BulkLoad bulkLoad = bulkIndex.startBulkLoad();
+    bulkLoad.add(1L, "탁사모", "탁구를 사랑하는 모임");
+    bulkLoad.add(2L, "탁사모 부산", "부산 탁구 모임");
+    bulkLoad.add(3L, "서울 토익 스터디", "TOEIC 900");
+    bulkIndex.put(1L, "농구 최고", "농구 모임");
+    bulkIndex.remove(3L);
+
+    bulkLoad.commit();
+    bulkIndex.markReady();
+
+    assertThat(bulkIndex.findCandidates("탁사모")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(2));
+    assertThat(bulkIndex.findCandidates("모임")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1, 2));
+    assertThat(bulkIndex.findCandidates("토익")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+
+    bulkIndex.remove(2L);
+    assertThat(bulkIndex.findCandidates("모임")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1));
+  }
+
+  @Test
+  @DisplayName("전각 문자, 악센트, 대소문자를 collation 과 같이 같은 문자로 색인하고 검색합니다.")
+  void findCandidatesFolded() {
+    index.put(4L, "Café 모임", "ＪＡＶＡ 스터디");
+
+    assertThat(index.findCandidates("cafe")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(4));
+    assertThat(index.findCandidates("CAFÉ")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(4));
+    assertThat(index.findCandidates("java")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(4));
+    assertThat(index.findCandidates("ｔｏｅｉｃ")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(3));
+  }
+
+  @Test
+  @DisplayName("collation 과 같게 변환할 수 없는 문자가 포함된 검색어는 색인을 사용하지 않습니다.")
+  void notFoldable() {
+    index.put(4L, "サッカー 모임", "Straße");
+
+    assertThat(index.findCandidates("サッカー")).isEmpty();
+    assertThat(index.findCandidates("straße")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("한 글자 검색어나 색인 준비 전에는 색인을 사용하지 않습니다.")
+  void notUsable() {
+    assertThat(index.findCandidates("탁")).isEmpty();
+    assertThat(new SmallGroupNgramIndex().findCandidates("탁사모")).isEmpty();
+  }
+}
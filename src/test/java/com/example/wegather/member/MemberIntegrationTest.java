@@ -2,6 +2,7 @@ package com.example.wegather.member;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
@@ -18,7 +19,6 @@ import com.example.wegather.interest.dto.InterestDto;
 import com.example.wegather.member.domain.MemberRepository;
 import com.example.wegather.auth.dto.SignUpRequest;
 import com.example.wegather.member.domain.entity.Member;
-import com.example.wegather.member.dto.EditProfileImageRequest;
 import com.example.wegather.member.dto.MemberDto;
 import com.example.wegather.member.dto.ProfileSmallGroupDto;
 import io.restassured.RestAssured;
@@ -26,7 +26,9 @@ import io.restassured.http.ContentType;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -131,14 +133,13 @@ class MemberIntegrationTest extends IntegrationTest {
   void editProfileImageSuccessfully() {
     // given
     RequestSpecification spec = AuthControllerTest.signIn(member01.getUsername(), memberPassword);
-    EditProfileImageRequest request = EditProfileImageRequest.builder()
-        .image("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAADIA")
-        .originalImageName("test.jpg")
-        .build();
+    Map<String, String> request = Map.of(
+        "image", "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAADIA",
+        "originalImageName", "test.jpg");
 
     // 이미지 저장 mock
     String storeFileName = "storeFileName";
-    given(fileManager.storeFile(any(), any())).willReturn(UploadFile.of("", storeFileName));
+    given(fileManager.storeFile(any(InputStream.class), anyLong(), any())).willReturn(UploadFile.of("", storeFileName));
 
     // when
     ExtractableResponse<Response> response = RestAssured.given().log().ifValidationFails().spec(spec)
@@ -151,7 +152,7 @@ class MemberIntegrationTest extends IntegrationTest {
     // then
     assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_OK);
     // 호출 검증
-    then(fileManager).should().storeFile(any(), any());
+    then(fileManager).should().storeFile(any(InputStream.class), anyLong(), any());
 
     Member member = memberRepository.findById(member01.getId())
         .orElseThrow(() -> new RuntimeException("test fail"));
@@ -168,7 +169,7 @@ class MemberIntegrationTest extends IntegrationTest {
     byte[] fakeFileBytes = fakeFileContent.getBytes();
     // 이미지 저장 mock
     String storeFileName = "storeFileName";
-    given(fileManager.storeFile(any())).willReturn(UploadFile.of("", storeFileName));
+    given(fileManager.storeFile(any(InputStream.class), anyLong(), any(), any())).willReturn(UploadFile.of("", storeFileName));
 
     // when
     ExtractableResponse<Response> response = RestAssured.given().log().ifValidationFails().spec(spec)
@@ -181,7 +182,7 @@ class MemberIntegrationTest extends IntegrationTest {
     // then
     assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_OK);
     // 호출 검증
-    then(fileManager).should().storeFile(any());
+    then(fileManager).should().storeFile(any(InputStream.class), anyLong(), any(), any());
 
     Member member = memberRepository.findById(member01.getId())
         .orElseThrow(() -> new RuntimeException("test fail"));
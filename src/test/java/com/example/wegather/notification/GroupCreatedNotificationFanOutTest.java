@@ -0,0 +1,191 @@
+package com.example.wegather.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.wegather.IntegrationTest;
+import com.example.wegather.global.vo.MemberType;
+import com.example.wegather.group.domain.entity.SmallGroup;
+import com.example.wegather.group.domain.event.SmallGroupPublishedEvent;
+import com.example.wegather.group.domain.repotitory.SmallGroupRepository;
+import com.example.wegather.interest.domain.Interest;
+import com.example.wegather.interest.domain.InterestRepository;
+import com.example.wegather.member.domain.MemberRepository;
+import com.example.wegather.member.domain.entity.Member;
+import com.example.wegather.member.domain.entity.MemberAlarmSetting;
+import com.example.wegather.notification.domain.entity.GroupCreatedFanOutJob;
+import com.example.wegather.notification.domain.entity.GroupCreatedFanOutJobStatus;
+import com.example.wegather.notification.domain.repository.GroupCreatedFanOutJobRepository;
+import com.example.wegather.notification.domain.service.GroupCreatedNotificationFanOut;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("소모임 생성 알림 테스트")
+@TestPropertySource(properties = "app.notification.fan-out.page-size=2")
+class GroupCreatedNotificationFanOutTest extends IntegrationTest {
+  private static final String GROUP_PATH = "ballsamo";
+  private static final String GROUP_NAME = "볼사모";
+
+  @Autowired
+  GroupCreatedNotificationFanOut groupCreatedNotificationFanOut;
+  @Autowired
+  MemberRepository memberRepository;
+  @Autowired
+  InterestRepository interestRepository;
+  @Autowired
+  SmallGroupRepository smallGroupRepository;
+  @Autowired
+  TransactionTemplate transactionTemplate;
+  @Autowired
+  JdbcTemplate jdbcTemplate;
+  @Autowired
+  GroupCreatedFanOutJobRepository groupCreatedFanOutJobRepository;
+
+  Interest soccer;
+  Interest basketball;
+  Interest chess;
+  Long leaderId;
+
+  @BeforeEach
+  void initData() {
+    soccer = interestRepository.save(Interest.of("축구"));
+    basketball = interestRepository.save(Interest.of("농구"));
+    chess = interestRepository.save(Interest.of("체스"));
+    leaderId = saveMember("leader", true, true, true, soccer);
+  }
+
+  @Test
+  @DisplayName("관심사가 같고 알림을 받는 회원에게만, 설정에 따라 웹 알림과 이메일을 한 번씩 보냅니다.")
+  void fanOut() throws InterruptedException {
+    // given
+    Long webOnly = saveMember("web", false, false, true, soccer);
+    Long both = saveMember("both", true, true, true, soccer, basketball);
+    saveMember("unverified", false, true, false, basketball);
+    saveMember("email", true, true, false, basketball);
+    saveMember("off", true, false, false, soccer);
+    saveMember("other", true, true, true, chess);
+    Long smallGroupId = saveSmallGroup(soccer, basketball);
+
+    // when : page-size 2 로 관심사마다 나누어 조회하고, 합쳐서 처리합니다.
+    publish(smallGroupId);
+
+    // then
+    waitUntilStatus(smallGroupId, GroupCreatedFanOutJobStatus.DONE);
+    List<Long> notifiedMemberIds = jdbcTemplate.queryForList(
+        "select member_id from notification where type = 'GROUP_CREATED'", Long.class);
+    assertThat(notifiedMemberIds).containsExactlyInAnyOrder(webOnly, both);
+    List<String> recipients = jdbcTemplate.queryForList(
+        "select recipient from email_outbox where template_name = 'group-created-notification-email-template'",
+        String.class);
+    assertThat(recipients).containsExactlyInAnyOrder("both@wegather.me", "email@wegather.me");
+  }
+
+  @Test
+  @DisplayName("실행 중 중단된 작업은 다시 실행하며, 기록된 마지막 회원 이후의 회원에게만 알림을 보냅니다.")
+  void resumeExpiredJob() throws InterruptedException {
+    // given
+    Long notified = saveMember("notified", false, false, true, soccer);
+    Long web = saveMember("web", false, false, true, basketball);
+    Long both = saveMember("both", false, false, true, soccer, basketball);
+    Long smallGroupId = saveSmallGroup(soccer, basketball);
+
+    // when : notified 회원까지 보낸 뒤 서버가 종료된 작업
+    transactionTemplate.executeWithoutResult(status -> {
+      groupCreatedNotificationFanOut.handleSmallGroupPublished(
+          new SmallGroupPublishedEvent(smallGroupId, GROUP_PATH, GROUP_NAME, leaderId));
+      jdbcTemplate.update("update group_created_fan_out_job "
+              + "set status = 'RUNNING', claimed_at = ?, last_member_id = ? where small_group_id = ?",
+          Timestamp.valueOf(LocalDateTime.now().minusDays(1)), notified, smallGroupId);
+    });
+
+    // then
+    GroupCreatedFanOutJob job = waitUntilStatus(smallGroupId, GroupCreatedFanOutJobStatus.DONE);
+    assertThat(job.getAttemptCount()).isEqualTo(1);
+    assertThat(job.getLastMemberId()).isEqualTo(both);
+    List<Long> notifiedMemberIds = jdbcTemplate.queryForList(
+        "select member_id from notification where type = 'GROUP_CREATED'", Long.class);
+    assertThat(notifiedMemberIds).containsExactlyInAnyOrder(web, both);
+  }
+
+  @Test
+  @DisplayName("관심사가 없는 소모임은 알림을 보내지 않습니다.")
+  void fanOut_no_interest() throws InterruptedException {
+    // given
+    saveMember("web", false, false, true, soccer);
+    Long smallGroupId = saveSmallGroup();
+
+    // when
+    publish(smallGroupId);
+
+    // then
+    waitUntilStatus(smallGroupId, GroupCreatedFanOutJobStatus.DONE);
+    assertThat(jdbcTemplate.queryForObject("select count(*) from notification", Long.class)).isZero();
+  }
+
+  private void publish(Long smallGroupId) {
+    transactionTemplate.executeWithoutResult(status -> groupCreatedNotificationFanOut.handleSmallGroupPublished(
+        new SmallGroupPublishedEvent(smallGroupId, GROUP_PATH, GROUP_NAME, leaderId)));
+  }
+
+  private GroupCreatedFanOutJob waitUntilStatus(Long smallGroupId, GroupCreatedFanOutJobStatus status)
+      throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    GroupCreatedFanOutJob job = findJob(smallGroupId);
+    while (job.getStatus() != status && System.currentTimeMillis() < deadline) {
+      Thread.sleep(100);
+      job = findJob(smallGroupId);
+    }
+    assertThat(job.getStatus()).isEqualTo(status);
+    return job;
+  }
+
+  private GroupCreatedFanOutJob findJob(Long smallGroupId) {
+    return groupCreatedFanOutJobRepository.findAll().stream()
+        .filter(job -> job.getSmallGroupId().equals(smallGroupId))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private Long saveMember(String username, boolean emailVerified, boolean byEmail, boolean byWeb,
+      Interest... interests) {
+    Member member = Member.builder()
+        .username(username)
+        .password("1234")
+        .email(username + "@wegather.me")
+        .memberType(MemberType.ROLE_USER)
+        .build();
+    if (emailVerified) {
+      member.completeSignUp();
+    }
+    member.changeMemberAlarmSetting(MemberAlarmSetting.builder()
+        .groupCreatedByEmail(byEmail)
+        .groupCreatedByWeb(byWeb)
+        .build());
+    for (Interest interest : interests) {
+      member.addInterest(interest);
+    }
+    return memberRepository.save(member).getId();
+  }
+
+  private Long saveSmallGroup(Interest... interests) {
+    return transactionTemplate.execute(status -> {
+      SmallGroup smallGroup = smallGroupRepository.save(SmallGroup.builder()
+          .path(GROUP_PATH)
+          .name(GROUP_NAME)
+          .leader(memberRepository.getReferenceById(leaderId))
+          .maxMemberCount(30L)
+          .build());
+      for (Interest interest : interests) {
+        smallGroup.addInterest(interest);
+      }
+      return smallGroup.getId();
+    });
+  }
+}
@@ -0,0 +1,216 @@
+package com.example.wegather.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.wegather.IntegrationTest;
+import com.example.wegather.auth.AuthControllerTest;
+import com.example.wegather.auth.dto.SignUpRequest;
+import com.example.wegather.group.SmallGroupIntegrationTest;
+import com.example.wegather.group.SmallGroupJoinIntegrationTest;
+import com.example.wegather.group.domain.repotitory.SmallGroupJoinRepository;
+import com.example.wegather.group.dto.CreateSmallGroupRequest;
+import com.example.wegather.group.dto.SmallGroupDto;
+import com.example.wegather.member.dto.MemberDto;
+import com.example.wegather.notification.domain.entity.Notification;
+import com.example.wegather.notification.domain.entity.NotificationType;
+import com.example.wegather.notification.domain.service.NotificationService;
+import io.restassured.RestAssured;
+import io.restassured.path.json.JsonPath;
+import io.restassured.specification.RequestSpecification;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("알림함 통합 테스트")
+class NotificationIntegrationTest extends IntegrationTest {
+  private static final String PASSWORD = "1234";
+  private static final String LEADER_USERNAME = "leader01";
+
+  @Autowired
+  NotificationService notificationService;
+  @Autowired
+  SmallGroupJoinRepository smallGroupJoinRepository;
+  @Autowired
+  JdbcTemplate jdbcTemplate;
+
+  MemberDto member;
+  SmallGroupDto smallGroup;
+  RequestSpecification spec;
+
+  @BeforeEach
+  void initData() {
+    member = AuthControllerTest.signUp(SignUpRequest.builder()
+        .username("member01")
+        .password(PASSWORD)
+        .email("member01@wegather.me")
+        .build()).as(MemberDto.class);
+    spec = AuthControllerTest.signIn(member.getUsername(), PASSWORD);
+    AuthControllerTest.signUp(SignUpRequest.builder()
+        .username(LEADER_USERNAME)
+        .password(PASSWORD)
+        .email("leader01@wegather.me")
+        .build());
+    smallGroup = SmallGroupIntegrationTest.requestCreateGroup(CreateSmallGroupRequest.builder()
+        .path("ballsamo")
+        .name("볼사모")
+        .shortDescription("볼링을 사랑하는 사람들의 모임입니다.")
+        .maxMemberCount(10L)
+        .build(), LEADER_USERNAME).as(SmallGroupDto.class);
+  }
+
+  @Test
+  @DisplayName("알림을 최신순으로, 커서 기반으로 나누어 조회합니다.")
+  void getNotificationsByCursor() {
+    // given
+    saveNotifications(member.getId(), 3);
+    saveNotifications(member.getId() + 1, 1);
+
+    // when
+    JsonPath firstPage = requestNotifications(null, 2);
+    JsonPath secondPage = requestNotifications(firstPage.getLong("nextCursor"), 2);
+
+    // then
+    assertThat(firstPage.getList("content.message", String.class)).containsExactly("알림 2", "알림 1");
+    assertThat(firstPage.getBoolean("hasNext")).isTrue();
+    assertThat(secondPage.getList("content.message", String.class)).containsExactly("알림 0");
+    assertThat(secondPage.getBoolean("hasNext")).isFalse();
+  }
+
+  @Test
+  @DisplayName("알림을 모두 확인하면 미확인 알림 수가 0 이 되고, 새 알림이 추가되면 다시 증가합니다.")
+  void unreadCount() {
+    // given
+    saveNotifications(member.getId(), 2);
+    assertThat(requestUnreadCount()).isEqualTo(2);
+    long lastNotificationId = requestNotifications(null, 10).getLong("content[0].id");
+
+    // when
+    int statusCode = requestMarkAllRead(lastNotificationId);
+
+    // then
+    assertThat(statusCode).isEqualTo(HttpStatus.SC_OK);
+    assertThat(requestUnreadCount()).isZero();
+    assertThat(requestNotifications(null, 10).getList("content.read", Boolean.class)).containsOnly(true);
+
+    saveNotifications(member.getId(), 1);
+    assertThat(requestUnreadCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("알림 목록을 조회한 이후에 추가된 알림은 모두 확인해도 확인하지 않은 알림으로 남습니다.")
+  void markAllRead_only_shown_notifications() {
+    // given
+    saveNotifications(member.getId(), 2);
+    long lastNotificationId = requestNotifications(null, 10).getLong("content[0].id");
+    saveNotifications(member.getId(), 1);
+
+    // when
+    requestMarkAllRead(lastNotificationId);
+
+    // then
+    assertThat(requestUnreadCount()).isEqualTo(1);
+    assertThat(requestNotifications(null, 10).getList("content.read", Boolean.class))
+        .containsExactly(false, true, true);
+  }
+
+  @Test
+  @DisplayName("소모임 가입 요청이 승인되면 비동기로 알림함에 승인 알림을 추가합니다.")
+  void joinApprovedNotification() throws InterruptedException {
+    // given
+    Long requestId = requestJoin();
+
+    // when
+    SmallGroupJoinIntegrationTest.requestApproveSmallGroupJoin(smallGroup.getId(), requestId, LEADER_USERNAME);
+
+    // then
+    waitUntilNotificationSaved(member.getId());
+    JsonPath notifications = requestNotifications(null, 10);
+    assertThat(notifications.getList("content.type", String.class))
+        .containsExactly(NotificationType.JOIN_APPROVED.name());
+    assertThat(notifications.getString("content[0].link")).isEqualTo("/smallgroup/" + smallGroup.getPath());
+  }
+
+  @Test
+  @DisplayName("소모임 가입 요청이 거절되면 비동기로 알림함에 거절 알림을 추가합니다.")
+  void joinRejectedNotification() throws InterruptedException {
+    // given
+    Long requestId = requestJoin();
+
+    // when
+    RestAssured.given().log().ifValidationFails()
+        .spec(AuthControllerTest.signIn(LEADER_USERNAME, PASSWORD))
+        .pathParam("id", smallGroup.getId())
+        .pathParam("requestId", requestId)
+        .when().post("/api/smallGroups/{id}/join/requests/{requestId}/reject")
+        .then().log().ifValidationFails()
+        .statusCode(HttpStatus.SC_OK);
+
+    // then
+    waitUntilNotificationSaved(member.getId());
+    JsonPath notifications = requestNotifications(null, 10);
+    assertThat(notifications.getList("content.type", String.class))
+        .containsExactly(NotificationType.JOIN_REJECTED.name());
+    assertThat(notifications.getString("content[0].link")).isEqualTo("/smallgroup/" + smallGroup.getPath());
+  }
+
+  private Long requestJoin() {
+    SmallGroupJoinIntegrationTest.requestSmallGroupJoinRequest(smallGroup.getId(), member.getUsername());
+    return smallGroupJoinRepository.findBySmallGroup_IdAndMember_Id(smallGroup.getId(), member.getId())
+        .orElseThrow()
+        .getId();
+  }
+
+  private void waitUntilNotificationSaved(Long memberId) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (countNotifications(memberId) == 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(100);
+    }
+    assertThat(countNotifications(memberId)).isEqualTo(1);
+  }
+
+  private long countNotifications(Long memberId) {
+    return jdbcTemplate.queryForObject("select count(*) from notification where member_id = ?", Long.class, memberId);
+  }
+
+  private void saveNotifications(Long memberId, int count) {
+    notificationService.saveAll(IntStream.range(0, count)
+        .mapToObj(i -> Notification.of(memberId, NotificationType.GROUP_CREATED, "알림 " + i, "/smallgroup/test"))
+        .collect(Collectors.toList()));
+  }
+
+  private JsonPath requestNotifications(Long cursor, int size) {
+    RequestSpecification request = RestAssured.given().log().ifValidationFails()
+        .spec(spec)
+        .queryParam("size", size);
+    if (cursor != null) {
+      request.queryParam("cursor", cursor);
+    }
+    return request.when().get("/api/members/profile/notifications")
+        .then().log().ifValidationFails()
+        .statusCode(HttpStatus.SC_OK)
+        .extract().jsonPath();
+  }
+
+  private int requestMarkAllRead(long lastNotificationId) {
+    return RestAssured.given().log().ifValidationFails()
+        .spec(spec)
+        .queryParam("lastNotificationId", lastNotificationId)
+        .when().post("/api/members/profile/notifications/read")
+        .then().log().ifValidationFails()
+        .extract().statusCode();
+  }
+
+  private long requestUnreadCount() {
+    return RestAssured.given().log().ifValidationFails()
+        .spec(spec)
+        .when().get("/api/members/profile/notifications/unread-count")
+        .then().log().ifValidationFails()
+        .statusCode(HttpStatus.SC_OK)
+        .extract().as(Long.class);
+  }
+}
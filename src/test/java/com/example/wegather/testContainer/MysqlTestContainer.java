@@ -13,6 +13,7 @@ public abstract class MysqlTestContainer {
     mysqlContainer = new MySQLContainer<>("mysql:5.7")
         .withDatabaseName("weGather")
         .withCommand("--character-set-server=utf8mb4 --collation-server=utf8mb4_general_ci")
+        .withUrlParam("rewriteBatchedStatements", "true")   // JDBC batch insert 를 한 번에 전송
         .withReuse(true);
 
     mysqlContainer.start();